@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.engine;
+
+import io.debezium.common.annotation.Incubating;
+
+/**
+ * A data change event whose key and value are also available in the serialized form produced by the converters of
+ * the engine. Consumers writing the serialized form can pass these bytes to their clients as they are, rather than
+ * encoding the key and value again.
+ * <p>
+ * The returned arrays are not copied; they are shared with the event and must not be modified.
+ *
+ * @param <K>
+ * @param <V>
+ */
+@Incubating
+public interface SerializedChangeEvent<K, V> extends ChangeEvent<K, V> {
+
+    /**
+     * @return the serialized key, or {@code null} if the key is {@code null}
+     */
+    public byte[] serializedKey();
+
+    /**
+     * @return the serialized value, or {@code null} if the value is {@code null}
+     */
+    public byte[] serializedValue();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * A class responsible for serialization of message values to binary BSON. The resulting bytes can be read by consumers
+ * without any parsing, e.g. by wrapping them into a {@link org.bson.RawBsonDocument}.
+ */
+class BsonSerialization {
+
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    private final Encoder<Document> encoder = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+    public byte[] getDocumentValue(Document document) {
+        if (document == null) {
+            return null;
+        }
+
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            encoder.encode(writer, document, ENCODER_CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import io.debezium.data.Envelope.Operation;
+import io.debezium.util.Strings;
+
+/**
+ * Creates the aggregation pipeline that is passed to MongoDB when a change stream is opened. The database and collection
+ * include/exclude lists as well as the skipped operations are translated into server-side {@code $match} stages, so events
+ * for namespaces that are not captured never leave the database server.
+ * <p>
+ * The client-side filters are still applied to every received event, the pipeline is a pure optimization.
+ */
+class ChangeStreamPipelineFactory {
+
+    /**
+     * Temporary field holding the {@code <db>.<collection>} namespace of the event, required as MongoDB can
+     * only match a regular expression against a single field.
+     */
+    static final String NAMESPACE_FIELD = "_dbz_ns";
+
+    private static final List<String> BUILT_IN_DB_NAMES = Arrays.asList("local", "admin", "config");
+
+    private final MongoDbConnectorConfig connectorConfig;
+    private final Filters filters;
+
+    ChangeStreamPipelineFactory(MongoDbConnectorConfig connectorConfig, Filters filters) {
+        this.connectorConfig = connectorConfig;
+        this.filters = filters;
+    }
+
+    /**
+     * @return the pipeline stages; never null
+     */
+    List<Bson> create() {
+        final List<Bson> pipeline = new ArrayList<>();
+
+        final List<Document> conditions = new ArrayList<>();
+        conditions.add(new Document("operationType", new Document("$in", capturedOperationTypes())));
+        conditions.add(new Document("ns.db", new Document("$nin", BUILT_IN_DB_NAMES)));
+        if (filters.databaseIncludeList() != null) {
+            conditions.add(new Document("ns.db", new Document("$in", regexes(filters.databaseIncludeList()))));
+        }
+        else if (filters.databaseExcludeList() != null) {
+            conditions.add(new Document("ns.db", new Document("$nin", regexes(filters.databaseExcludeList()))));
+        }
+        pipeline.add(new Document("$match", new Document("$and", conditions)));
+
+        final String collectionList;
+        final String operator;
+        if (filters.collectionIncludeList() != null) {
+            collectionList = filters.collectionIncludeList();
+            operator = "$in";
+        }
+        else if (filters.collectionExcludeList() != null) {
+            collectionList = filters.collectionExcludeList();
+            operator = "$nin";
+        }
+        else {
+            return pipeline;
+        }
+
+        pipeline.add(new Document("$addFields", new Document(NAMESPACE_FIELD,
+                new Document("$concat", Arrays.asList("$ns.db", ".", "$ns.coll")))));
+        pipeline.add(new Document("$match", new Document(NAMESPACE_FIELD, new Document(operator, regexes(collectionList)))));
+        pipeline.add(new Document("$project", new Document(NAMESPACE_FIELD, 0)));
+
+        return pipeline;
+    }
+
+    private List<String> capturedOperationTypes() {
+        final Set<Operation> skippedOperations = connectorConfig.getSkippedOps();
+        final List<String> operationTypes = new ArrayList<>();
+
+        if (!skippedOperations.contains(Operation.CREATE)) {
+            operationTypes.add("insert");
+        }
+        if (!skippedOperations.contains(Operation.UPDATE)) {
+            operationTypes.add("update");
+            operationTypes.add("replace");
+        }
+        if (!skippedOperations.contains(Operation.DELETE)) {
+            operationTypes.add("delete");
+        }
+
+        return operationTypes;
+    }
+
+    /**
+     * Converts the comma-separated list of Java regular expressions into anchored, case-insensitive MongoDB regular
+     * expressions, mirroring the full-match semantics of {@link io.debezium.function.Predicates#includes(String)}.
+     */
+    private static List<BsonRegularExpression> regexes(String regexList) {
+        return Strings.setOfRegex(regexList, Pattern.CASE_INSENSITIVE)
+                .stream()
+                .map(pattern -> new BsonRegularExpression("^(?:" + pattern.pattern() + ")$", "i"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Splits a collection into ranges of {@code _id} values that can be snapshotted independently of each other.
+ * <p>
+ * The split points are determined from a random {@code $sample} of the collection's document ids sorted by the server.
+ * Range queries in MongoDB only match values of the same BSON type, so the collection is split only if all sampled
+ * ids share the same type. To not lose documents with ids of any other type, the first range selects all documents
+ * whose id is not greater than or equal to the first split point.
+ */
+class CollectionPartitioner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CollectionPartitioner.class);
+
+    /**
+     * The number of sampled documents per requested partition; oversampling evens out the partition sizes.
+     */
+    static final int SAMPLES_PER_PARTITION = 20;
+
+    private static final String ID_FIELD = "_id";
+
+    private final int partitions;
+
+    CollectionPartitioner(int partitions) {
+        this.partitions = partitions;
+    }
+
+    /**
+     * Determines the range filters of a collection.
+     *
+     * @param collection the collection to split; may not be null
+     * @return the filters selecting each range of the collection; never empty, a single empty filter if the collection
+     *         is not split
+     */
+    List<Document> rangeFilters(MongoCollection<Document> collection) {
+        if (partitions < 2) {
+            return Collections.singletonList(new Document());
+        }
+
+        final long documents = collection.estimatedDocumentCount();
+        if (documents < (long) partitions * SAMPLES_PER_PARTITION) {
+            LOGGER.debug("Collection '{}' with {} document(s) is too small to be split", collection.getNamespace(), documents);
+            return Collections.singletonList(new Document());
+        }
+
+        final List<Object> sample = new ArrayList<>();
+        collection.aggregate(Arrays.asList(
+                new Document("$sample", new Document("size", partitions * SAMPLES_PER_PARTITION)),
+                new Document("$project", new Document(ID_FIELD, 1)),
+                new Document("$sort", new Document(ID_FIELD, 1))))
+                .allowDiskUse(true)
+                .forEach(document -> sample.add(document.get(ID_FIELD)));
+
+        final List<Object> splitPoints = splitPoints(sample, partitions);
+        LOGGER.info("Splitting collection '{}' into {} range(s)", collection.getNamespace(), splitPoints.size() + 1);
+        return rangeFilters(splitPoints);
+    }
+
+    /**
+     * Selects the split points from a sorted sample of document ids.
+     *
+     * @param sortedIds the sampled ids in ascending order; may not be null
+     * @param partitions the requested number of partitions
+     * @return the distinct split points in ascending order; empty if the sample cannot be split
+     */
+    static List<Object> splitPoints(List<Object> sortedIds, int partitions) {
+        if (sortedIds.isEmpty() || partitions < 2) {
+            return Collections.emptyList();
+        }
+
+        final Class<?> idType = sortedIds.get(0) == null ? null : sortedIds.get(0).getClass();
+        for (Object id : sortedIds) {
+            if (id == null || !id.getClass().equals(idType)) {
+                LOGGER.info("Document ids of differing types found, the collection will not be split");
+                return Collections.emptyList();
+            }
+        }
+
+        final List<Object> splitPoints = new ArrayList<>(partitions - 1);
+        final double step = (double) sortedIds.size() / partitions;
+        for (int i = 1; i < partitions; i++) {
+            final Object splitPoint = sortedIds.get((int) (i * step));
+            if (splitPoints.isEmpty() || !Objects.equals(splitPoints.get(splitPoints.size() - 1), splitPoint)) {
+                splitPoints.add(splitPoint);
+            }
+        }
+        return splitPoints;
+    }
+
+    /**
+     * Creates the filters for the ranges delimited by the given split points.
+     *
+     * @param splitPoints the distinct split points in ascending order; may not be null
+     * @return the range filters; never empty
+     */
+    static List<Document> rangeFilters(List<Object> splitPoints) {
+        if (splitPoints.isEmpty()) {
+            return Collections.singletonList(new Document());
+        }
+
+        final List<Document> filters = new ArrayList<>(splitPoints.size() + 1);
+        // Also matches all documents with ids of a type other than the split points' type
+        filters.add(new Document(ID_FIELD, new Document("$not", new Document("$gte", splitPoints.get(0)))));
+        for (int i = 1; i < splitPoints.size(); i++) {
+            filters.add(new Document(ID_FIELD, new Document("$gte", splitPoints.get(i - 1)).append("$lt", splitPoints.get(i))));
+        }
+        filters.add(new Document(ID_FIELD, new Document("$gte", splitPoints.get(splitPoints.size() - 1))));
+        return filters;
+    }
+}
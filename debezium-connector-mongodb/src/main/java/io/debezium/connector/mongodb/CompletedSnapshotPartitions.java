@@ -0,0 +1,89 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The range filters of all collection partitions whose snapshot has been completed for a single replica set. The
+ * partitions are recorded in the offsets of an ongoing snapshot, so that an interrupted snapshot can skip them when
+ * it is resumed. The JSON representation stored in the offsets is of the following form:
+ *
+ * <pre>
+ * {
+ *     "db1.collection1" : [ { "_id" : { "$gte" : 100, "$lt" : 200 } }, ... ],
+ *     "db1.collection2" : [ { } ]
+ * }
+ * </pre>
+ *
+ * where an empty filter denotes a collection that has been snapshotted completely.
+ */
+@ThreadSafe
+final class CompletedSnapshotPartitions {
+
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final Document partitionsByNamespace;
+    private volatile String json;
+
+    CompletedSnapshotPartitions() {
+        this(new Document());
+    }
+
+    private CompletedSnapshotPartitions(Document partitionsByNamespace) {
+        this.partitionsByNamespace = partitionsByNamespace;
+        this.json = partitionsByNamespace.isEmpty() ? null : partitionsByNamespace.toJson(JSON_SETTINGS);
+    }
+
+    /**
+     * Parses the JSON representation of the completed partitions.
+     *
+     * @param json the JSON representation as returned by {@link #asJson()}; may be null
+     * @return the completed partitions; never null
+     */
+    static CompletedSnapshotPartitions parse(String json) {
+        return json == null ? new CompletedSnapshotPartitions() : new CompletedSnapshotPartitions(Document.parse(json));
+    }
+
+    /**
+     * Records that the snapshot of the given partition of a collection is completed.
+     *
+     * @param collectionId the collection; may not be null
+     * @param rangeFilter the filter of the completed partition; may not be null
+     */
+    @SuppressWarnings("unchecked")
+    synchronized void completed(CollectionId collectionId, Document rangeFilter) {
+        ((List<Document>) partitionsByNamespace.computeIfAbsent(collectionId.namespace(), ns -> new ArrayList<Document>())).add(rangeFilter);
+        json = partitionsByNamespace.toJson(JSON_SETTINGS);
+    }
+
+    /**
+     * @param collectionId the collection; may not be null
+     * @return the filters of the completed partitions of the given collection; never null
+     */
+    @SuppressWarnings("unchecked")
+    synchronized List<Document> completedFor(CollectionId collectionId) {
+        final List<Document> completed = (List<Document>) partitionsByNamespace.get(collectionId.namespace());
+        return completed == null ? Collections.emptyList() : new ArrayList<>(completed);
+    }
+
+    /**
+     * @return the JSON representation, or {@code null} if no partition has been completed yet
+     */
+    String asJson() {
+        return json;
+    }
+}
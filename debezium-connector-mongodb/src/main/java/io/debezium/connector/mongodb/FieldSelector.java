@@ -8,6 +8,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
@@ -171,19 +172,17 @@ public FieldFilter fieldFilterFor(CollectionId id) {
                     .filter(path -> path.matches(namespace))
                     .collect(Collectors.toList());
 
-            if (pathsApplyingToCollection.size() == 1) {
+            if (!pathsApplyingToCollection.isEmpty()) {
+                final FieldNode trie = FieldNode.compile(pathsApplyingToCollection);
                 return doc -> {
                     Document setDoc = doc.get("$set", Document.class);
                     Document unsetDoc = doc.get("$unset", Document.class);
-                    pathsApplyingToCollection.get(0).modify(doc, setDoc, unsetDoc);
-                    return doc;
-                };
-            }
-            else if (pathsApplyingToCollection.size() > 1) {
-                return doc -> {
-                    Document setDoc = doc.get("$set", Document.class);
-                    Document unsetDoc = doc.get("$unset", Document.class);
-                    pathsApplyingToCollection.forEach(path -> path.modify(doc, setDoc, unsetDoc));
+                    if (setDoc == null && unsetDoc == null && trie != null) {
+                        trie.modifyChildren(doc);
+                    }
+                    else {
+                        pathsApplyingToCollection.forEach(path -> path.modify(doc, setDoc, unsetDoc));
+                    }
                     return doc;
                 };
             }
@@ -191,6 +190,88 @@ else if (pathsApplyingToCollection.size() > 1) {
         return doc -> doc;
     }
 
+    /**
+     * A trie of the paths applying to a single collection, keyed by field name. It allows to apply all paths to a
+     * document (used for read, insert and full update operations) in a single traversal, visiting each field on the
+     * way to a modified field only once, no matter how many paths share it as prefix.
+     * <p>
+     * The paths below a field are applied before the paths of the field itself; paths applying to the same field are
+     * applied in the configured order.
+     */
+    @ThreadSafe
+    private static final class FieldNode {
+
+        private final Map<String, FieldNode> children = new LinkedHashMap<>();
+        private final List<Path> paths = new ArrayList<>();
+
+        /**
+         * Compiles the given paths into a trie.
+         *
+         * @param paths the paths applying to a collection in the configured order; may not be null
+         * @return the root node of the trie, or {@code null} if applying the paths in a single traversal could yield another
+         *         result than applying them one after another, e.g. for chained renames
+         */
+        static FieldNode compile(List<Path> paths) {
+            final FieldNode root = new FieldNode();
+            for (Path path : paths) {
+                FieldNode node = root;
+                for (String fieldNode : path.fieldNodes) {
+                    node = node.children.computeIfAbsent(fieldNode, name -> new FieldNode());
+                }
+                node.paths.add(path);
+            }
+            return root.isUnambiguous() ? root : null;
+        }
+
+        private boolean isUnambiguous() {
+            for (FieldNode child : children.values()) {
+                for (Path path : child.paths) {
+                    if (path instanceof RenamePath) {
+                        // the renamed field would be modified by the paths below it or by the paths of its new name
+                        if (!child.children.isEmpty() || children.containsKey(((RenamePath) path).newFieldNode)) {
+                            return false;
+                        }
+                    }
+                }
+                if (!child.isUnambiguous()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Applies the paths of the children of this node to the given document.
+         *
+         * <p>
+         * Note that the paths don't support modification of fields inside arrays of arrays.
+         *
+         * @param doc the document to modify fields; never {@code null}
+         */
+        void modifyChildren(Document doc) {
+            for (Map.Entry<String, FieldNode> entry : children.entrySet()) {
+                final String field = entry.getKey();
+                final FieldNode child = entry.getValue();
+                if (!child.children.isEmpty()) {
+                    final Object value = doc.get(field);
+                    if (value instanceof Document) {
+                        child.modifyChildren((Document) value);
+                    }
+                    else if (value instanceof List) {
+                        for (Object item : (List<?>) value) {
+                            if (item instanceof Document) {
+                                child.modifyChildren((Document) item);
+                            }
+                        }
+                    }
+                }
+                for (Path path : child.paths) {
+                    path.modifyField(doc, field);
+                }
+            }
+        }
+    }
+
     private static final class FieldNameAndValue {
 
         private final String key;
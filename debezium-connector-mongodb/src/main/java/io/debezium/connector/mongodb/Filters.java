@@ -25,6 +25,10 @@ public final class Filters {
     private final Predicate<String> databaseFilter;
     private final Predicate<CollectionId> collectionFilter;
     private final FieldSelector fieldSelector;
+    private final String dbIncludeList;
+    private final String dbExcludeList;
+    private final String collectionIncludeList;
+    private final String collectionExcludeList;
 
     /**
      * Create an instance of the filters.
@@ -34,10 +38,12 @@ public final class Filters {
     public Filters(Configuration config) {
         String dbIncludeList = config.getFallbackStringProperty(MongoDbConnectorConfig.DATABASE_INCLUDE_LIST, MongoDbConnectorConfig.DATABASE_WHITELIST);
         String dbExcludeList = config.getFallbackStringProperty(MongoDbConnectorConfig.DATABASE_EXCLUDE_LIST, MongoDbConnectorConfig.DATABASE_BLACKLIST);
-        if (dbIncludeList != null && !dbIncludeList.trim().isEmpty()) {
+        this.dbIncludeList = nonEmpty(dbIncludeList);
+        this.dbExcludeList = this.dbIncludeList == null ? nonEmpty(dbExcludeList) : null;
+        if (this.dbIncludeList != null) {
             databaseFilter = Predicates.includes(dbIncludeList);
         }
-        else if (dbExcludeList != null && !dbExcludeList.trim().isEmpty()) {
+        else if (this.dbExcludeList != null) {
             databaseFilter = Predicates.excludes(dbExcludeList);
         }
         else {
@@ -46,11 +52,13 @@ else if (dbExcludeList != null && !dbExcludeList.trim().isEmpty()) {
 
         String collectionIncludeList = config.getFallbackStringProperty(MongoDbConnectorConfig.COLLECTION_INCLUDE_LIST, MongoDbConnectorConfig.COLLECTION_WHITELIST);
         String collectionExcludeList = config.getFallbackStringProperty(MongoDbConnectorConfig.COLLECTION_EXCLUDE_LIST, MongoDbConnectorConfig.COLLECTION_BLACKLIST);
+        this.collectionIncludeList = nonEmpty(collectionIncludeList);
+        this.collectionExcludeList = this.collectionIncludeList == null ? nonEmpty(collectionExcludeList) : null;
         final Predicate<CollectionId> collectionFilter;
-        if (collectionIncludeList != null && !collectionIncludeList.trim().isEmpty()) {
+        if (this.collectionIncludeList != null) {
             collectionFilter = Predicates.includes(collectionIncludeList, CollectionId::namespace);
         }
-        else if (collectionExcludeList != null && !collectionExcludeList.trim().isEmpty()) {
+        else if (this.collectionExcludeList != null) {
             collectionFilter = Predicates.excludes(collectionExcludeList, CollectionId::namespace);
         }
         else {
@@ -97,4 +105,38 @@ public FieldFilter fieldFilterFor(CollectionId id) {
     protected boolean isNotBuiltIn(CollectionId id) {
         return !BUILT_IN_DB_NAMES.contains(id.dbName());
     }
+
+    /**
+     * @return the comma-separated regular expressions of included databases, or {@code null} if not configured
+     */
+    String databaseIncludeList() {
+        return dbIncludeList;
+    }
+
+    /**
+     * @return the comma-separated regular expressions of excluded databases, or {@code null} if not configured
+     *         or superseded by an include list
+     */
+    String databaseExcludeList() {
+        return dbExcludeList;
+    }
+
+    /**
+     * @return the comma-separated regular expressions of included collection namespaces, or {@code null} if not configured
+     */
+    String collectionIncludeList() {
+        return collectionIncludeList;
+    }
+
+    /**
+     * @return the comma-separated regular expressions of excluded collection namespaces, or {@code null} if not configured
+     *         or superseded by an include list
+     */
+    String collectionExcludeList() {
+        return collectionExcludeList;
+    }
+
+    private static String nonEmpty(String list) {
+        return list != null && !list.trim().isEmpty() ? list : null;
+    }
 }
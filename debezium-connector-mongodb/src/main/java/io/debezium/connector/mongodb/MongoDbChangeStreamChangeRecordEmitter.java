@@ -0,0 +1,146 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+import io.debezium.data.Envelope.FieldName;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.AbstractChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.util.Clock;
+
+/**
+ * Emits change data based on a change stream event.
+ * <p>
+ * The emitted values are compatible with those produced by {@link MongoDbChangeRecordEmitter} from the oplog, i.e. updates
+ * carry a {@code $set}/{@code $unset} patch (or the full document for replacements) and the filter document holds the
+ * document key. If the change stream was opened with full document lookup, update events additionally carry the
+ * current state of the document in the {@code after} field.
+ */
+public class MongoDbChangeStreamChangeRecordEmitter extends AbstractChangeRecordEmitter<MongoDbCollectionSchema> {
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final ChangeStreamDocument<Document> changeStreamEvent;
+
+    public MongoDbChangeStreamChangeRecordEmitter(OffsetContext offsetContext, Clock clock, ChangeStreamDocument<Document> changeStreamEvent) {
+        super(offsetContext, clock);
+        this.changeStreamEvent = changeStreamEvent;
+    }
+
+    @Override
+    protected Operation getOperation() {
+        return operationFor(changeStreamEvent.getOperationType());
+    }
+
+    @Override
+    protected void emitReadRecord(Receiver receiver, MongoDbCollectionSchema schema) throws InterruptedException {
+        final Document filter = toDocument(changeStreamEvent.getDocumentKey());
+        createAndEmitChangeRecord(receiver, schema, changeStreamEvent.getFullDocument(), filter, null);
+    }
+
+    @Override
+    protected void emitCreateRecord(Receiver receiver, MongoDbCollectionSchema schema) throws InterruptedException {
+        final Document filter = toDocument(changeStreamEvent.getDocumentKey());
+        createAndEmitChangeRecord(receiver, schema, changeStreamEvent.getFullDocument(), filter, null);
+    }
+
+    @Override
+    protected void emitUpdateRecord(Receiver receiver, MongoDbCollectionSchema schema) throws InterruptedException {
+        final Document filter = toDocument(changeStreamEvent.getDocumentKey());
+        if (changeStreamEvent.getOperationType() == OperationType.REPLACE) {
+            createAndEmitChangeRecord(receiver, schema, changeStreamEvent.getFullDocument(), filter, null);
+        }
+        else {
+            final Document patch = toPatch(changeStreamEvent.getUpdateDescription());
+            createAndEmitChangeRecord(receiver, schema, patch, filter, changeStreamEvent.getFullDocument());
+        }
+    }
+
+    @Override
+    protected void emitDeleteRecord(Receiver receiver, MongoDbCollectionSchema schema) throws InterruptedException {
+        final Document filter = toDocument(changeStreamEvent.getDocumentKey());
+        createAndEmitChangeRecord(receiver, schema, null, filter, null);
+    }
+
+    private void createAndEmitChangeRecord(Receiver receiver, MongoDbCollectionSchema schema, Document document, Document filter,
+                                           Document fullDocument)
+            throws InterruptedException {
+        final Object newKey = schema.keyFromDocument(filter);
+        assert newKey != null;
+
+        final Struct value = schema.valueFromDocument(document, filter, fullDocument, getOperation());
+        value.put(FieldName.SOURCE, getOffset().getSourceInfo());
+        value.put(FieldName.OPERATION, getOperation().code());
+        value.put(FieldName.TIMESTAMP, getClock().currentTimeAsInstant().toEpochMilli());
+
+        receiver.changeRecord(schema, getOperation(), newKey, value, getOffset(), null);
+    }
+
+    /**
+     * Converts the update description of a change stream event into the oplog {@code $set}/{@code $unset} patch format.
+     */
+    private static Document toPatch(UpdateDescription updateDescription) {
+        final BsonDocument patch = new BsonDocument();
+        if (updateDescription != null) {
+            if (updateDescription.getUpdatedFields() != null && !updateDescription.getUpdatedFields().isEmpty()) {
+                patch.append("$set", updateDescription.getUpdatedFields());
+            }
+            if (updateDescription.getRemovedFields() != null && !updateDescription.getRemovedFields().isEmpty()) {
+                final BsonDocument unset = new BsonDocument();
+                for (String removedField : updateDescription.getRemovedFields()) {
+                    unset.append(removedField, BsonBoolean.TRUE);
+                }
+                patch.append("$unset", unset);
+            }
+        }
+        if (patch.isEmpty()) {
+            // Mirrors the oplog entry of an update that did not change any field
+            patch.append("$set", new BsonDocument());
+        }
+        return toDocument(patch);
+    }
+
+    private static Document toDocument(BsonDocument document) {
+        return document == null ? null : DOCUMENT_CODEC.decode(new BsonDocumentReader(document), DECODER_CONTEXT);
+    }
+
+    /**
+     * Returns the connector operation for the given change stream operation type.
+     *
+     * @param operationType the change stream operation type
+     * @return the operation, or {@code null} for change stream events that do not represent a change of a document
+     */
+    public static Operation operationFor(OperationType operationType) {
+        switch (operationType) {
+            case INSERT:
+                return Operation.CREATE;
+            case UPDATE:
+            case REPLACE:
+                return Operation.UPDATE;
+            case DELETE:
+                return Operation.DELETE;
+            default:
+                return null;
+        }
+    }
+
+    public static boolean isValidOperation(OperationType operationType) {
+        return operationType != null && operationFor(operationType) != null;
+    }
+}
@@ -33,10 +33,10 @@ public class MongoDbCollectionSchema implements DataCollectionSchema {
     private final Envelope enveopeSchema;
     private final Schema valueSchema;
     private final Function<Document, Object> keyGenerator;
-    private final Function<Document, String> valueGenerator;
+    private final Function<Document, ?> valueGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema, Function<Document, Object> keyGenerator,
-                                   Envelope envelopeSchema, Schema valueSchema, Function<Document, String> valueGenerator) {
+                                   Envelope envelopeSchema, Schema valueSchema, Function<Document, ?> valueGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
@@ -70,22 +70,34 @@ public Struct keyFromDocument(Document document) {
     }
 
     public Struct valueFromDocument(Document document, Document filter, Envelope.Operation operation) {
+        return valueFromDocument(document, filter, null, operation);
+    }
+
+    /**
+     * Creates the value of a change event.
+     *
+     * @param document the inserted document or the update patch
+     * @param filter the filter identifying the document for updates and deletes
+     * @param fullDocument the complete document after an update, may be null
+     * @param operation the operation of the change
+     * @return the value struct; never null
+     */
+    public Struct valueFromDocument(Document document, Document filter, Document fullDocument, Envelope.Operation operation) {
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case READ:
             case CREATE:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(FieldName.AFTER, jsonStr);
+                value.put(FieldName.AFTER, valueGenerator.apply(fieldFilter.apply(document)));
                 break;
             case UPDATE:
-                final String patchStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(MongoDbFieldName.PATCH, patchStr);
-                final String updateFilterStr = valueGenerator.apply(fieldFilter.apply(filter));
-                value.put(MongoDbFieldName.FILTER, updateFilterStr);
+                value.put(MongoDbFieldName.PATCH, valueGenerator.apply(fieldFilter.apply(document)));
+                value.put(MongoDbFieldName.FILTER, valueGenerator.apply(fieldFilter.apply(filter)));
+                if (fullDocument != null) {
+                    value.put(FieldName.AFTER, valueGenerator.apply(fieldFilter.apply(fullDocument)));
+                }
                 break;
             case DELETE:
-                final String deleteFilterStr = valueGenerator.apply(fieldFilter.apply(filter));
-                value.put(MongoDbFieldName.FILTER, deleteFilterStr);
+                value.put(MongoDbFieldName.FILTER, valueGenerator.apply(fieldFilter.apply(filter)));
                 break;
         }
         return value;
@@ -104,6 +104,153 @@ public static SnapshotMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined CaptureMode options or aliases.
+     */
+    public static enum CaptureMode implements EnumeratedValue {
+
+        /**
+         * Tail the replica set oplog directly.
+         */
+        OPLOG("oplog", false, false),
+
+        /**
+         * Use MongoDB change streams; update events carry only the changed fields.
+         */
+        CHANGE_STREAMS("change_streams", true, false),
+
+        /**
+         * Use MongoDB change streams; update events additionally carry the full document as looked up by the server.
+         */
+        CHANGE_STREAMS_UPDATE_FULL("change_streams_update_full", true, true);
+
+        private final String value;
+        private final boolean changeStreams;
+        private final boolean fullUpdate;
+
+        private CaptureMode(String value, boolean changeStreams, boolean fullUpdate) {
+            this.value = value;
+            this.changeStreams = changeStreams;
+            this.fullUpdate = fullUpdate;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static CaptureMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (CaptureMode option : CaptureMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static CaptureMode parse(String value, String defaultValue) {
+            CaptureMode mode = parse(value);
+
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+
+            return mode;
+        }
+
+        public boolean isChangeStreams() {
+            return changeStreams;
+        }
+
+        public boolean isFullUpdate() {
+            return fullUpdate;
+        }
+    }
+
+    /**
+     * The set of predefined DocumentFormat options or aliases.
+     */
+    public static enum DocumentFormat implements EnumeratedValue {
+
+        /**
+         * Emit documents as MongoDB extended JSON strings.
+         */
+        JSON("json"),
+
+        /**
+         * Emit documents as binary BSON.
+         */
+        BSON("bson");
+
+        private final String value;
+
+        private DocumentFormat(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static DocumentFormat parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (DocumentFormat option : DocumentFormat.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static DocumentFormat parse(String value, String defaultValue) {
+            DocumentFormat format = parse(value);
+
+            if (format == null && defaultValue != null) {
+                format = parse(defaultValue);
+            }
+
+            return format;
+        }
+    }
+
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 0;
 
     /**
@@ -396,6 +543,38 @@ public static SnapshotMode parse(String value, String defaultValue) {
                     + "'initial' (the default) to specify the connector should always perform an initial sync when required; "
                     + "'never' to specify the connector should never perform an initial sync ");
 
+    public static final Field CAPTURE_MODE = Field.create("capture.mode")
+            .withDisplayName("Capture mode")
+            .withEnum(CaptureMode.class, CaptureMode.OPLOG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.MEDIUM)
+            .withDescription("The method used to capture changes from MongoDB server. "
+                    + "Options include: "
+                    + "'oplog' (the default) to capture changes by tailing the oplog of each replica set; "
+                    + "'change_streams' to capture changes via MongoDB change streams, update events do not contain the full document; "
+                    + "'change_streams_update_full' to capture changes via MongoDB change streams, update events contain the full document");
+
+    public static final Field SNAPSHOT_COLLECTION_PARTITIONS = Field.create("snapshot.collection.partitions")
+            .withDisplayName("Number of partitions per collection for snapshots")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of ranges of document ids each collection is split into during a snapshot. "
+                    + "The ranges are read concurrently by the snapshot threads and the completed ranges are recorded in the offsets, "
+                    + "so that an interrupted snapshot can be resumed. Defaults to 1, i.e. collections are not split.");
+
+    public static final Field DOCUMENT_FORMAT = Field.create("document.format")
+            .withDisplayName("Document format")
+            .withEnum(DocumentFormat.class, DocumentFormat.JSON)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The format of the documents in the 'after', 'patch' and 'filter' fields of change events. "
+                    + "Options include: "
+                    + "'json' (the default) to emit the documents as MongoDB extended JSON strings; "
+                    + "'bson' to emit the documents as binary BSON, which can be read without parsing, e.g. as RawBsonDocument");
+
     public static final Field CONNECT_TIMEOUT_MS = Field.create("mongodb.connect.timeout.ms")
             .withDisplayName("Connect Timeout MS")
             .withType(Type.INT)
@@ -465,10 +644,13 @@ public static SnapshotMode parse(String value, String defaultValue) {
                     FIELD_BLACKLIST,
                     FIELD_EXCLUDE_LIST,
                     FIELD_RENAMES,
-                    SNAPSHOT_FILTER_QUERY_BY_COLLECTION)
+                    SNAPSHOT_FILTER_QUERY_BY_COLLECTION,
+                    DOCUMENT_FORMAT)
             .connector(
                     MAX_COPY_THREADS,
-                    SNAPSHOT_MODE)
+                    SNAPSHOT_MODE,
+                    SNAPSHOT_COLLECTION_PARTITIONS,
+                    CAPTURE_MODE)
             .create();
 
     /**
@@ -483,7 +665,10 @@ public static ConfigDef configDef() {
     protected static Field.Set EXPOSED_FIELDS = ALL_FIELDS;
 
     private final SnapshotMode snapshotMode;
+    private final CaptureMode captureMode;
+    private final DocumentFormat documentFormat;
     private final int snapshotMaxThreads;
+    private final int snapshotCollectionPartitions;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, config.getString(LOGICAL_NAME), DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -491,7 +676,14 @@ public MongoDbConnectorConfig(Configuration config) {
         String snapshotModeValue = config.getString(MongoDbConnectorConfig.SNAPSHOT_MODE);
         this.snapshotMode = SnapshotMode.parse(snapshotModeValue, MongoDbConnectorConfig.SNAPSHOT_MODE.defaultValueAsString());
 
+        String captureModeValue = config.getString(MongoDbConnectorConfig.CAPTURE_MODE);
+        this.captureMode = CaptureMode.parse(captureModeValue, MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
+
+        String documentFormatValue = config.getString(MongoDbConnectorConfig.DOCUMENT_FORMAT);
+        this.documentFormat = DocumentFormat.parse(documentFormatValue, MongoDbConnectorConfig.DOCUMENT_FORMAT.defaultValueAsString());
+
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotCollectionPartitions = config.getInteger(SNAPSHOT_COLLECTION_PARTITIONS);
     }
 
     private static int validateHosts(Configuration config, Field field, ValidationOutput problems) {
@@ -532,11 +724,23 @@ public SnapshotMode getSnapshotMode() {
         return snapshotMode;
     }
 
+    public CaptureMode getCaptureMode() {
+        return captureMode;
+    }
+
+    public DocumentFormat getDocumentFormat() {
+        return documentFormat;
+    }
+
     @Override
     public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public int getSnapshotCollectionPartitions() {
+        return snapshotCollectionPartitions;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         switch (version) {
@@ -25,6 +25,7 @@
 import io.debezium.connector.mongodb.metrics.MongoDbChangeEventSourceMetricsFactory;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSerializer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.util.Clock;
@@ -71,7 +72,7 @@ public ChangeEventSourceCoordinator start(Configuration config) {
         this.taskContext = new MongoDbTaskContext(config);
 
         final Schema structSchema = connectorConfig.getSourceInfoStructMaker().schema();
-        this.schema = new MongoDbSchema(taskContext.filters(), taskContext.topicSelector(), structSchema);
+        this.schema = new MongoDbSchema(taskContext.filters(), taskContext.topicSelector(), structSchema, connectorConfig.getDocumentFormat());
 
         final ReplicaSets replicaSets = getReplicaSets(config);
         final MongoDbOffsetContext previousOffsets = getPreviousOffsets(connectorConfig, replicaSets);
@@ -86,6 +87,10 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .waitStrategy(connectorConfig.getQueueWaitStrategy())
+                    .linger(connectorConfig.getQueueLinger())
+                    .overflowJournal(connectorConfig.getQueueOverflowDirectory(), connectorConfig.getQueueOverflowMaxBytes(),
+                            connectorConfig.getQueueOverflowSegmentBytes(), new DataChangeEventSerializer())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -141,6 +146,9 @@ public void doStop() {
             if (schema != null) {
                 schema.close();
             }
+            if (queue != null) {
+                queue.close();
+            }
         }
         finally {
             previousLogContext.restore();
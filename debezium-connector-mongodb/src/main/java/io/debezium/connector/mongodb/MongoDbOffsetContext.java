@@ -8,11 +8,13 @@
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 
 import io.debezium.connector.SnapshotRecord;
@@ -49,6 +51,22 @@ void stopReplicaSetSnapshot(String replicaSetName) {
         sourceInfo.stopInitialSync(replicaSetName);
     }
 
+    BsonTimestamp interruptedReplicaSetSnapshotTimestamp(String replicaSetName) {
+        return sourceInfo.interruptedInitialSyncTimestamp(replicaSetName);
+    }
+
+    void resumeReplicaSetSnapshot(String replicaSetName, MongoDbOffsetContext interrupted) {
+        sourceInfo.resumeInitialSync(replicaSetName, interrupted.sourceInfo);
+    }
+
+    void snapshotPartitionCompleted(String replicaSetName, CollectionId collectionId, Document rangeFilter) {
+        sourceInfo.snapshotPartitionCompleted(replicaSetName, collectionId, rangeFilter);
+    }
+
+    List<Document> completedSnapshotPartitions(String replicaSetName, CollectionId collectionId) {
+        return sourceInfo.completedSnapshotPartitions(replicaSetName, collectionId);
+    }
+
     @Override
     public Map<String, ?> getPartition() {
         // Any common framework API that needs to call this function should be provided with a ReplicaSetOffsetContext
@@ -7,14 +7,18 @@
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.DocumentFormat;
+import io.debezium.data.Bson;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Json;
@@ -38,11 +42,25 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
     private final SchemaNameAdjuster adjuster = SchemaNameAdjuster.create(LOGGER);
     private final ConcurrentMap<CollectionId, MongoDbCollectionSchema> collections = new ConcurrentHashMap<>();
     private final JsonSerialization serialization = new JsonSerialization();
+    private final Function<Document, ?> valueGenerator;
+    private final Schema documentSchema;
 
     public MongoDbSchema(Filters filters, TopicSelector<CollectionId> topicSelector, Schema sourceSchema) {
+        this(filters, topicSelector, sourceSchema, DocumentFormat.JSON);
+    }
+
+    public MongoDbSchema(Filters filters, TopicSelector<CollectionId> topicSelector, Schema sourceSchema, DocumentFormat documentFormat) {
         this.filters = filters;
         this.topicSelector = topicSelector;
         this.sourceSchema = sourceSchema;
+        if (documentFormat == DocumentFormat.BSON) {
+            this.valueGenerator = new BsonSerialization()::getDocumentValue;
+            this.documentSchema = Bson.builder().optional().build();
+        }
+        else {
+            this.valueGenerator = serialization::getDocumentValue;
+            this.documentSchema = Json.builder().optional().build();
+        }
     }
 
     @Override
@@ -62,9 +80,9 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
 
             final Schema valueSchema = SchemaBuilder.struct()
                     .name(adjuster.adjust(Envelope.schemaName(topicName)))
-                    .field(FieldName.AFTER, Json.builder().optional().build())
-                    .field(MongoDbFieldName.PATCH, Json.builder().optional().build())
-                    .field(MongoDbFieldName.FILTER, Json.builder().optional().build())
+                    .field(FieldName.AFTER, documentSchema)
+                    .field(MongoDbFieldName.PATCH, documentSchema)
+                    .field(MongoDbFieldName.FILTER, documentSchema)
                     .field(FieldName.SOURCE, sourceSchema)
                     .field(FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                     .field(FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -80,7 +98,7 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     serialization::getDocumentId,
                     envelope,
                     valueSchema,
-                    serialization::getDocumentValue);
+                    valueGenerator);
         });
     }
 
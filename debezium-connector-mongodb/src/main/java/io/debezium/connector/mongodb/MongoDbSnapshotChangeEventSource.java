@@ -7,7 +7,6 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +16,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.errors.ConnectException;
@@ -293,6 +293,7 @@ else if (lastRecordedTs.compareTo(firstAvailableTs) < 0) {
 
     protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets) {
         final Map<ReplicaSet, Document> positions = new LinkedHashMap<>();
+        final List<ReplicaSet> resumedReplicaSets = new ArrayList<>();
         replicaSets.onEachReplicaSet(replicaSet -> {
             LOGGER.info("Determine Snapshot Offset for replica-set {}", replicaSet.replicaSetName());
             MongoPrimary primaryClient = establishConnectionToPrimary(replicaSet);
@@ -302,6 +303,9 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
                         MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
                         Document last = oplog.find().sort(new Document("$natural", -1)).limit(1).first(); // may be null
                         positions.put(replicaSet, last);
+                        if (isSnapshotResumable(replicaSet, oplog)) {
+                            resumedReplicaSets.add(replicaSet);
+                        }
                     });
                 }
                 finally {
@@ -311,7 +315,35 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
             }
         });
 
-        ctx.offset = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(), positions);
+        final MongoDbOffsetContext offset = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(), positions);
+        resumedReplicaSets.forEach(replicaSet -> offset.resumeReplicaSetSnapshot(replicaSet.replicaSetName(), previousOffset));
+        ctx.offset = offset;
+    }
+
+    /**
+     * Whether the interrupted snapshot of the given replica set recorded in the previous offsets can be resumed. This is
+     * the case if some collection partitions were completed and the oplog still contains the position at which the
+     * interrupted snapshot was started, as all changes since then must be streamed once the snapshot is completed.
+     */
+    private boolean isSnapshotResumable(ReplicaSet replicaSet, MongoCollection<Document> oplog) {
+        if (previousOffset == null) {
+            return false;
+        }
+        final BsonTimestamp interruptedTs = previousOffset.interruptedReplicaSetSnapshotTimestamp(replicaSet.replicaSetName());
+        if (interruptedTs == null) {
+            return false;
+        }
+
+        final Document firstEvent = oplog.find().sort(new Document("$natural", 1)).limit(1).first();
+        final BsonTimestamp firstAvailableTs = SourceInfo.extractEventTimestamp(firstEvent);
+        if (firstAvailableTs == null || interruptedTs.compareTo(firstAvailableTs) < 0) {
+            LOGGER.info("The interrupted snapshot of replica set '{}' started at {} cannot be resumed since the oplog starts at {}",
+                    replicaSet.replicaSetName(), interruptedTs, firstAvailableTs);
+            return false;
+        }
+
+        LOGGER.info("Resuming the interrupted snapshot of replica set '{}' started at {}", replicaSet.replicaSetName(), interruptedTs);
+        return true;
     }
 
     private void createDataEvents(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext, ReplicaSet replicaSet,
@@ -339,18 +371,20 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
         final MongoDbOffsetContext offsetContext = (MongoDbOffsetContext) snapshotContext.offset;
         final ReplicaSetOffsetContext rsOffsetContext = offsetContext.getReplicaSetOffsetContext(replicaSet);
 
-        snapshotContext.lastCollection = false;
         offsetContext.startReplicaSetSnapshot(replicaSet.replicaSetName());
 
         LOGGER.info("Beginning snapshot of '{}' at {}", rsName, rsOffsetContext.getOffset());
 
         final List<CollectionId> collections = determineDataCollectionsToBeSnapshotted(primaryClient.collections()).collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(collections);
+        final List<CollectionPartition> partitions = determineCollectionPartitions(offsetContext, replicaSet, collections, primaryClient);
+        // the partitions whose last record has not been dispatched yet
+        final AtomicInteger pendingPartitions = new AtomicInteger(partitions.size());
         if (connectorConfig.getSnapshotMaxThreads() > 1) {
             // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
             // The current thread will wait until the snapshot threads either have completed or an error occurred.
-            final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-            final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
+            final int numThreads = Math.min(partitions.size(), connectorConfig.getSnapshotMaxThreads());
+            final Queue<CollectionPartition> partitionsToCopy = new ConcurrentLinkedQueue<>(partitions);
 
             final String snapshotThreadName = "snapshot-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
             final ExecutorService snapshotThreads = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.serverName(),
@@ -359,29 +393,26 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             final AtomicBoolean aborted = new AtomicBoolean(false);
             final AtomicInteger threadCounter = new AtomicInteger(0);
 
-            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s): {}", numThreads, collections.size(),
-                    Strings.join(", ", collections));
+            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s) in {} partition(s): {}", numThreads, collections.size(),
+                    partitions.size(), Strings.join(", ", collections));
 
             for (int i = 0; i < numThreads; ++i) {
                 snapshotThreads.submit(() -> {
                     taskContext.configureLoggingContext(replicaSet.replicaSetName() + "-snapshot" + threadCounter.incrementAndGet());
                     try {
-                        CollectionId id = null;
-                        while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+                        CollectionPartition partition = null;
+                        while (!aborted.get() && (partition = partitionsToCopy.poll()) != null) {
                             if (!sourceContext.isRunning()) {
                                 throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
                             }
 
-                            if (collectionsToCopy.isEmpty()) {
-                                snapshotContext.lastCollection = true;
-                            }
-
                             createDataEventsForCollection(
                                     sourceContext,
                                     snapshotContext,
                                     snapshotReceiver,
                                     replicaSet,
-                                    id,
+                                    partition,
+                                    pendingPartitions,
                                     primaryClient);
                         }
                     }
@@ -410,23 +441,18 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             // Only 1 thread should be used for snapshotting collections.
             // In this use case since the replica-set snapshot is already in a separate thread, there is not
             // a real reason to spawn additional threads but instead just run within the current thread.
-            for (Iterator<CollectionId> it = collections.iterator(); it.hasNext();) {
-                final CollectionId collectionId = it.next();
-
+            for (CollectionPartition partition : partitions) {
                 if (!sourceContext.isRunning()) {
                     throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
                 }
 
-                if (!it.hasNext()) {
-                    snapshotContext.lastCollection = true;
-                }
-
                 createDataEventsForCollection(
                         sourceContext,
                         snapshotContext,
                         snapshotReceiver,
                         replicaSet,
-                        collectionId,
+                        partition,
+                        pendingPartitions,
                         primaryClient);
             }
         }
@@ -434,12 +460,49 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
         offsetContext.stopReplicaSetSnapshot(replicaSet.replicaSetName());
     }
 
+    /**
+     * Splits the collections to be snapshotted into partitions, omitting those collections that have been completely
+     * snapshotted by an interrupted snapshot that is being resumed.
+     */
+    private List<CollectionPartition> determineCollectionPartitions(MongoDbOffsetContext offsetContext, ReplicaSet replicaSet,
+                                                                    List<CollectionId> collections, MongoPrimary primaryClient) {
+        final CollectionPartitioner partitioner = new CollectionPartitioner(connectorConfig.getSnapshotCollectionPartitions());
+        final List<CollectionPartition> partitions = new ArrayList<>();
+
+        for (CollectionId collectionId : collections) {
+            final List<Document> completedRanges = offsetContext.completedSnapshotPartitions(replicaSet.replicaSetName(), collectionId);
+            if (completedRanges.contains(new Document())) {
+                LOGGER.info("\t Skipping collection '{}' that has already been snapshotted", collectionId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(collectionId, 0);
+                continue;
+            }
+
+            final List<Document> rangeFilters = primaryClient.execute("split '" + collectionId + "'", primary -> {
+                return partitioner.rangeFilters(primary.getDatabase(collectionId.dbName()).getCollection(collectionId.name()));
+            });
+            final CollectionProgress progress = new CollectionProgress(rangeFilters.size());
+            for (Document rangeFilter : rangeFilters) {
+                partitions.add(new CollectionPartition(collectionId, rangeFilter, completedRanges, progress));
+            }
+        }
+
+        return partitions;
+    }
+
     private void createDataEventsForCollection(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver,
-                                               ReplicaSet replicaSet, CollectionId collectionId, MongoPrimary primaryClient)
+                                               ReplicaSet replicaSet, CollectionPartition partition, AtomicInteger pendingPartitions,
+                                               MongoPrimary primaryClient)
             throws InterruptedException {
 
+        final CollectionId collectionId = partition.collectionId;
         long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        partition.progress.start.compareAndSet(-1, exportStart);
+        if (partition.isWholeCollection()) {
+            LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        }
+        else {
+            LOGGER.info("\t Exporting data for collection '{}' in range {}", collectionId, partition.rangeFilter.toJson());
+        }
 
         primaryClient.executeBlocking("sync '" + collectionId + "'", primary -> {
             final MongoDatabase database = primary.getDatabase(collectionId.dbName());
@@ -448,10 +511,9 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
             final int batchSize = taskContext.getConnectorConfig().getSnapshotFetchSize();
 
             long docs = 0;
-            Bson filterQuery = Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
+            Bson filterQuery = partition.filterQuery(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
 
             try (MongoCursor<Document> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
-                snapshotContext.lastRecordInCollection = false;
                 if (cursor.hasNext()) {
                     while (cursor.hasNext()) {
                         if (!sourceContext.isRunning()) {
@@ -461,23 +523,47 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
                         Document document = cursor.next();
                         docs++;
 
-                        snapshotContext.lastRecordInCollection = !cursor.hasNext();
-
-                        if (snapshotContext.lastCollection && snapshotContext.lastRecordInCollection) {
+                        if (cursor.hasNext()) {
+                            dispatcher.dispatchSnapshotEvent(collectionId, getChangeRecordEmitter(snapshotContext, collectionId, document, replicaSet),
+                                    snapshotReceiver);
+                        }
+                        else {
+                            // the last records of the partitions are dispatched one at a time, so that the one completing
+                            // the final partition is the last record of the replica set's snapshot
+                            synchronized (pendingPartitions) {
+                                if (pendingPartitions.decrementAndGet() == 0) {
+                                    snapshotContext.offset.markLastSnapshotRecord();
+                                }
+                                dispatcher.dispatchSnapshotEvent(collectionId, getChangeRecordEmitter(snapshotContext, collectionId, document, replicaSet),
+                                        snapshotReceiver);
+                            }
+                        }
+                    }
+                }
+                else {
+                    synchronized (pendingPartitions) {
+                        if (pendingPartitions.decrementAndGet() == 0) {
+                            // if the last partition does not contain any records we still need to mark the last processed event as last one
                             snapshotContext.offset.markLastSnapshotRecord();
                         }
-
-                        dispatcher.dispatchSnapshotEvent(collectionId, getChangeRecordEmitter(snapshotContext, collectionId, document, replicaSet), snapshotReceiver);
                     }
                 }
-                else if (snapshotContext.lastCollection) {
-                    // if the last collection does not contain any records we still need to mark the last processed event as last one
-                    snapshotContext.offset.markLastSnapshotRecord();
+
+                if (connectorConfig.getSnapshotCollectionPartitions() > 1) {
+                    ((MongoDbOffsetContext) snapshotContext.offset).snapshotPartitionCompleted(replicaSet.replicaSetName(), collectionId,
+                            partition.rangeFilter);
                 }
 
-                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", docs, collectionId,
-                        Strings.duration(clock.currentTimeInMillis() - exportStart));
-                snapshotProgressListener.dataCollectionSnapshotCompleted(collectionId, docs);
+                final long collectionDocs = partition.progress.documents.addAndGet(docs);
+                if (partition.progress.remainingPartitions.decrementAndGet() == 0) {
+                    LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", collectionDocs, collectionId,
+                            Strings.duration(clock.currentTimeInMillis() - partition.progress.start.get()));
+                    snapshotProgressListener.dataCollectionSnapshotCompleted(collectionId, collectionDocs);
+                }
+                else {
+                    LOGGER.info("\t Finished snapshotting {} records for a range of collection '{}'; duration '{}'", docs, collectionId,
+                            Strings.duration(clock.currentTimeInMillis() - exportStart));
+                }
             }
         });
     }
@@ -523,11 +609,66 @@ public String toString() {
         }
     }
 
+    /**
+     * A range of documents of a collection that is snapshotted with its own cursor.
+     */
+    private static class CollectionPartition {
+        private final CollectionId collectionId;
+        private final Document rangeFilter;
+        private final List<Document> completedRanges;
+        private final CollectionProgress progress;
+
+        CollectionPartition(CollectionId collectionId, Document rangeFilter, List<Document> completedRanges, CollectionProgress progress) {
+            this.collectionId = collectionId;
+            this.rangeFilter = rangeFilter;
+            this.completedRanges = completedRanges;
+            this.progress = progress;
+        }
+
+        boolean isWholeCollection() {
+            return rangeFilter.isEmpty() && completedRanges.isEmpty();
+        }
+
+        /**
+         * Combines the given snapshot filter of the collection with the range of this partition, excluding all ranges that
+         * have been completed by an interrupted snapshot.
+         */
+        Bson filterQuery(String collectionFilter) {
+            final List<Document> conditions = new ArrayList<>();
+            final Document filter = Document.parse(collectionFilter);
+            if (!filter.isEmpty()) {
+                conditions.add(filter);
+            }
+            if (!rangeFilter.isEmpty()) {
+                conditions.add(rangeFilter);
+            }
+            if (!completedRanges.isEmpty()) {
+                conditions.add(new Document("$nor", completedRanges));
+            }
+
+            if (conditions.isEmpty()) {
+                return new Document();
+            }
+            return conditions.size() == 1 ? conditions.get(0) : new Document("$and", conditions);
+        }
+    }
+
+    /**
+     * The progress of the snapshot of a collection across all of its partitions.
+     */
+    private static class CollectionProgress {
+        private final AtomicLong start = new AtomicLong(-1);
+        private final AtomicInteger remainingPartitions;
+        private final AtomicLong documents = new AtomicLong();
+
+        CollectionProgress(int partitions) {
+            this.remainingPartitions = new AtomicInteger(partitions);
+        }
+    }
+
     /**
      * Mutable context that is populated in the course of snapshotting.
      */
     private static class MongoDbSnapshotContext extends SnapshotContext {
-        public boolean lastCollection;
-        public boolean lastRecordInCollection;
     }
 }
@@ -16,8 +16,10 @@
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import org.apache.kafka.connect.errors.ConnectException;
+import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -26,13 +28,17 @@
 
 import com.mongodb.CursorType;
 import com.mongodb.ServerAddress;
+import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
 
 import io.debezium.connector.mongodb.ConnectionContext.MongoPrimary;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.CaptureMode;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
@@ -64,6 +70,7 @@ public class MongoDbStreamingChangeEventSource implements StreamingChangeEventSo
     private final ConnectionContext connectionContext;
     private final ReplicaSets replicaSets;
     private final MongoDbTaskContext taskContext;
+    private final CaptureMode captureMode;
 
     public MongoDbStreamingChangeEventSource(MongoDbConnectorConfig connectorConfig, MongoDbTaskContext taskContext,
                                              ReplicaSets replicaSets, MongoDbOffsetContext offsetContext,
@@ -74,6 +81,7 @@ public MongoDbStreamingChangeEventSource(MongoDbConnectorConfig connectorConfig,
         this.clock = clock;
         this.replicaSets = replicaSets;
         this.taskContext = taskContext;
+        this.captureMode = connectorConfig.getCaptureMode();
         this.offsetContext = (offsetContext != null) ? offsetContext : initializeOffsets(connectorConfig, replicaSets);
     }
 
@@ -102,9 +110,16 @@ private void streamChangesForReplicaSet(ChangeEventSourceContext context, Replic
             primaryClient = establishConnectionToPrimary(replicaSet);
             if (primaryClient != null) {
                 final AtomicReference<MongoPrimary> primaryReference = new AtomicReference<>(primaryClient);
-                primaryClient.execute("read from oplog on '" + replicaSet + "'", primary -> {
-                    readOplog(primary, primaryReference.get(), replicaSet, context);
-                });
+                if (captureMode.isChangeStreams()) {
+                    primaryClient.execute("read from change stream on '" + replicaSet + "'", primary -> {
+                        readChangeStream(primary, primaryReference.get(), replicaSet, context);
+                    });
+                }
+                else {
+                    primaryClient.execute("read from oplog on '" + replicaSet + "'", primary -> {
+                        readOplog(primary, primaryReference.get(), replicaSet, context);
+                    });
+                }
             }
         }
         catch (Throwable t) {
@@ -200,41 +215,161 @@ private void readOplog(MongoClient primary, MongoPrimary primaryClient, ReplicaS
                 .cursorType(CursorType.TailableAwait);
 
         try (MongoCursor<Document> cursor = results.iterator()) {
-            // In Replicator, this used cursor.hasNext() but this is a blocking call and I observed that this can
-            // delay the shutdown of the connector by up to 15 seconds or longer. By introducing a Metronome, we
-            // can respond to the stop request much faster and without much overhead.
-            Metronome pause = Metronome.sleeper(Duration.ofMillis(500), clock);
-            while (context.isRunning()) {
-                // Use tryNext which will return null if no document is yet available from the cursor.
-                // In this situation if not document is available, we'll pause.
-                final Document event = cursor.tryNext();
-                if (event != null) {
-                    if (!handleOplogEvent(primaryAddress, event, event, 0, oplogContext, context)) {
-                        // Something happened and we are supposed to stop reading
-                        return;
-                    }
+            readEvents(cursor, oplogContext, context, event -> handleOplogEvent(primaryAddress, event, event, 0, oplogContext, context));
+        }
+    }
 
-                    try {
-                        dispatcher.dispatchHeartbeatEvent(oplogContext.getOffset());
-                    }
-                    catch (InterruptedException e) {
-                        LOGGER.info("Replicator thread is interrupted");
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
+    private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, ReplicaSet replicaSet, ChangeEventSourceContext context) {
+        final ReplicaSetOffsetContext rsOffsetContext = offsetContext.getReplicaSetOffsetContext(replicaSet);
+
+        final BsonTimestamp oplogStart = rsOffsetContext.lastOffsetTimestamp();
+        final OptionalLong txOrder = rsOffsetContext.lastOffsetTxOrder();
+        final String resumeToken = rsOffsetContext.lastResumeToken();
+
+        final ServerAddress primaryAddress = MongoUtil.getPrimaryAddress(primary);
+        LOGGER.info("Reading change stream for '{}' primary {}", replicaSet, primaryAddress);
+
+        final ReplicaSetOplogContext oplogContext = new ReplicaSetOplogContext(rsOffsetContext, primaryClient, replicaSet);
+
+        final List<Bson> pipeline = new ChangeStreamPipelineFactory(taskContext.getConnectorConfig(), taskContext.filters()).create();
+        final ChangeStreamIterable<Document> rsChangeStream = primary.watch(pipeline);
+        if (captureMode.isFullUpdate()) {
+            rsChangeStream.fullDocument(FullDocument.UPDATE_LOOKUP);
+        }
+        if (resumeToken != null) {
+            LOGGER.info("Resuming streaming after resume token '{}'", resumeToken);
+            rsChangeStream.resumeAfter(BsonDocument.parse(resumeToken));
+        }
+        else if (oplogStart.getTime() > 0) {
+            // The previous position was recorded by the snapshot or by an oplog-based capture;
+            // the change stream starts at that timestamp (inclusive), already processed events are skipped below
+            LOGGER.info("Resume token not available, starting streaming at operation time '{}'", oplogStart);
+            rsChangeStream.startAtOperationTime(oplogStart);
+            if (!txOrder.isPresent()) {
+                oplogContext.setIncompleteEventTimestamp(oplogStart);
+            }
+        }
+
+        try (MongoCursor<ChangeStreamDocument<Document>> cursor = rsChangeStream.iterator()) {
+            readEvents(cursor, oplogContext, context, event -> handleChangeStreamEvent(event, oplogContext));
+        }
+    }
+
+    /**
+     * Reads the events of a tailable oplog cursor or of a change stream until the connector is stopped or the handler
+     * signals that reading should stop, dispatching a heartbeat after each event.
+     *
+     * @param cursor the cursor to read the events from
+     * @param oplogContext the context of the replica set
+     * @param context the context of the change event source
+     * @param eventHandler handles an event and returns {@code false} if reading should stop
+     */
+    private <T> void readEvents(MongoCursor<T> cursor, ReplicaSetOplogContext oplogContext, ChangeEventSourceContext context,
+                                Predicate<T> eventHandler) {
+        // In Replicator, this used cursor.hasNext() but this is a blocking call and I observed that this can
+        // delay the shutdown of the connector by up to 15 seconds or longer. By introducing a Metronome, we
+        // can respond to the stop request much faster and without much overhead.
+        Metronome pause = Metronome.sleeper(Duration.ofMillis(500), clock);
+        while (context.isRunning()) {
+            // Use tryNext which will return null if no document is yet available from the cursor.
+            // In this situation if not document is available, we'll pause.
+            final T event = cursor.tryNext();
+            if (event != null) {
+                if (!eventHandler.test(event)) {
+                    // Something happened and we are supposed to stop reading
+                    return;
                 }
-                else {
-                    try {
-                        pause.pause();
-                    }
-                    catch (InterruptedException e) {
-                        break;
-                    }
+
+                try {
+                    dispatcher.dispatchHeartbeatEvent(oplogContext.getOffset());
+                }
+                catch (InterruptedException e) {
+                    LOGGER.info("Replicator thread is interrupted");
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            else {
+                try {
+                    pause.pause();
+                }
+                catch (InterruptedException e) {
+                    break;
                 }
             }
         }
     }
 
+    private boolean handleChangeStreamEvent(ChangeStreamDocument<Document> event, ReplicaSetOplogContext oplogContext) {
+        if (isAlreadyProcessed(event, oplogContext)) {
+            LOGGER.debug("Skipping change stream event as it is expected to be already processed: {}", event);
+            return true;
+        }
+
+        if (!MongoDbChangeStreamChangeRecordEmitter.isValidOperation(event.getOperationType()) || event.getNamespace() == null) {
+            LOGGER.debug("Skipping change stream event with operation type '{}'", event.getOperationType());
+            return true;
+        }
+
+        final String dbName = event.getNamespace().getDatabaseName();
+        if (!taskContext.filters().databaseFilter().test(dbName)) {
+            LOGGER.debug("Skipping the event for database {} based on database.whitelist", dbName);
+            return true;
+        }
+
+        final String transactionId = MongoUtil.getChangeStreamSessionTransactionId(event);
+        oplogContext.getOffset().changeStreamEvent(event);
+        try {
+            // Change streams do not carry transaction boundaries; a transaction ends with the first event not belonging to it
+            if (!Objects.equals(transactionId, oplogContext.getTransactionId())) {
+                if (oplogContext.getTransactionId() != null) {
+                    dispatcher.dispatchTransactionCommittedEvent(oplogContext.getOffset());
+                }
+                if (transactionId != null) {
+                    dispatcher.dispatchTransactionStartedEvent(transactionId, oplogContext.getOffset());
+                }
+                oplogContext.setTransactionId(transactionId);
+            }
+        }
+        catch (InterruptedException e) {
+            LOGGER.error("Streaming transaction changes for replica set '{}' was interrupted", oplogContext.getReplicaSetName());
+            throw new ConnectException("Streaming of transaction changes was interrupted for replica set " + oplogContext.getReplicaSetName(), e);
+        }
+
+        final CollectionId collectionId = new CollectionId(oplogContext.getReplicaSetName(), dbName, event.getNamespace().getCollectionName());
+        if (taskContext.filters().collectionFilter().test(collectionId)) {
+            try {
+                return dispatcher.dispatchDataChangeEvent(
+                        collectionId,
+                        new MongoDbChangeStreamChangeRecordEmitter(
+                                oplogContext.getOffset(),
+                                clock,
+                                event));
+            }
+            catch (Exception e) {
+                errorHandler.setProducerThrowable(e);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines whether the given event has already been processed when a change stream was started at the operation
+     * time of the last recorded non-transactional position instead of after a resume token. Such a position is the only
+     * event with its cluster time. Events of a partially processed transaction cannot be told apart reliably, as
+     * the pipeline may have filtered some of them, so they are delivered again.
+     */
+    private boolean isAlreadyProcessed(ChangeStreamDocument<Document> event, ReplicaSetOplogContext oplogContext) {
+        final BsonTimestamp incompleteEventTimestamp = oplogContext.getIncompleteEventTimestamp();
+        if (incompleteEventTimestamp == null) {
+            return false;
+        }
+        oplogContext.setIncompleteEventTimestamp(null);
+        return incompleteEventTimestamp.equals(event.getClusterTime());
+    }
+
     private Bson getSkippedOperationsFilter() {
         Set<Operation> skippedOperations = taskContext.getConnectorConfig().getSkippedOps();
 
@@ -439,6 +574,7 @@ private class ReplicaSetOplogContext {
 
         private BsonTimestamp incompleteEventTimestamp;
         private long incompleteTxOrder = 0;
+        private String transactionId;
 
         ReplicaSetOplogContext(ReplicaSetOffsetContext offsetContext, MongoPrimary primary, ReplicaSet replicaSet) {
             this.offset = offsetContext;
@@ -473,5 +609,13 @@ public long getIncompleteTxOrder() {
         public void setIncompleteTxOrder(long incompleteTxOrder) {
             this.incompleteTxOrder = incompleteTxOrder;
         }
+
+        String getTransactionId() {
+            return transactionId;
+        }
+
+        void setTransactionId(String transactionId) {
+            this.transactionId = transactionId;
+        }
     }
 }
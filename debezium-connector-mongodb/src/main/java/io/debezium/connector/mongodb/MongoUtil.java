@@ -14,6 +14,7 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.Binary;
 
@@ -23,6 +24,7 @@
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.MongoIterable;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.ServerDescription;
 
@@ -242,6 +244,21 @@ public static String getOplogSessionTransactionId(Document oplogEvent) {
         return lsid + ":" + txnNumber;
     }
 
+    /**
+     * Get the unique transaction identifier of a change stream event, see {@link #getOplogSessionTransactionId(Document)}.
+     *
+     * @param event the change stream event
+     * @return the session transaction id or {@code null} for non-transactional events
+     */
+    public static String getChangeStreamSessionTransactionId(ChangeStreamDocument<Document> event) {
+        if (event.getTxnNumber() == null || event.getLsid() == null) {
+            return null;
+        }
+        final BsonValue id = event.getLsid().get("id");
+        final String lsid = (id != null && id.isBinary()) ? UUID.nameUUIDFromBytes(id.asBinary().getData()).toString() : String.valueOf(id);
+        return lsid + ":" + event.getTxnNumber().longValue();
+    }
+
     /**
      * Parse the comma-separated list of server addresses. The format of the supplied string is one of the following:
      *
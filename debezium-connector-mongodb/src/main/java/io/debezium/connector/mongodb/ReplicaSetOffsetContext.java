@@ -14,6 +14,8 @@
 import org.bson.BsonTimestamp;
 import org.bson.Document;
 
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
@@ -120,6 +122,10 @@ public void oplogEvent(Document oplogEvent, Document masterEvent, Long txOrder)
         sourceInfo.opLogEvent(replicaSetName, oplogEvent, masterEvent, txOrder);
     }
 
+    public void changeStreamEvent(ChangeStreamDocument<Document> changeStreamEvent) {
+        sourceInfo.changeStreamEvent(replicaSetName, changeStreamEvent);
+    }
+
     public BsonTimestamp lastOffsetTimestamp() {
         return sourceInfo.lastOffsetTimestamp(replicaSetName);
     }
@@ -127,4 +133,8 @@ public BsonTimestamp lastOffsetTimestamp() {
     public OptionalLong lastOffsetTxOrder() {
         return sourceInfo.lastOffsetTxOrder(replicaSetName);
     }
+
+    public String lastResumeToken() {
+        return sourceInfo.lastResumeToken(replicaSetName);
+    }
 }
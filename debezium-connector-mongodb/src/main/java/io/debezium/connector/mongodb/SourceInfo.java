@@ -7,6 +7,7 @@
 
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Set;
@@ -19,6 +20,8 @@
 import org.bson.Document;
 import org.bson.types.BSONTimestamp;
 
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
 import io.debezium.annotation.Immutable;
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.connector.SnapshotRecord;
@@ -49,6 +52,9 @@
  * event for that particular time (e.g., multiple events that occur at the same time will have unique orders), the offset
  * includes the BSONTimetamp representation. (The event's {@code h} field is the unique ID for the operation, so this is also
  * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field.
+ * When changes are captured via change streams, the offset also includes the {@code resume_token} of the last event.
+ * If the collections are snapshotted in partitions, the offset of an ongoing initial sync includes the completed partitions
+ * in the {@code initsync_completed} field, so an interrupted initial sync can be resumed.
  * <p>
  * Here's a JSON-like representation of an example timestamp:
  *
@@ -78,13 +84,17 @@ public final class SourceInfo extends BaseSourceInfo {
     public static final String SESSION_TXN_ID = "stxnid";
     public static final String INITIAL_SYNC = "initsync";
     public static final String COLLECTION = "collection";
+    public static final String RESUME_TOKEN = "resume_token";
+    public static final String INITIAL_SYNC_COMPLETED = "initsync_completed";
 
     private static final BsonTimestamp INITIAL_TIMESTAMP = new BsonTimestamp();
-    private static final Position INITIAL_POSITION = new Position(INITIAL_TIMESTAMP, null, 0, null);
+    private static final Position INITIAL_POSITION = new Position(INITIAL_TIMESTAMP, null, 0, null, null);
 
     private final ConcurrentMap<String, Map<String, String>> sourcePartitionsByReplicaSetName = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Position> positionsByReplicaSetName = new ConcurrentHashMap<>();
     private final Set<String> initialSyncReplicaSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ConcurrentMap<String, CompletedSnapshotPartitions> completedSnapshotPartitionsByReplicaSetName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Position> interruptedInitialSyncPositionsByReplicaSetName = new ConcurrentHashMap<>();
 
     private String replicaSetName;
 
@@ -101,16 +111,18 @@ protected static final class Position {
         private final BsonTimestamp ts;
         private final long txOrder;
         private final String sessionTxnId;
+        private final String resumeToken;
 
-        public Position(int ts, int order, Long opId, long txOrder, String sessionTxnId) {
-            this(new BsonTimestamp(ts, order), opId, txOrder, sessionTxnId);
+        public Position(int ts, int order, Long opId, long txOrder, String sessionTxnId, String resumeToken) {
+            this(new BsonTimestamp(ts, order), opId, txOrder, sessionTxnId, resumeToken);
         }
 
-        public Position(BsonTimestamp ts, Long opId, long txOrder, String sessionTxnId) {
+        public Position(BsonTimestamp ts, Long opId, long txOrder, String sessionTxnId, String resumeToken) {
             this.ts = ts;
             this.opId = opId;
             this.txOrder = txOrder;
             this.sessionTxnId = sessionTxnId;
+            this.resumeToken = resumeToken;
             assert this.ts != null;
         }
 
@@ -137,6 +149,10 @@ public String getSessionTxnId() {
         public OptionalLong getTxOrder() {
             return txOrder == 0 ? OptionalLong.empty() : OptionalLong.of(txOrder);
         }
+
+        public String getResumeToken() {
+            return resumeToken;
+        }
     }
 
     /**
@@ -200,6 +216,17 @@ public OptionalLong lastOffsetTxOrder(String replicaSetName) {
         return existing != null ? existing.getTxOrder() : OptionalLong.empty();
     }
 
+    /**
+     * Get the change stream resume token of the last offset position for the replica set.
+     *
+     * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
+     * @return the JSON representation of the resume token, or {@code null} if the last event was not read from a change stream
+     */
+    public String lastResumeToken(String replicaSetName) {
+        Position existing = positionsByReplicaSetName.get(replicaSetName);
+        return existing != null ? existing.getResumeToken() : null;
+    }
+
     /**
      * Get the Kafka Connect detail about the source "offset" for the named database, which describes the given position in the
      * database where we have last read. If the database has not yet been seen, this records the starting position
@@ -214,11 +241,17 @@ public OptionalLong lastOffsetTxOrder(String replicaSetName) {
             existing = INITIAL_POSITION;
         }
         if (isInitialSyncOngoing(replicaSetName)) {
-            return Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+            Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                     ORDER, Integer.valueOf(existing.getInc()),
                     OPERATION_ID, existing.getOperationId(),
                     SESSION_TXN_ID, existing.getSessionTxnId(),
                     INITIAL_SYNC, true);
+
+            final CompletedSnapshotPartitions completedPartitions = completedSnapshotPartitionsByReplicaSetName.get(replicaSetName);
+            if (completedPartitions != null && completedPartitions.asJson() != null) {
+                offset.put(INITIAL_SYNC_COMPLETED, completedPartitions.asJson());
+            }
+            return offset;
         }
         Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                 ORDER, Integer.valueOf(existing.getInc()),
@@ -226,6 +259,9 @@ public OptionalLong lastOffsetTxOrder(String replicaSetName) {
                 SESSION_TXN_ID, existing.getSessionTxnId());
 
         existing.getTxOrder().ifPresent(txOrder -> offset.put(TX_ORD, txOrder));
+        if (existing.getResumeToken() != null) {
+            offset.put(RESUME_TOKEN, existing.getResumeToken());
+        }
 
         return offset;
     }
@@ -261,7 +297,7 @@ public void opLogEvent(String replicaSetName, Document oplogEvent, Document mast
             BsonTimestamp ts = extractEventTimestamp(masterEvent);
             Long opId = masterEvent.getLong("h");
             String sessionTxnId = extractSessionTxnId(masterEvent);
-            position = new Position(ts, opId, orderInTx, sessionTxnId);
+            position = new Position(ts, opId, orderInTx, sessionTxnId, null);
             namespace = oplogEvent.getString("ns");
         }
         positionsByReplicaSetName.put(replicaSetName, position);
@@ -269,6 +305,25 @@ public void opLogEvent(String replicaSetName, Document oplogEvent, Document mast
         onEvent(replicaSetName, CollectionId.parse(replicaSetName, namespace), position);
     }
 
+    /**
+     * Record the position of an event read from a change stream, including its resume token.
+     *
+     * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
+     * @param changeStreamEvent the change stream event that was last read; may not be null
+     * @see #schema()
+     */
+    public void changeStreamEvent(String replicaSetName, ChangeStreamDocument<Document> changeStreamEvent) {
+        final BsonTimestamp ts = changeStreamEvent.getClusterTime();
+        final String sessionTxnId = MongoUtil.getChangeStreamSessionTransactionId(changeStreamEvent);
+        final String resumeToken = changeStreamEvent.getResumeToken().toJson();
+        final Position position = new Position(ts, null, 0, sessionTxnId, resumeToken);
+        final String namespace = changeStreamEvent.getNamespace() != null ? changeStreamEvent.getNamespace().getFullName() : "";
+
+        positionsByReplicaSetName.put(replicaSetName, position);
+
+        onEvent(replicaSetName, CollectionId.parse(replicaSetName, namespace), position);
+    }
+
     /**
      * Get a {@link Struct} representation of the source {@link #partition(String) partition} and {@link #lastOffset(String)
      * offset} information. The Struct complies with the {@link #schema} for the MongoDB connector.
@@ -348,15 +403,22 @@ public boolean setOffsetFor(String replicaSetName, Map<String, ?> sourceOffset)
         }
         // We have previously recorded at least one offset for this database ...
         boolean initSync = booleanOffsetValue(sourceOffset, INITIAL_SYNC);
-        if (initSync) {
-            return false;
-        }
         int time = intOffsetValue(sourceOffset, TIMESTAMP);
         int order = intOffsetValue(sourceOffset, ORDER);
         long operationId = longOffsetValue(sourceOffset, OPERATION_ID);
         long txOrder = longOffsetValue(sourceOffset, TX_ORD);
         String sessionTxnId = stringOffsetValue(sourceOffset, SESSION_TXN_ID);
-        positionsByReplicaSetName.put(replicaSetName, new Position(time, order, operationId, txOrder, sessionTxnId));
+        String resumeToken = stringOffsetValue(sourceOffset, RESUME_TOKEN);
+        if (initSync) {
+            // The snapshot was interrupted; remember which partitions were completed so it can be resumed
+            String completedPartitions = stringOffsetValue(sourceOffset, INITIAL_SYNC_COMPLETED);
+            if (completedPartitions != null) {
+                interruptedInitialSyncPositionsByReplicaSetName.put(replicaSetName, new Position(time, order, operationId, txOrder, sessionTxnId, resumeToken));
+                completedSnapshotPartitionsByReplicaSetName.put(replicaSetName, CompletedSnapshotPartitions.parse(completedPartitions));
+            }
+            return false;
+        }
+        positionsByReplicaSetName.put(replicaSetName, new Position(time, order, operationId, txOrder, sessionTxnId, resumeToken));
         return true;
     }
 
@@ -390,6 +452,63 @@ public void startInitialSync(String replicaSetName) {
      */
     public void stopInitialSync(String replicaSetName) {
         initialSyncReplicaSets.remove(replicaSetName);
+        completedSnapshotPartitionsByReplicaSetName.remove(replicaSetName);
+        interruptedInitialSyncPositionsByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Get the timestamp at which an interrupted initial sync for the given replica set was started, provided that at least
+     * one partition of a collection had been completed before the interruption.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the timestamp of the interrupted initial sync, or {@code null} if there is no initial sync that can be resumed
+     */
+    public BsonTimestamp interruptedInitialSyncTimestamp(String replicaSetName) {
+        Position position = interruptedInitialSyncPositionsByReplicaSetName.get(replicaSetName);
+        return position == null ? null : position.getTimestamp();
+    }
+
+    /**
+     * Resume the interrupted initial sync for the given replica set as recorded by another instance, i.e. adopt its
+     * position as well as its completed partitions.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param interrupted the source info holding the interrupted initial sync as loaded from the offsets; never null
+     */
+    public void resumeInitialSync(String replicaSetName, SourceInfo interrupted) {
+        Position position = interrupted.interruptedInitialSyncPositionsByReplicaSetName.get(replicaSetName);
+        CompletedSnapshotPartitions completedPartitions = interrupted.completedSnapshotPartitionsByReplicaSetName.get(replicaSetName);
+        if (position == null || completedPartitions == null) {
+            throw new IllegalStateException("No interrupted initial sync recorded for replica set '" + replicaSetName + "'");
+        }
+        positionsByReplicaSetName.put(replicaSetName, position);
+        completedSnapshotPartitionsByReplicaSetName.put(replicaSetName,
+                CompletedSnapshotPartitions.parse(completedPartitions.asJson()));
+    }
+
+    /**
+     * Record that a partition of a collection has been completely read during the initial sync of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param collectionId the collection; never null
+     * @param rangeFilter the filter selecting the documents of the partition; never null
+     */
+    public void snapshotPartitionCompleted(String replicaSetName, CollectionId collectionId, Document rangeFilter) {
+        completedSnapshotPartitionsByReplicaSetName.computeIfAbsent(replicaSetName, rs -> new CompletedSnapshotPartitions())
+                .completed(collectionId, rangeFilter);
+    }
+
+    /**
+     * Get the filters of the partitions of a collection that have been completely read during the initial sync of the given
+     * replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param collectionId the collection; never null
+     * @return the filters of the completed partitions; never null
+     */
+    public List<Document> completedSnapshotPartitions(String replicaSetName, CollectionId collectionId) {
+        CompletedSnapshotPartitions completedPartitions = completedSnapshotPartitionsByReplicaSetName.get(replicaSetName);
+        return completedPartitions == null ? Collections.emptyList() : completedPartitions.completedFor(collectionId);
     }
 
     /**
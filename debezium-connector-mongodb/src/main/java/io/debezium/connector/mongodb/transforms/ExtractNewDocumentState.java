@@ -12,6 +12,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -35,6 +36,11 @@
 import org.bson.BsonDocument;
 import org.bson.BsonNull;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.json.JsonReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +56,8 @@
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition;
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition.DeleteHandling;
 import io.debezium.transforms.SmtManager;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 import io.debezium.util.Strings;
 
 /**
@@ -173,6 +181,21 @@ public static ArrayEncoding parse(String value, String defaultValue) {
                     + "Adds the operation type of the change event as a header."
                     + "Its key is '" + ExtractNewRecordStateConfigDefinition.DEBEZIUM_OPERATION_HEADER_KEY + "'");
 
+    public static final Field SCHEMA_CACHE_SIZE = Field.create("schema.cache.size")
+            .withDisplayName("Schema cache size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of key and value schemas to cache. The schemas are cached per collection and document "
+                    + "shape (field names and types), so the schema of a document is not inferred again as long as the documents of a "
+                    + "collection keep their shape. Defaults to 0, which disables the cache.");
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final BsonValueCodec VALUE_CODEC = new BsonValueCodec();
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
     private final ExtractField<R> afterExtractor = new ExtractField.Value<>();
     private final ExtractField<R> patchExtractor = new ExtractField.Value<>();
     private final ExtractField<R> keyExtractor = new ExtractField.Key<>();
@@ -191,6 +214,7 @@ public static ArrayEncoding parse(String value, String defaultValue) {
     private DeleteHandling handleDeletes;
 
     private SmtManager<R> smtManager;
+    private BoundedConcurrentHashMap<String, Schema> schemaCache;
 
     @Override
     public R apply(R record) {
@@ -200,7 +224,7 @@ public R apply(R record) {
 
         final R keyRecord = keyExtractor.apply(record);
 
-        BsonDocument keyDocument = BsonDocument.parse("{ \"id\" : " + keyRecord.key().toString() + "}");
+        BsonDocument keyDocument = new BsonDocument("id", parseValue(keyRecord.key().toString()));
         BsonDocument valueDocument = new BsonDocument();
 
         // Tombstone message
@@ -264,14 +288,18 @@ else if (addOperationHeader) {
         return newRecord(record, keyDocument, valueDocument);
     }
 
+    /**
+     * Parses a single JSON value, e.g. the string representation of a document id.
+     */
+    private static BsonValue parseValue(String json) {
+        final JsonReader reader = new JsonReader(json);
+        reader.readBsonType();
+        return VALUE_CODEC.decode(reader, DECODER_CONTEXT);
+    }
+
     private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocument) {
-        SchemaBuilder keySchemaBuilder = SchemaBuilder.struct();
         Set<Entry<String, BsonValue>> keyPairs = keyDocument.entrySet();
-        for (Entry<String, BsonValue> keyPairsForSchema : keyPairs) {
-            converter.addFieldSchema(keyPairsForSchema, keySchemaBuilder);
-        }
-
-        Schema finalKeySchema = keySchemaBuilder.build();
+        Schema finalKeySchema = cachedSchema("", keyDocument, () -> buildKeySchema(keyDocument));
         Struct finalKeyStruct = new Struct(finalKeySchema);
 
         for (Entry<String, BsonValue> keyPairsForStruct : keyPairs) {
@@ -286,36 +314,14 @@ private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocume
             if (Envelope.isEnvelopeSchema(newValueSchemaName)) {
                 newValueSchemaName = newValueSchemaName.substring(0, newValueSchemaName.length() - 9);
             }
-            SchemaBuilder valueSchemaBuilder = SchemaBuilder.struct().name(newValueSchemaName);
+            final String valueSchemaName = newValueSchemaName;
 
             Set<Entry<String, BsonValue>> valuePairs = valueDocument.entrySet();
-            for (Entry<String, BsonValue> valuePairsForSchema : valuePairs) {
-                if (valuePairsForSchema.getKey().equalsIgnoreCase("$set")) {
-                    BsonDocument val1 = BsonDocument.parse(valuePairsForSchema.getValue().toString());
-                    Set<Entry<String, BsonValue>> keyValuesForSetSchema = val1.entrySet();
-                    for (Entry<String, BsonValue> keyValuesForSetSchemaEntry : keyValuesForSetSchema) {
-                        converter.addFieldSchema(keyValuesForSetSchemaEntry, valueSchemaBuilder);
-                    }
-                }
-                else {
-                    converter.addFieldSchema(valuePairsForSchema, valueSchemaBuilder);
-                }
-            }
-
-            if (addSourceFields != null) {
-                addSourceFieldsSchema(addFieldsPrefix, addSourceFields, record, valueSchemaBuilder);
-            }
-
-            if (!additionalFields.isEmpty()) {
-                addAdditionalFieldsSchema(additionalFields, record, valueSchemaBuilder);
-            }
-
-            finalValueSchema = valueSchemaBuilder.build();
+            finalValueSchema = cachedSchema(valueSchemaName, valueDocument, () -> buildValueSchema(record, valueSchemaName, valueDocument));
             finalValueStruct = new Struct(finalValueSchema);
             for (Entry<String, BsonValue> valuePairsForStruct : valuePairs) {
                 if (valuePairsForStruct.getKey().equalsIgnoreCase("$set")) {
-                    BsonDocument val1 = BsonDocument.parse(valuePairsForStruct.getValue().toString());
-                    Set<Entry<String, BsonValue>> keyValueForSetStruct = val1.entrySet();
+                    Set<Entry<String, BsonValue>> keyValueForSetStruct = valuePairsForStruct.getValue().asDocument().entrySet();
                     for (Entry<String, BsonValue> keyValueForSetStructEntry : keyValueForSetStruct) {
                         converter.convertRecord(keyValueForSetStructEntry, finalValueSchema, finalValueStruct);
                     }
@@ -344,6 +350,58 @@ private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocume
         return newRecord;
     }
 
+    /**
+     * Returns the schema for the given document from the cache if enabled, inferring it only if no document of the same
+     * collection and shape has been seen before.
+     */
+    private Schema cachedSchema(String schemaName, BsonDocument document, Supplier<Schema> schemaBuilder) {
+        if (schemaCache == null) {
+            return schemaBuilder.get();
+        }
+
+        final String cacheKey = schemaName + '/' + converter.shapeOf(document);
+        Schema schema = schemaCache.get(cacheKey);
+        if (schema == null) {
+            schema = schemaBuilder.get();
+            schemaCache.put(cacheKey, schema);
+        }
+        return schema;
+    }
+
+    private Schema buildKeySchema(BsonDocument keyDocument) {
+        SchemaBuilder keySchemaBuilder = SchemaBuilder.struct();
+        for (Entry<String, BsonValue> keyPairsForSchema : keyDocument.entrySet()) {
+            converter.addFieldSchema(keyPairsForSchema, keySchemaBuilder);
+        }
+        return keySchemaBuilder.build();
+    }
+
+    private Schema buildValueSchema(R record, String valueSchemaName, BsonDocument valueDocument) {
+        SchemaBuilder valueSchemaBuilder = SchemaBuilder.struct().name(valueSchemaName);
+
+        for (Entry<String, BsonValue> valuePairsForSchema : valueDocument.entrySet()) {
+            if (valuePairsForSchema.getKey().equalsIgnoreCase("$set")) {
+                Set<Entry<String, BsonValue>> keyValuesForSetSchema = valuePairsForSchema.getValue().asDocument().entrySet();
+                for (Entry<String, BsonValue> keyValuesForSetSchemaEntry : keyValuesForSetSchema) {
+                    converter.addFieldSchema(keyValuesForSetSchemaEntry, valueSchemaBuilder);
+                }
+            }
+            else {
+                converter.addFieldSchema(valuePairsForSchema, valueSchemaBuilder);
+            }
+        }
+
+        if (addSourceFields != null) {
+            addSourceFieldsSchema(addFieldsPrefix, addSourceFields, record, valueSchemaBuilder);
+        }
+
+        if (!additionalFields.isEmpty()) {
+            addAdditionalFieldsSchema(additionalFields, record, valueSchemaBuilder);
+        }
+
+        return valueSchemaBuilder.build();
+    }
+
     private void addSourceFieldsSchema(String fieldPrefix, List<String> addSourceFields, R originalRecord, SchemaBuilder valueSchemaBuilder) {
         Schema sourceSchema = originalRecord.valueSchema().field("source").schema();
         for (String sourceField : addSourceFields) {
@@ -381,7 +439,7 @@ private void addFields(List<FieldReference> additionalFields, R originalRecord,
 
     private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument) {
         BsonDocument valueDocument = new BsonDocument();
-        BsonDocument document = BsonDocument.parse(patchRecord.value().toString());
+        BsonDocument document = toBsonDocument(patchRecord.value());
 
         if (document.containsKey("$set")) {
             valueDocument = document.getDocument("$set");
@@ -425,13 +483,23 @@ private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument)
     }
 
     private BsonDocument getInsertDocument(R record, BsonDocument key) {
-        BsonDocument valueDocument = BsonDocument.parse(record.value().toString());
+        BsonDocument valueDocument = toBsonDocument(record.value());
         valueDocument.remove("_id");
         valueDocument.append("id", key.get("id"));
 
         return valueDocument;
     }
 
+    /**
+     * Decodes a document emitted either as extended JSON or as binary BSON, depending on the connector's document format.
+     */
+    private static BsonDocument toBsonDocument(Object document) {
+        if (document instanceof byte[]) {
+            return new RawBsonDocument((byte[]) document).decode(DOCUMENT_CODEC);
+        }
+        return BsonDocument.parse(document.toString());
+    }
+
     private Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
         Headers headers = new ConnectHeaders();
 
@@ -457,7 +525,8 @@ public ConfigDef config() {
                 ARRAY_ENCODING,
                 FLATTEN_STRUCT,
                 DELIMITER,
-                SANITIZE_FIELD_NAMES);
+                SANITIZE_FIELD_NAMES,
+                SCHEMA_CACHE_SIZE);
         return config;
     }
 
@@ -477,7 +546,8 @@ public void configure(final Map<String, ?> map) {
                 ExtractNewRecordStateConfigDefinition.DROP_TOMBSTONES,
                 ExtractNewRecordStateConfigDefinition.ADD_HEADERS,
                 ExtractNewRecordStateConfigDefinition.ADD_FIELDS,
-                SANITIZE_FIELD_NAMES);
+                SANITIZE_FIELD_NAMES,
+                SCHEMA_CACHE_SIZE);
 
         if (!config.validateAndRecord(configFields, LOGGER::error)) {
             throw new ConnectException("Unable to validate config.");
@@ -502,6 +572,9 @@ public void configure(final Map<String, ?> map) {
         dropTombstones = config.getBoolean(ExtractNewRecordStateConfigDefinition.DROP_TOMBSTONES);
         handleDeletes = DeleteHandling.parse(config.getString(ExtractNewRecordStateConfigDefinition.HANDLE_DELETES));
 
+        final int schemaCacheSize = config.getInteger(SCHEMA_CACHE_SIZE);
+        schemaCache = schemaCacheSize > 0 ? new BoundedConcurrentHashMap<>(schemaCacheSize, 16, Eviction.LRU) : null;
+
         final Map<String, String> afterExtractorConfig = new HashMap<>();
         afterExtractorConfig.put("field", FieldName.AFTER);
         final Map<String, String> patchExtractorConfig = new HashMap<>();
@@ -282,6 +282,69 @@ else if (arrValue.getBsonType() == BsonType.ARRAY && valueType == BsonType.ARRAY
         }
     }
 
+    /**
+     * Returns a fingerprint of the shape of the given document, i.e. of all the properties the schema derived by
+     * {@link #addFieldSchema(Entry, SchemaBuilder)} depends on: the field names and the BSON types of all (nested) values.
+     * Documents with the same fingerprint have the same schema, so it can be used as key for caching schemas.
+     *
+     * @param document the document; may not be null
+     * @return the fingerprint of the document's shape; never null
+     */
+    public String shapeOf(BsonDocument document) {
+        final StringBuilder shape = new StringBuilder();
+        appendShape(document, shape);
+        return shape.toString();
+    }
+
+    private void appendShape(BsonValue value, StringBuilder shape) {
+        final BsonType type = value.getBsonType();
+        shape.append((char) ('A' + type.ordinal()));
+
+        switch (type) {
+            case DOCUMENT:
+                appendShape(value.asDocument(), shape);
+                break;
+            case JAVASCRIPT_WITH_SCOPE:
+                appendShape(value.asJavaScriptWithScope().getScope(), shape);
+                break;
+            case ARRAY:
+                shape.append('[');
+                if (arrayEncoding == ArrayEncoding.DOCUMENT) {
+                    // each element is mapped to its own field
+                    for (BsonValue element : value.asArray()) {
+                        appendShape(element, shape);
+                    }
+                }
+                else {
+                    // the schema only depends on the distinct element shapes, so consecutive repetitions are omitted
+                    String previous = null;
+                    for (BsonValue element : value.asArray()) {
+                        final StringBuilder elementShape = new StringBuilder();
+                        appendShape(element, elementShape);
+                        final String current = elementShape.toString();
+                        if (!current.equals(previous)) {
+                            shape.append(current);
+                            previous = current;
+                        }
+                    }
+                }
+                shape.append(']');
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void appendShape(BsonDocument document, StringBuilder shape) {
+        shape.append('{');
+        for (Entry<String, BsonValue> field : document.entrySet()) {
+            // the length prefix keeps the fingerprint unambiguous regardless of the characters within field names
+            shape.append(field.getKey().length()).append(':').append(field.getKey());
+            appendShape(field.getValue(), shape);
+        }
+        shape.append('}');
+    }
+
     protected String arrayElementStructName(int i) {
         return "_" + i;
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonRegularExpression;
+import org.bson.conversions.Bson;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+
+import io.debezium.config.Configuration;
+
+public class ChangeStreamPipelineFactoryTest {
+
+    @Test
+    public void shouldMatchOperationTypesAndExcludeBuiltInDatabases() {
+        final List<BsonDocument> pipeline = pipeline(Configuration.create());
+
+        assertThat(pipeline).hasSize(1);
+        final String match = pipeline.get(0).toJson();
+        assertThat(match).contains("\"$in\": [\"insert\", \"update\", \"replace\", \"delete\"]");
+        assertThat(match).contains("\"$nin\": [\"local\", \"admin\", \"config\"]");
+    }
+
+    @Test
+    public void shouldNotMatchSkippedOperations() {
+        final List<BsonDocument> pipeline = pipeline(Configuration.create()
+                .with(MongoDbConnectorConfig.SKIPPED_OPERATIONS, "u,d"));
+
+        assertThat(pipeline.get(0).toJson()).contains("\"$in\": [\"insert\"]");
+    }
+
+    @Test
+    public void shouldMatchDatabaseIncludeListOnServer() {
+        final List<BsonDocument> pipeline = pipeline(Configuration.create()
+                .with(MongoDbConnectorConfig.DATABASE_INCLUDE_LIST, "db1,inventory.*"));
+
+        assertThat(pipeline).hasSize(1);
+        final List<?> conditions = pipeline.get(0).getDocument("$match").getArray("$and");
+        assertThat(conditions).hasSize(3);
+        final BsonDocument dbCondition = (BsonDocument) conditions.get(2);
+        assertThat(dbCondition.getDocument("ns.db").getArray("$in")).containsOnly(
+                new BsonRegularExpression("^(?:db1)$", "i"),
+                new BsonRegularExpression("^(?:inventory.*)$", "i"));
+    }
+
+    @Test
+    public void shouldMatchCollectionExcludeListOnServer() {
+        final List<BsonDocument> pipeline = pipeline(Configuration.create()
+                .with(MongoDbConnectorConfig.COLLECTION_EXCLUDE_LIST, "db1\\.audit.*"));
+
+        assertThat(pipeline).hasSize(4);
+        assertThat(pipeline.get(1).getDocument("$addFields").containsKey(ChangeStreamPipelineFactory.NAMESPACE_FIELD)).isTrue();
+        assertThat(pipeline.get(2).getDocument("$match").getDocument(ChangeStreamPipelineFactory.NAMESPACE_FIELD).getArray("$nin"))
+                .containsOnly(new BsonRegularExpression("^(?:db1\\.audit.*)$", "i"));
+        assertThat(pipeline.get(3).getDocument("$project").getInt32(ChangeStreamPipelineFactory.NAMESPACE_FIELD).getValue()).isEqualTo(0);
+    }
+
+    private List<BsonDocument> pipeline(Configuration.Builder config) {
+        final Configuration configuration = config.with(MongoDbConnectorConfig.LOGICAL_NAME, "serverX").build();
+        final List<Bson> stages = new ChangeStreamPipelineFactory(new MongoDbConnectorConfig(configuration), new Filters(configuration)).create();
+
+        final List<BsonDocument> documents = new ArrayList<>();
+        for (Bson stage : stages) {
+            documents.add(stage.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.mongodb.client.MongoCollection;
+
+public class CollectionPartitionerTest {
+
+    @Test
+    public void shouldSelectEvenlySpacedSplitPoints() {
+        final List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(i);
+        }
+
+        assertThat(CollectionPartitioner.splitPoints(ids, 4)).isEqualTo(Arrays.asList(25, 50, 75));
+    }
+
+    @Test
+    public void shouldNotRepeatSplitPoints() {
+        final List<Object> ids = Arrays.asList(1, 1, 1, 1, 1, 1, 2, 3);
+
+        assertThat(CollectionPartitioner.splitPoints(ids, 4)).isEqualTo(Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void shouldNotSplitIdsOfDifferentTypes() {
+        final List<Object> ids = Arrays.asList(1, 2, "3", new ObjectId());
+
+        assertThat(CollectionPartitioner.splitPoints(ids, 2)).isEmpty();
+    }
+
+    @Test
+    public void shouldCreateRangeFiltersCoveringAllIds() {
+        final List<Document> filters = CollectionPartitioner.rangeFilters(Arrays.asList(10, 20));
+
+        assertThat(filters).hasSize(3);
+        assertThat(filters.get(0).toJson()).isEqualTo("{\"_id\": {\"$not\": {\"$gte\": 10}}}");
+        assertThat(filters.get(1).toJson()).isEqualTo("{\"_id\": {\"$gte\": 10, \"$lt\": 20}}");
+        assertThat(filters.get(2).toJson()).isEqualTo("{\"_id\": {\"$gte\": 20}}");
+    }
+
+    @Test
+    public void shouldNotSplitWithoutSplitPoints() {
+        assertThat(CollectionPartitioner.rangeFilters(new ArrayList<>())).containsOnly(new Document());
+        assertThat(new CollectionPartitioner(1).rangeFilters((MongoCollection<Document>) null)).containsOnly(new Document());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.bson.Document;
+import org.junit.Test;
+
+public class FieldSelectorTest {
+
+    private static final CollectionId COLLECTION = new CollectionId("rs0", "db", "c1");
+
+    @Test
+    public void shouldExcludeAndRenameNestedFieldsSharingPrefix() {
+        final FieldSelector selector = FieldSelector.builder()
+                .excludeFields("db.c1.address.zip,db.c1.address.geo.lat,db.*.secret,db.c2.name")
+                .renameFields("db.c1.address.street:line1,db.c1.name:fullName")
+                .build();
+
+        final Document doc = Document.parse("{\"_id\": 1, \"name\": \"n\", \"secret\": \"s\", "
+                + "\"address\": {\"street\": \"st\", \"zip\": \"z\", \"geo\": {\"lat\": 1, \"lon\": 2}}}");
+
+        assertThat(selector.fieldFilterFor(COLLECTION).apply(doc)).isEqualTo(Document.parse("{\"_id\": 1, \"fullName\": \"n\", "
+                + "\"address\": {\"geo\": {\"lon\": 2}, \"line1\": \"st\"}}"));
+    }
+
+    @Test
+    public void shouldExcludeFieldsOfDocumentsInArrays() {
+        final FieldSelector selector = FieldSelector.builder()
+                .excludeFields("db.c1.items.price")
+                .build();
+
+        final Document doc = Document.parse("{\"_id\": 1, \"items\": [{\"name\": \"a\", \"price\": 1}, 2, {\"price\": 3}]}");
+
+        assertThat(selector.fieldFilterFor(COLLECTION).apply(doc)).isEqualTo(Document.parse("{\"_id\": 1, \"items\": [{\"name\": \"a\"}, 2, {}]}"));
+    }
+
+    @Test
+    public void shouldApplyChainedRenamesInConfiguredOrder() {
+        final FieldSelector selector = FieldSelector.builder()
+                .renameFields("db.c1.a.x:y,db.c1.b:c,db.c1.a:b")
+                .build();
+
+        final Document doc = Document.parse("{\"_id\": 1, \"a\": {\"x\": 1}, \"b\": 2}");
+
+        assertThat(selector.fieldFilterFor(COLLECTION).apply(doc)).isEqualTo(Document.parse("{\"_id\": 1, \"c\": 2, \"b\": {\"y\": 1}}"));
+    }
+
+    @Test
+    public void shouldModifyFieldsOfPatch() {
+        final FieldSelector selector = FieldSelector.builder()
+                .excludeFields("db.c1.address.zip")
+                .renameFields("db.c1.name:fullName")
+                .build();
+
+        final Document doc = Document.parse("{\"$set\": {\"name\": \"n\", \"address.zip\": \"z\", \"address.street\": \"st\"}}");
+
+        assertThat(selector.fieldFilterFor(COLLECTION).apply(doc)).isEqualTo(Document.parse("{\"$set\": {\"address.street\": \"st\", "
+                + "\"fullName\": \"n\"}}"));
+    }
+
+    @Test
+    public void shouldNotModifyDocumentsOfOtherCollections() {
+        final FieldSelector selector = FieldSelector.builder()
+                .excludeFields("db.c1.name")
+                .build();
+
+        final Document doc = Document.parse("{\"_id\": 1, \"name\": \"n\"}");
+
+        assertThat(selector.fieldFilterFor(new CollectionId("rs0", "db", "c2")).apply(doc)).isEqualTo(Document.parse("{\"_id\": 1, \"name\": \"n\"}"));
+    }
+}
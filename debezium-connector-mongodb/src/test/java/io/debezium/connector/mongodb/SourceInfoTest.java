@@ -13,11 +13,17 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
 import io.debezium.config.Configuration;
 import io.debezium.connector.AbstractSourceInfoStructMaker;
 
@@ -112,6 +118,40 @@ public void shouldSetAndReturnRecordedOffset() {
         assertThat(struct.getString(SourceInfo.SNAPSHOT_KEY)).isNull();
     }
 
+    @Test
+    public void shouldSetAndReturnRecordedChangeStreamOffset() {
+        final BsonDocument resumeToken = new BsonDocument("_data", new BsonString("825F2E5B3A000000012B022C0100296E5A1004"));
+        final ChangeStreamDocument<Document> event = new ChangeStreamDocument<>(
+                OperationType.INSERT,
+                resumeToken,
+                new BsonDocument("db", new BsonString("dbA")).append("coll", new BsonString("collectA")),
+                null,
+                new Document("_id", 1),
+                new BsonDocument("_id", new BsonInt32(1)),
+                new BsonTimestamp(100, 2),
+                null,
+                null,
+                null);
+
+        source.changeStreamEvent(REPLICA_SET_NAME, event);
+        Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.TIMESTAMP)).isEqualTo(100);
+        assertThat(offset.get(SourceInfo.ORDER)).isEqualTo(2);
+        assertThat(offset.get(SourceInfo.RESUME_TOKEN)).isEqualTo(resumeToken.toJson());
+
+        // Create a new source info and set the offset ...
+        Map<String, String> partition = source.partition(REPLICA_SET_NAME);
+        source = new SourceInfo(new MongoDbConnectorConfig(
+                Configuration.create()
+                        .with(MongoDbConnectorConfig.LOGICAL_NAME, "serverX")
+                        .build()));
+        source.setOffsetFor(partition, offset);
+
+        assertThat(source.lastResumeToken(REPLICA_SET_NAME)).isEqualTo(resumeToken.toJson());
+        assertThat(BsonDocument.parse(source.lastResumeToken(REPLICA_SET_NAME))).isEqualTo(resumeToken);
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+    }
+
     @Test
     public void shouldReturnOffsetForUnusedReplicaName() {
         assertThat(source.hasOffset(REPLICA_SET_NAME)).isEqualTo(false);
@@ -231,6 +271,48 @@ public void shouldReturnRecordedOffsetForUsedReplicaNameDuringInitialSync() {
         assertThat(struct.getString(SourceInfo.SNAPSHOT_KEY)).isEqualTo("true");
     }
 
+    @Test
+    public void shouldResumeInitialSyncWithCompletedPartitions() {
+        final CollectionId collectionA = new CollectionId(REPLICA_SET_NAME, "dbA", "collectA");
+        final CollectionId collectionB = new CollectionId(REPLICA_SET_NAME, "dbA", "collectB");
+        final Document range = new Document("_id", new Document("$gte", 100).append("$lt", 200));
+
+        source.opLogEvent(REPLICA_SET_NAME, new Document().append("ts", new BsonTimestamp(100, 2))
+                .append("h", Long.valueOf(1987654321))
+                .append("ns", "dbA.collectA"));
+        source.startInitialSync(REPLICA_SET_NAME);
+        assertThat(source.lastOffset(REPLICA_SET_NAME).containsKey(SourceInfo.INITIAL_SYNC_COMPLETED)).isFalse();
+
+        source.snapshotPartitionCompleted(REPLICA_SET_NAME, collectionA, range);
+        source.snapshotPartitionCompleted(REPLICA_SET_NAME, collectionB, new Document());
+        final Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC)).isEqualTo(true);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC_COMPLETED)).isNotNull();
+
+        // Load the offsets of the interrupted initial sync
+        final SourceInfo interrupted = new SourceInfo(new MongoDbConnectorConfig(
+                Configuration.create()
+                        .with(MongoDbConnectorConfig.LOGICAL_NAME, "serverX")
+                        .build()));
+        assertThat(interrupted.setOffsetFor(source.partition(REPLICA_SET_NAME), offset)).isFalse();
+        assertThat(interrupted.hasOffset(REPLICA_SET_NAME)).isFalse();
+        assertThat(interrupted.interruptedInitialSyncTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+
+        final SourceInfo resumed = new SourceInfo(new MongoDbConnectorConfig(
+                Configuration.create()
+                        .with(MongoDbConnectorConfig.LOGICAL_NAME, "serverX")
+                        .build()));
+        resumed.resumeInitialSync(REPLICA_SET_NAME, interrupted);
+        assertThat(resumed.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+        assertThat(resumed.completedSnapshotPartitions(REPLICA_SET_NAME, collectionA)).containsOnly(range);
+        assertThat(resumed.completedSnapshotPartitions(REPLICA_SET_NAME, collectionB)).containsOnly(new Document());
+
+        resumed.startInitialSync(REPLICA_SET_NAME);
+        resumed.stopInitialSync(REPLICA_SET_NAME);
+        assertThat(resumed.completedSnapshotPartitions(REPLICA_SET_NAME, collectionA)).isEmpty();
+        assertThat(resumed.lastOffset(REPLICA_SET_NAME).containsKey(SourceInfo.INITIAL_SYNC_COMPLETED)).isFalse();
+    }
+
     @Test
     public void versionIsPresent() {
         final Document event = new Document().append("ts", new BsonTimestamp(100, 2))
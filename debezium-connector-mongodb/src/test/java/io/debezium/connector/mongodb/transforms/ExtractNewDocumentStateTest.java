@@ -14,11 +14,17 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +40,7 @@
 import io.debezium.connector.mongodb.MongoDbConnectorConfig;
 import io.debezium.connector.mongodb.MongoDbTopicSelector;
 import io.debezium.connector.mongodb.SourceInfo;
+import io.debezium.data.Bson;
 import io.debezium.doc.FixFor;
 import io.debezium.junit.SkipTestRule;
 import io.debezium.junit.SkipWhenKafkaVersion;
@@ -276,4 +283,81 @@ public void shouldFailWhenTheSchemaLooksValidButDoesNotHaveTheCorrectFieldsPostK
 
         assertThat(transformed).isNull();
     }
+
+    @Test
+    public void shouldReuseCachedSchemaForDocumentsOfSameShape() {
+        final ExtractNewDocumentState<SourceRecord> cachingTransformation = new ExtractNewDocumentState<>();
+        final Map<String, String> config = new HashMap<>();
+        config.put("array.encoding", "array");
+        config.put("schema.cache.size", "10");
+        cachingTransformation.configure(config);
+
+        try {
+            final SourceRecord first = cachingTransformation.apply(insertRecord("1", "{\"_id\": 1, \"name\": \"a\", \"tags\": [\"x\", \"y\"]}"));
+            final SourceRecord second = cachingTransformation.apply(insertRecord("2", "{\"_id\": 2, \"name\": \"b\", \"tags\": [\"z\"]}"));
+            final SourceRecord third = cachingTransformation.apply(insertRecord("3", "{\"_id\": 3, \"name\": 3, \"tags\": [\"z\"]}"));
+
+            assertThat(second.keySchema()).isSameAs(first.keySchema());
+            assertThat(second.valueSchema()).isSameAs(first.valueSchema());
+            assertThat(((Struct) second.key()).get("id")).isEqualTo(2);
+            assertThat(((Struct) second.value()).get("name")).isEqualTo("b");
+            assertThat(((Struct) second.value()).getArray("tags")).isEqualTo(Collections.singletonList("z"));
+
+            assertThat(third.valueSchema()).isNotSameAs(first.valueSchema());
+            assertThat(third.valueSchema().field("name").schema()).isEqualTo(Schema.OPTIONAL_INT32_SCHEMA);
+            assertThat(((Struct) third.value()).get("name")).isEqualTo(3);
+
+            // the cached schemas are the same as the inferred ones
+            final SourceRecord uncached = transformation.apply(insertRecord("2", "{\"_id\": 2, \"name\": \"b\", \"tags\": [\"z\"]}"));
+            assertThat(second.valueSchema()).isEqualTo(uncached.valueSchema());
+            assertThat(second.value()).isEqualTo(uncached.value());
+        }
+        finally {
+            cachingTransformation.close();
+        }
+    }
+
+    @Test
+    public void shouldDecodeBsonDocuments() {
+        final Document after = new Document("_id", 1).append("name", "a").append("count", 2L);
+        final SourceRecord transformed = transformation.apply(insertRecord("1", after, Bson.builder().optional().build()));
+
+        final Struct value = (Struct) transformed.value();
+        assertThat(value.get("id")).isEqualTo(1);
+        assertThat(value.get("name")).isEqualTo("a");
+        assertThat(value.get("count")).isEqualTo(2L);
+    }
+
+    private SourceRecord insertRecord(String id, String after) {
+        return insertRecord(id, after, Schema.OPTIONAL_STRING_SCHEMA);
+    }
+
+    private SourceRecord insertRecord(String id, Document after, Schema documentSchema) {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new DocumentCodec().encode(new BsonBinaryWriter(buffer), after, EncoderContext.builder().build());
+        return insertRecord(id, buffer.toByteArray(), documentSchema);
+    }
+
+    private SourceRecord insertRecord(String id, Object after, Schema documentSchema) {
+        final Schema keySchema = SchemaBuilder.struct()
+                .name("serverX.db.c.Key")
+                .field("id", Schema.STRING_SCHEMA)
+                .build();
+        final Schema valueSchema = SchemaBuilder.struct()
+                .name("serverX.db.c.Envelope")
+                .field("after", documentSchema)
+                .field("patch", documentSchema)
+                .field("source", SchemaBuilder.struct().optional().build())
+                .field("op", Schema.STRING_SCHEMA)
+                .build();
+
+        return new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "serverX.db.c",
+                keySchema,
+                new Struct(keySchema).put("id", id),
+                valueSchema,
+                new Struct(valueSchema).put("after", after).put("op", "c"));
+    }
 }
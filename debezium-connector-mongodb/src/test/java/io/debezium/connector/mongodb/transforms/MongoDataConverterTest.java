@@ -209,4 +209,22 @@ public void shouldProcessUnsupportedValue() {
                         + "}");
 
     }
+
+    @Test
+    public void shouldDeriveSameShapeForDocumentsWithSameSchema() {
+        final BsonDocument document = BsonDocument.parse("{\"a\": 1, \"b\": [\"x\", \"y\"], \"c\": {\"d\": true}}");
+        final BsonDocument sameShape = BsonDocument.parse("{\"a\": 2, \"b\": [\"z\"], \"c\": {\"d\": false}}");
+
+        assertThat(converter.shapeOf(sameShape)).isEqualTo(converter.shapeOf(document));
+        assertThat(converter.shapeOf(BsonDocument.parse("{\"a\": \"1\", \"b\": [\"x\"], \"c\": {\"d\": true}}")))
+                .isNotEqualTo(converter.shapeOf(document));
+        assertThat(converter.shapeOf(BsonDocument.parse("{\"a\": 1, \"b\": [\"x\", 1], \"c\": {\"d\": true}}")))
+                .isNotEqualTo(converter.shapeOf(document));
+        assertThat(converter.shapeOf(BsonDocument.parse("{\"a\": 1, \"b\": [\"x\"], \"c\": {\"e\": true}}")))
+                .isNotEqualTo(converter.shapeOf(document));
+
+        // with document encoding, each array element is a separate field
+        final MongoDataConverter documentConverter = new MongoDataConverter(ArrayEncoding.DOCUMENT);
+        assertThat(documentConverter.shapeOf(sameShape)).isNotEqualTo(documentConverter.shapeOf(document));
+    }
 }
@@ -56,12 +56,20 @@ public Filters(PostgresConnectorConfig config) {
         }
 
         // Define the filter using the include/exclude lists for table names ...
-        this.tableFilter = TableFilter.fromPredicate(Selectors.tableSelector()
+        Predicate<TableId> tablePredicate = Selectors.tableSelector()
                 .includeTables(config.tableIncludeList())
                 .excludeTables(tableExcludeList)
                 .includeSchemas(config.schemaIncludeList())
                 .excludeSchemas(schemaExcludeList)
-                .build());
+                .build();
+
+        // ... restricted to the tables of the task's shard
+        if (config.isSharded()) {
+            final int shardCount = config.shardCount();
+            final int shardId = config.shardId();
+            tablePredicate = tablePredicate.and(tableId -> PostgresConnectorConfig.shardOf(tableId, shardCount) == shardId);
+        }
+        this.tableFilter = TableFilter.fromPredicate(tablePredicate);
 
         String columnIncludeList = config.columnIncludeList();
         if (columnIncludeList != null) {
@@ -0,0 +1,271 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.core.BaseConnection;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalSnapshotChangeEventSource.SnapshotRowReader;
+import io.debezium.relational.Table;
+
+/**
+ * Reads the rows returned by a select statement via {@code COPY (<select statement>) TO STDOUT (FORMAT binary)}.
+ * <p>
+ * The binary tuples are decoded directly into the values the JDBC based snapshot would obtain for the columns, which
+ * avoids the text representation of the values as well as the result set handling of the driver. Only columns of
+ * types whose binary representation is decoded by this reader are supported, see {@link #create(JdbcConnection,
+ * TypeRegistry, Table, String)}.
+ */
+@NotThreadSafe
+class PostgresBinaryCopyRowReader implements SnapshotRowReader {
+
+    /**
+     * The number of bytes of the COPY data stream which are read ahead of the decoding.
+     */
+    static final int READ_AHEAD_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+
+    private static final int NUMERIC_POS = 0x0000;
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+    private static final int NUMERIC_BASE = 10_000;
+    private static final BigInteger NUMERIC_BASE_BIG = BigInteger.valueOf(NUMERIC_BASE);
+
+    private final DataInputStream in;
+    private final Column[] columns;
+    private final int[] oids;
+    private final int rowLength;
+    private byte[] buffer = new byte[256];
+    private boolean headerRead;
+    private boolean trailerRead;
+
+    /**
+     * Creates a reader for the given select statement, if all of its result columns are of supported types.
+     *
+     * @return the reader, or {@code null} if the result has columns of types not supported by this reader
+     */
+    static PostgresBinaryCopyRowReader create(JdbcConnection connection, TypeRegistry typeRegistry, Table table, String selectStatement)
+            throws SQLException {
+        final Column[] columns;
+        final int[] oids;
+        try (PreparedStatement statement = connection.connection().prepareStatement(selectStatement)) {
+            final ResultSetMetaData metaData = statement.getMetaData();
+            columns = new Column[metaData.getColumnCount()];
+            oids = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = table.columnWithName(metaData.getColumnName(i + 1));
+                oids[i] = typeRegistry.get(metaData.getColumnTypeName(i + 1)).getOid();
+                if (columns[i] == null || !isSupported(oids[i])) {
+                    return null;
+                }
+            }
+        }
+
+        final CopyManager copyManager = new CopyManager(connection.connection().unwrap(BaseConnection.class));
+        final PGCopyInputStream copyStream = new PGCopyInputStream(copyManager.copyOut("COPY (" + selectStatement + ") TO STDOUT (FORMAT binary)"));
+        return new PostgresBinaryCopyRowReader(copyStream, columns, oids);
+    }
+
+    PostgresBinaryCopyRowReader(InputStream copyStream, Column[] columns, int[] oids) {
+        this.in = new DataInputStream(new BufferedInputStream(copyStream, READ_AHEAD_BUFFER_SIZE));
+        this.columns = columns;
+        this.oids = oids;
+        this.rowLength = Arrays.stream(columns).mapToInt(Column::position).max().orElse(0);
+    }
+
+    /**
+     * Whether values of the given type are decoded by this reader.
+     */
+    static boolean isSupported(int oid) {
+        switch (oid) {
+            case PgOid.BOOL:
+            case PgOid.INT2:
+            case PgOid.INT4:
+            case PgOid.INT8:
+            case PgOid.FLOAT4:
+            case PgOid.FLOAT8:
+            case PgOid.NUMERIC:
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.NAME:
+            case PgOid.BYTEA:
+            case PgOid.UUID:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Object[] next() throws SQLException {
+        if (trailerRead) {
+            return null;
+        }
+        try {
+            if (!headerRead) {
+                readHeader();
+                headerRead = true;
+            }
+
+            final int fieldCount = in.readShort();
+            if (fieldCount == -1) {
+                trailerRead = true;
+                return null;
+            }
+            if (fieldCount != columns.length) {
+                throw new SQLException("Expected " + columns.length + " fields in COPY data but got " + fieldCount);
+            }
+
+            final Object[] row = new Object[rowLength];
+            for (int i = 0; i < fieldCount; i++) {
+                final int length = in.readInt();
+                row[columns[i].position() - 1] = length == -1 ? null : readValue(oids[i], length);
+            }
+            return row;
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to read COPY data", e);
+        }
+    }
+
+    private void readHeader() throws IOException, SQLException {
+        final byte[] signature = new byte[SIGNATURE.length];
+        in.readFully(signature);
+        if (!Arrays.equals(signature, SIGNATURE)) {
+            throw new SQLException("Unexpected signature of binary COPY data");
+        }
+        // flags; none of them is relevant for reading the tuples
+        in.readInt();
+        final int extensionLength = in.readInt();
+        readBytes(extensionLength);
+    }
+
+    private Object readValue(int oid, int length) throws IOException, SQLException {
+        switch (oid) {
+            case PgOid.BOOL:
+                return in.readByte() != 0;
+            case PgOid.INT2:
+                // the driver returns smallint values as integers, too
+                return (int) in.readShort();
+            case PgOid.INT4:
+                return in.readInt();
+            case PgOid.INT8:
+                return in.readLong();
+            case PgOid.FLOAT4:
+                return in.readFloat();
+            case PgOid.FLOAT8:
+                return in.readDouble();
+            case PgOid.NUMERIC:
+                return readNumeric();
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.NAME:
+                readBytes(length);
+                return new String(buffer, 0, length, StandardCharsets.UTF_8);
+            case PgOid.BYTEA:
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return bytes;
+            case PgOid.UUID:
+                return new UUID(in.readLong(), in.readLong());
+            default:
+                throw new SQLException("Unsupported type with OID " + oid + " in COPY data");
+        }
+    }
+
+    /**
+     * Reads a numeric value, made up of its number of base 10000 digits, the weight of the first digit, its sign, its
+     * display scale and the digits.
+     */
+    private SpecialValueDecimal readNumeric() throws IOException, SQLException {
+        final int digitCount = in.readShort();
+        final int weight = in.readShort();
+        final int sign = in.readUnsignedShort();
+        final int displayScale = in.readUnsignedShort();
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                readBytes(digitCount * 2);
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_PINF:
+                readBytes(digitCount * 2);
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NINF:
+                readBytes(digitCount * 2);
+                return SpecialValueDecimal.NEGATIVE_INF;
+            case NUMERIC_POS:
+            case NUMERIC_NEG:
+                break;
+            default:
+                throw new SQLException("Unexpected sign of numeric value in COPY data: " + sign);
+        }
+
+        // up to four base 10000 digits fit into a long
+        final BigInteger unscaled;
+        if (digitCount <= 4) {
+            long value = 0;
+            for (int i = 0; i < digitCount; i++) {
+                value = value * NUMERIC_BASE + in.readShort();
+            }
+            unscaled = BigInteger.valueOf(value);
+        }
+        else {
+            BigInteger value = BigInteger.ZERO;
+            for (int i = 0; i < digitCount; i++) {
+                value = value.multiply(NUMERIC_BASE_BIG).add(BigInteger.valueOf(in.readShort()));
+            }
+            unscaled = value;
+        }
+
+        BigDecimal value = new BigDecimal(unscaled, 4 * (digitCount - 1 - weight)).setScale(displayScale, RoundingMode.DOWN);
+        if (sign == NUMERIC_NEG) {
+            value = value.negate();
+        }
+        return new SpecialValueDecimal(value);
+    }
+
+    private void readBytes(int length) throws IOException {
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+        in.readFully(buffer, 0, length);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            // cancels the COPY if not all of its data has been read
+            in.close();
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to close COPY data stream", e);
+        }
+    }
+}
@@ -197,6 +197,16 @@ private Object[] columnValues(List<ReplicationMessage.Column> columns, TableId t
                 }
             }
         }
+
+        final ToastedValueCache toastedValueCache = schema.getToastedValueCache();
+        if (toastedValueCache.isEnabled()) {
+            if (!oldValues) {
+                toastedValueCache.update(table, values, schema.getToastableColumnsForTableId(table.id()));
+            }
+            else if (getOperation() == Operation.DELETE) {
+                toastedValueCache.remove(table, values, schema.getToastableColumnsForTableId(table.id()));
+            }
+        }
         return values;
     }
 
@@ -235,7 +245,7 @@ private Optional<DataCollectionSchema> newTable(TableId tableId) {
 
     private void refreshTableFromDatabase(TableId tableId) {
         try {
-            schema.refresh(connection, tableId, connectorConfig.skipRefreshSchemaOnMissingToastableData());
+            schema.refresh(connection, tableId, schema.isReadToastableColumns());
         }
         catch (SQLException e) {
             throw new ConnectException("Database error while refresing table schema", e);
@@ -17,6 +17,7 @@
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigValue;
 import org.apache.kafka.connect.connector.Task;
+import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,8 +60,27 @@ public void start(Map<String, String> props) {
 
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
-        // this will always have just one task with the given list of properties
-        return props == null ? Collections.emptyList() : Collections.singletonList(new HashMap<>(props));
+        if (props == null) {
+            return Collections.emptyList();
+        }
+        final int shardCount = Configuration.from(props).getInteger(PostgresConnectorConfig.SHARD_COUNT);
+        if (shardCount <= 1) {
+            // just one task with the given list of properties
+            return Collections.singletonList(new HashMap<>(props));
+        }
+        if (maxTasks < shardCount) {
+            throw new ConnectException("The tables are distributed across " + shardCount + " shards, which requires 'tasks.max' to be at least "
+                    + shardCount + " but it is " + maxTasks);
+        }
+
+        // one task per shard; the shard of a task only depends on its position, so that it is retained across rebalances
+        final List<Map<String, String>> taskConfigs = new ArrayList<>(shardCount);
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            final Map<String, String> taskProps = new HashMap<>(props);
+            taskProps.put(PostgresConnectorConfig.SHARD_ID.name(), Integer.toString(shardId));
+            taskConfigs.add(taskProps);
+        }
+        return taskConfigs;
     }
 
     @Override
@@ -126,21 +146,23 @@ public Config validate(Map<String, String> connectorConfigs) {
                         logger.error(errorMessage);
                         userResult.addErrorMessage(errorMessage);
                     }
-                    // check replication slot
-                    final String slotName = config.slotName();
-                    if (connection.prepareQueryAndMap(
-                            "SELECT * FROM pg_replication_slots WHERE slot_name = ?",
-                            statement -> statement.setString(1, slotName),
-                            rs -> {
-                                if (rs.next()) {
-                                    return rs.getBoolean("active");
-                                }
-                                return false;
-                            })) {
-                        final String errorMessage = "Slot name \"" + slotName
-                                + "\" already exists and is active. Choose a unique name or stop the other process occupying the slot.";
-                        logger.error(errorMessage);
-                        slotNameResult.addErrorMessage(errorMessage);
+                    // check replication slots, one per shard
+                    for (int shardId = 0; shardId < config.shardCount(); shardId++) {
+                        final String slotName = config.slotName(shardId);
+                        if (connection.prepareQueryAndMap(
+                                "SELECT * FROM pg_replication_slots WHERE slot_name = ?",
+                                statement -> statement.setString(1, slotName),
+                                rs -> {
+                                    if (rs.next()) {
+                                        return rs.getBoolean("active");
+                                    }
+                                    return false;
+                                })) {
+                            final String errorMessage = "Slot name \"" + slotName
+                                    + "\" already exists and is active. Choose a unique name or stop the other process occupying the slot.";
+                            logger.error(errorMessage);
+                            slotNameResult.addErrorMessage(errorMessage);
+                        }
                     }
                 }
                 catch (SQLException e) {
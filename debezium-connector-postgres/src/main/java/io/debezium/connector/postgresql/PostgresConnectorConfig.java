@@ -16,6 +16,8 @@
 import org.apache.kafka.common.config.ConfigDef.Type;
 import org.apache.kafka.common.config.ConfigDef.Width;
 import org.apache.kafka.common.config.ConfigValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.debezium.config.ConfigDefinition;
 import io.debezium.config.Configuration;
@@ -39,6 +41,8 @@
 import io.debezium.heartbeat.DatabaseHeartbeatImpl;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalTableFilters;
+import io.debezium.relational.Selectors.TableIdToStringMapper;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.util.Strings;
@@ -50,6 +54,8 @@
  */
 public class PostgresConnectorConfig extends RelationalDatabaseConnectorConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresConnectorConfig.class);
+
     /**
      * The set of predefined HStoreHandlingMode options or aliases
      */
@@ -549,6 +555,100 @@ public static SchemaRefreshMode parse(String value) {
         }
     }
 
+    /**
+     * The set of predefined SchemaLoadMode options or aliases
+     */
+    public enum SchemaLoadMode implements EnumeratedValue {
+        /**
+         * Read the schemas of all captured tables when streaming starts.
+         */
+        EAGER("eager"),
+
+        /**
+         * Read the schema of a table when the first change event for it is received.
+         *
+         * This setting can reduce the time needed to start streaming significantly for databases with many tables.
+         */
+        LAZY("lazy");
+
+        private final String value;
+
+        SchemaLoadMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static SchemaLoadMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (SchemaLoadMode option : SchemaLoadMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The set of predefined SnapshotReadMode options or aliases.
+     */
+    public enum SnapshotReadMode implements EnumeratedValue {
+        /**
+         * Read the table contents by executing the snapshot select statements via JDBC.
+         */
+        SELECT("select"),
+
+        /**
+         * Read the table contents via {@code COPY (<select statement>) TO STDOUT (FORMAT binary)}, decoding the
+         * binary tuples directly. Tables with columns of types not supported by the binary decoding are read via
+         * JDBC.
+         */
+        BINARY_COPY("binary_copy");
+
+        private final String value;
+
+        SnapshotReadMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static SnapshotReadMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (SnapshotReadMode option : SnapshotReadMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     protected static final String DATABASE_CONFIG_PREFIX = "database.";
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
@@ -677,6 +777,29 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                             "the current filter configuration (see table/database include/exclude list properties). If the publication already" +
                             " exists, it will be used. i.e CREATE PUBLICATION <publication_name> FOR TABLE <tbl1, tbl2, etc>");
 
+    public static final Field SHARD_COUNT = Field.create("shard.count")
+            .withDisplayName("Number of shards")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of shards the captured tables are distributed across. Each shard is captured by its own "
+                    + "connector task, using its own replication slot and publication, whose names are the configured slot and "
+                    + "publication names suffixed with '_<shard>'. Tables are assigned to shards by a hash of their name, so the "
+                    + "order of change events is only retained per table. Requires 'tasks.max' to be at least the number of shards. "
+                    + "Defaults to 1, i.e. all tables are captured by a single task.");
+
+    /**
+     * The shard captured by a task, set by the connector in the configuration of each task if there is more than one shard.
+     */
+    public static final Field SHARD_ID = Field.createInternal("shard.id")
+            .withDisplayName("Shard")
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withDescription("The shard captured by the task; set by the connector for each of its tasks.");
+
     public static final Field STREAM_PARAMS = Field.create("slot.stream.params")
             .withDisplayName("Optional parameters to pass to the logical decoder when the stream is started.")
             .withType(Type.STRING)
@@ -889,6 +1012,27 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     "have TOASTed data that are rarely part of these updates. However, it is possible for the in-memory schema to " +
                     "become outdated if TOASTable columns are dropped from the table.");
 
+    public static final Field SCHEMA_LOAD_MODE = Field.create("schema.load.mode")
+            .withDisplayName("Schema load mode")
+            .withEnum(SchemaLoadMode.class, SchemaLoadMode.EAGER)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify when the in-memory schemas of the captured tables are read from the database upon streaming start. " +
+                    "'eager' (the default) reads the schemas of all captured tables before streaming starts. " +
+                    "'lazy' reads the schema of a table when the first change event for it is received, " +
+                    "which can reduce the startup time of the connector significantly for databases with many tables.");
+
+    public static final Field SNAPSHOT_READ_MODE = Field.create("snapshot.read.mode")
+            .withDisplayName("Snapshot read mode")
+            .withEnum(SnapshotReadMode.class, SnapshotReadMode.SELECT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify how the contents of the captured tables are read during a snapshot. " +
+                    "'select' (the default) executes the snapshot select statements via JDBC. " +
+                    "'binary_copy' reads the results of the select statements via COPY in binary format, " +
+                    "which is considerably faster for large tables; tables with columns of types not supported " +
+                    "by the binary decoding are still read via JDBC.");
+
     public static final Field XMIN_FETCH_INTERVAL = Field.create("xmin.fetch.interval.ms")
             .withDisplayName("Xmin fetch interval (ms)")
             .withType(Type.LONG)
@@ -912,10 +1056,27 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     "the original value is a toasted value not provided by the database. " +
                     "If starts with 'hex:' prefix it is expected that the rest of the string repesents hexadecimally encoded octets.");
 
+    public static final Field TOASTED_VALUE_CACHE_MAX_BYTES = Field.create("toasted.value.cache.max.bytes")
+            .withDisplayName("Toasted value cache size (bytes)")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withDefault(0L)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum estimated heap memory in bytes used for caching the values of toastable columns " +
+                    "read during the snapshot or received with inserts and updates. Unchanged toasted values of subsequent updates " +
+                    "of the same rows are taken from this cache instead of being emitted as the toasted value placeholder. " +
+                    "Defaults to 0, which disables the cache.")
+            .withValidation(Field::isNonNegativeLong);
+
     private final HStoreHandlingMode hStoreHandlingMode;
     private final IntervalHandlingMode intervalHandlingMode;
     private final SnapshotMode snapshotMode;
     private final SchemaRefreshMode schemaRefreshMode;
+    private final SchemaLoadMode schemaLoadMode;
+    private final SnapshotReadMode snapshotReadMode;
+    private final int shardCount;
+    private final int shardId;
+    private final RelationalTableFilters shardTableFilters;
 
     public PostgresConnectorConfig(Configuration config) {
         super(
@@ -930,6 +1091,13 @@ public PostgresConnectorConfig(Configuration config) {
         this.intervalHandlingMode = IntervalHandlingMode.parse(config.getString(PostgresConnectorConfig.INTERVAL_HANDLING_MODE));
         this.snapshotMode = SnapshotMode.parse(config.getString(SNAPSHOT_MODE));
         this.schemaRefreshMode = SchemaRefreshMode.parse(config.getString(SCHEMA_REFRESH_MODE));
+        this.schemaLoadMode = SchemaLoadMode.parse(config.getString(SCHEMA_LOAD_MODE));
+        this.snapshotReadMode = SnapshotReadMode.parse(config.getString(SNAPSHOT_READ_MODE));
+        this.shardCount = config.getInteger(SHARD_COUNT);
+        this.shardId = config.getInteger(SHARD_ID);
+        this.shardTableFilters = isSharded()
+                ? new ShardTableFilters(config, new SystemTablesPredicate(), x -> x.schema() + "." + x.table(), shardCount, shardId)
+                : null;
     }
 
     protected String hostname() {
@@ -948,8 +1116,15 @@ protected LogicalDecoder plugin() {
         return LogicalDecoder.parse(getConfig().getString(PLUGIN_NAME));
     }
 
+    /**
+     * Returns the name of the replication slot of this task; each shard uses a slot of its own.
+     */
     protected String slotName() {
-        return getConfig().getString(SLOT_NAME);
+        return slotName(shardId());
+    }
+
+    protected String slotName(int shardId) {
+        return shardedName(getConfig().getString(SLOT_NAME), shardId);
     }
 
     protected boolean dropSlotOnStop() {
@@ -960,12 +1135,66 @@ protected boolean dropSlotOnStop() {
         return getConfig().getBoolean(DROP_SLOT_ON_STOP);
     }
 
+    /**
+     * Returns the name of the publication of this task; each shard uses a publication of its own.
+     */
     protected String publicationName() {
-        return getConfig().getString(PUBLICATION_NAME);
+        return shardedName(getConfig().getString(PUBLICATION_NAME), shardId());
     }
 
+    /**
+     * Returns the publication autocreation mode. If tables are sharded, a publication for all tables would make each
+     * shard's slot decode the changes of all tables, so the publications are created for the tables of their shard.
+     * Tables created later on have to be added to the publication of their shard manually.
+     */
     protected AutoCreateMode publicationAutocreateMode() {
-        return AutoCreateMode.parse(getConfig().getString(PUBLICATION_AUTOCREATE_MODE));
+        final AutoCreateMode mode = AutoCreateMode.parse(getConfig().getString(PUBLICATION_AUTOCREATE_MODE));
+        if (mode == AutoCreateMode.ALL_TABLES && isSharded()) {
+            LOGGER.warn("The publication '{}' of shard {} is created for the tables of the shard instead of all tables as requested by '{}', "
+                    + "tables created later on must be added using ALTER PUBLICATION", publicationName(), shardId, PUBLICATION_AUTOCREATE_MODE.name());
+            return AutoCreateMode.FILTERED;
+        }
+        return mode;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardId() {
+        return shardId;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Returns the name identifying this task in the names of its metrics and threads, which is the logical name
+     * suffixed with the shard if tables are sharded.
+     */
+    public String getTaskName() {
+        return isSharded() ? getLogicalName() + "-shard-" + shardId : getLogicalName();
+    }
+
+    /**
+     * Returns the filters of the captured tables, restricted to the tables of this task's shard if tables are sharded.
+     */
+    @Override
+    public RelationalTableFilters getTableFilters() {
+        return shardTableFilters != null ? shardTableFilters : super.getTableFilters();
+    }
+
+    /**
+     * Returns the shard of the given table. The assignment only depends on the schema and name of the table and the
+     * number of shards, so that a table is always captured by the same shard, independently of the running tasks.
+     */
+    public static int shardOf(TableId tableId, int shardCount) {
+        return Math.floorMod((tableId.schema() + "." + tableId.table()).hashCode(), shardCount);
+    }
+
+    private String shardedName(String name, int shardId) {
+        return isSharded() ? name + "_" + shardId : name;
     }
 
     protected String streamParams() {
@@ -1012,6 +1241,18 @@ protected boolean skipRefreshSchemaOnMissingToastableData() {
         return SchemaRefreshMode.COLUMNS_DIFF_EXCLUDE_UNCHANGED_TOAST == this.schemaRefreshMode;
     }
 
+    protected SchemaLoadMode schemaLoadMode() {
+        return schemaLoadMode;
+    }
+
+    protected long toastedValueCacheMaxBytes() {
+        return getConfig().getLong(TOASTED_VALUE_CACHE_MAX_BYTES);
+    }
+
+    protected SnapshotReadMode snapshotReadMode() {
+        return snapshotReadMode;
+    }
+
     protected Duration xminFetchInterval() {
         return Duration.ofMillis(getConfig().getLong(PostgresConnectorConfig.XMIN_FETCH_INTERVAL));
     }
@@ -1046,6 +1287,7 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SLOT_NAME,
                     PUBLICATION_NAME,
                     PUBLICATION_AUTOCREATE_MODE,
+                    SHARD_COUNT,
                     DROP_SLOT_ON_STOP,
                     STREAM_PARAMS,
                     ON_CONNECT_STATEMENTS,
@@ -1063,14 +1305,17 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
             .events(
                     INCLUDE_UNKNOWN_DATATYPES,
                     DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY,
-                    TOASTED_VALUE_PLACEHOLDER)
+                    TOASTED_VALUE_PLACEHOLDER,
+                    TOASTED_VALUE_CACHE_MAX_BYTES)
             .connector(
                     SNAPSHOT_MODE,
                     SNAPSHOT_MODE_CLASS,
                     HSTORE_HANDLING_MODE,
                     BINARY_HANDLING_MODE,
                     INTERVAL_HANDLING_MODE,
-                    SCHEMA_REFRESH_MODE)
+                    SCHEMA_REFRESH_MODE,
+                    SCHEMA_LOAD_MODE,
+                    SNAPSHOT_READ_MODE)
             .excluding(INCLUDE_SCHEMA_CHANGES)
             .create();
 
@@ -1106,6 +1351,25 @@ public String getConnectorName() {
         return Module.name();
     }
 
+    /**
+     * Table filters which only include the tables of a single shard.
+     */
+    private static class ShardTableFilters extends RelationalTableFilters {
+
+        private final TableFilter tableFilter;
+
+        ShardTableFilters(Configuration config, TableFilter systemTablesFilter, TableIdToStringMapper tableIdMapper, int shardCount, int shardId) {
+            super(config, systemTablesFilter, tableIdMapper);
+            final TableFilter filter = super.dataCollectionFilter();
+            this.tableFilter = tableId -> filter.isIncluded(tableId) && shardOf(tableId, shardCount) == shardId;
+        }
+
+        @Override
+        public TableFilter dataCollectionFilter() {
+            return tableFilter;
+        }
+    }
+
     private static class SystemTablesPredicate implements TableFilter {
         protected static final List<String> SYSTEM_SCHEMAS = Arrays.asList("pg_catalog", "information_schema");
 
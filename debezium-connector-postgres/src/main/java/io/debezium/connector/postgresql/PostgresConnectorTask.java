@@ -33,6 +33,7 @@
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSerializer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
@@ -84,6 +85,9 @@ public ChangeEventSourceCoordinator start(Configuration config) {
         final Charset databaseCharset = jdbcConnection.getDatabaseCharset();
 
         schema = new PostgresSchema(connectorConfig, typeRegistry, databaseCharset, topicSelector);
+        if (schema.getToastedValueCache().isEnabled()) {
+            schema.getToastedValueCache().register(LOGGER);
+        }
         this.taskContext = new PostgresTaskContext(connectorConfig, schema, topicSelector);
         final PostgresOffsetContext previousOffset = (PostgresOffsetContext) getPreviousOffset(new PostgresOffsetContext.Loader(connectorConfig));
         final Clock clock = Clock.system();
@@ -151,6 +155,10 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .waitStrategy(connectorConfig.getQueueWaitStrategy())
+                    .linger(connectorConfig.getQueueLinger())
+                    .overflowJournal(connectorConfig.getQueueOverflowDirectory(), connectorConfig.getQueueOverflowMaxBytes(),
+                            connectorConfig.getQueueOverflowSegmentBytes(), new DataChangeEventSerializer())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -274,8 +282,13 @@ protected void doStop() {
         }
 
         if (schema != null) {
+            schema.getToastedValueCache().unregister(LOGGER);
             schema.close();
         }
+
+        if (queue != null) {
+            queue.close();
+        }
     }
 
     @Override
@@ -32,6 +32,7 @@ public class PostgresOffsetContext implements OffsetContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSnapshotChangeEventSource.class);
 
     private static final String SERVER_PARTITION_KEY = "server";
+    private static final String SHARD_PARTITION_KEY = "shard";
     public static final String LAST_COMPLETELY_PROCESSED_LSN_KEY = "lsn_proc";
     public static final String LAST_COMMIT_LSN_KEY = "lsn_commit";
 
@@ -47,7 +48,7 @@ public class PostgresOffsetContext implements OffsetContext {
     private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Lsn lsn, Lsn lastCompletelyProcessedLsn, Lsn lastCommitLsn, Long txId, Instant time,
                                   boolean snapshot,
                                   boolean lastSnapshotRecord, TransactionContext transactionContext) {
-        partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        partition = partition(connectorConfig);
         sourceInfo = new SourceInfo(connectorConfig);
 
         this.lastCompletelyProcessedLsn = lastCompletelyProcessedLsn;
@@ -183,6 +184,20 @@ Long xmin() {
         return sourceInfo.xmin();
     }
 
+    /**
+     * Returns the source partition of the connector's task, which includes the shard of the task if tables are
+     * sharded, as the tasks of the shards have offsets of their own.
+     */
+    private static Map<String, String> partition(PostgresConnectorConfig connectorConfig) {
+        if (!connectorConfig.isSharded()) {
+            return Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        }
+        final Map<String, String> partition = new HashMap<>();
+        partition.put(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        partition.put(SHARD_PARTITION_KEY, Integer.toString(connectorConfig.shardId()));
+        return partition;
+    }
+
     public static class Loader implements OffsetContext.Loader {
 
         private final PostgresConnectorConfig connectorConfig;
@@ -193,7 +208,7 @@ public Loader(PostgresConnectorConfig connectorConfig) {
 
         @Override
         public Map<String, ?> getPartition() {
-            return Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+            return partition(connectorConfig);
         }
 
         private Long readOptionalLong(Map<String, ?> offset, String key) {
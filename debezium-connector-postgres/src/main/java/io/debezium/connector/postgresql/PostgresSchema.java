@@ -46,11 +46,20 @@ public class PostgresSchema extends RelationalDatabaseSchema {
     protected final static String PUBLIC_SCHEMA_NAME = "public";
     private final static Logger LOGGER = LoggerFactory.getLogger(PostgresSchema.class);
 
+    private static final String SQL_TOASTABLE_COLUMNS = "select ns.nspname, tbl.relname, att.attname" +
+            " from pg_attribute att " +
+            " join pg_class tbl on tbl.oid = att.attrelid" +
+            " join pg_namespace ns on tbl.relnamespace = ns.oid" +
+            " where att.attnum > 0" +
+            " and att.attstorage in ('x', 'e', 'm')" +
+            " and not att.attisdropped";
+
     private final TypeRegistry typeRegistry;
 
     private final Map<TableId, List<String>> tableIdToToastableColumns;
     private final Map<Integer, TableId> relationIdToTableId;
     private final boolean readToastableColumns;
+    private final ToastedValueCache toastedValueCache;
 
     /**
      * Create a schema component given the supplied {@link PostgresConnectorConfig Postgres connector configuration}.
@@ -66,7 +75,8 @@ protected PostgresSchema(PostgresConnectorConfig config, TypeRegistry typeRegist
         this.typeRegistry = typeRegistry;
         this.tableIdToToastableColumns = new HashMap<>();
         this.relationIdToTableId = new HashMap<>();
-        this.readToastableColumns = config.skipRefreshSchemaOnMissingToastableData();
+        this.toastedValueCache = new ToastedValueCache(config);
+        this.readToastableColumns = config.skipRefreshSchemaOnMissingToastableData() || toastedValueCache.isEnabled();
     }
 
     private static TableSchemaBuilder getTableSchemaBuilder(PostgresConnectorConfig config, TypeRegistry typeRegistry, Charset databaseCharset) {
@@ -100,23 +110,33 @@ protected PostgresSchema refresh(PostgresConnection connection, boolean printRep
         connection.readSchema(tables(), null, null, getTableFilter(), null, true);
         if (printReplicaIdentityInfo) {
             // print out all the replica identity info
-            tableIds().forEach(tableId -> printReplicaIdentityInfo(connection, tableId));
+            printReplicaIdentityInfo(connection);
         }
         // and then refresh the schemas
         refreshSchemas();
         if (readToastableColumns) {
-            tableIds().forEach(tableId -> refreshToastableColumnsMap(connection, tableId));
+            refreshToastableColumnsMap(connection);
         }
         return this;
     }
 
-    private void printReplicaIdentityInfo(PostgresConnection connection, TableId tableId) {
+    private void printReplicaIdentityInfo(PostgresConnection connection) {
+        final Map<TableId, ServerInfo.ReplicaIdentity> replicaIdentities;
         try {
-            ServerInfo.ReplicaIdentity replicaIdentity = connection.readReplicaIdentityInfo(tableId);
-            LOGGER.info("REPLICA IDENTITY for '{}' is '{}'; {}", tableId, replicaIdentity, replicaIdentity.description());
+            replicaIdentities = connection.readReplicaIdentityInfo();
         }
         catch (SQLException e) {
-            LOGGER.warn("Cannot determine REPLICA IDENTITY info for '{}'", tableId);
+            LOGGER.warn("Cannot determine REPLICA IDENTITY info", e);
+            return;
+        }
+        for (TableId tableId : tableIds()) {
+            final ServerInfo.ReplicaIdentity replicaIdentity = replicaIdentities.get(new TableId(null, tableId.schema(), tableId.table()));
+            if (replicaIdentity == null) {
+                LOGGER.warn("Cannot determine REPLICA IDENTITY info for '{}'", tableId);
+            }
+            else {
+                LOGGER.info("REPLICA IDENTITY for '{}' is '{}'; {}", tableId, replicaIdentity, replicaIdentity.description());
+            }
         }
     }
 
@@ -130,7 +150,8 @@ private void printReplicaIdentityInfo(PostgresConnection connection, TableId tab
      */
     protected void refresh(PostgresConnection connection, TableId tableId, boolean refreshToastableColumns) throws SQLException {
         Tables temp = new Tables();
-        connection.readSchema(temp, null, null, tableId::equals, null, true);
+        // the names are used as patterns, so more tables than the requested one may be read and filtered out
+        connection.readSchema(temp, null, tableId.schema(), tableId.table(), tableId::equals, null, true);
 
         // the table could be deleted before the event was processed
         if (temp.size() == 0) {
@@ -204,15 +225,9 @@ private void refreshToastableColumnsMap(PostgresConnection connection, TableId t
         List<String> toastableColumns = new ArrayList<>();
         String relName = tableId.table();
         String schema = tableId.schema() != null && tableId.schema().length() > 0 ? tableId.schema() : "public";
-        String statement = "select att.attname" +
-                " from pg_attribute att " +
-                " join pg_class tbl on tbl.oid = att.attrelid" +
-                " join pg_namespace ns on tbl.relnamespace = ns.oid" +
-                " where tbl.relname = ?" +
-                " and ns.nspname = ?" +
-                " and att.attnum > 0" +
-                " and att.attstorage in ('x', 'e', 'm')" +
-                " and not att.attisdropped;";
+        String statement = SQL_TOASTABLE_COLUMNS +
+                " and tbl.relname = ?" +
+                " and ns.nspname = ?";
 
         try {
             connection.prepareQuery(statement, stmt -> {
@@ -220,7 +235,7 @@ private void refreshToastableColumnsMap(PostgresConnection connection, TableId t
                 stmt.setString(2, schema);
             }, rs -> {
                 while (rs.next()) {
-                    toastableColumns.add(rs.getString(1));
+                    toastableColumns.add(rs.getString(3));
                 }
             });
             if (!connection.connection().getAutoCommit()) {
@@ -234,6 +249,39 @@ private void refreshToastableColumnsMap(PostgresConnection connection, TableId t
         tableIdToToastableColumns.put(tableId, Collections.unmodifiableList(toastableColumns));
     }
 
+    /**
+     * Populates the list of 'toastable' columns for all known tables with a single query, see
+     * {@link #refreshToastableColumnsMap(PostgresConnection, TableId)}.
+     */
+    private void refreshToastableColumnsMap(PostgresConnection connection) {
+        final Map<TableId, List<String>> toastableColumnsByTable = new HashMap<>();
+        for (TableId tableId : tableIds()) {
+            toastableColumnsByTable.put(new TableId(null, tableId.schema(), tableId.table()), new ArrayList<>());
+        }
+
+        try {
+            connection.query(SQL_TOASTABLE_COLUMNS, rs -> {
+                while (rs.next()) {
+                    final List<String> toastableColumns = toastableColumnsByTable.get(new TableId(null, rs.getString(1), rs.getString(2)));
+                    if (toastableColumns != null) {
+                        toastableColumns.add(rs.getString(3));
+                    }
+                }
+            });
+            if (!connection.connection().getAutoCommit()) {
+                connection.connection().commit();
+            }
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Unable to refresh toastable columns mapping", e);
+        }
+
+        for (TableId tableId : tableIds()) {
+            final List<String> toastableColumns = toastableColumnsByTable.get(new TableId(null, tableId.schema(), tableId.table()));
+            tableIdToToastableColumns.put(tableId, Collections.unmodifiableList(toastableColumns));
+        }
+    }
+
     protected static TableId parse(String table) {
         TableId tableId = TableId.parse(table, false);
         if (tableId == null) {
@@ -250,6 +298,17 @@ public List<String> getToastableColumnsForTableId(TableId tableId) {
         return tableIdToToastableColumns.getOrDefault(tableId, Collections.emptyList());
     }
 
+    /**
+     * Whether the toastable columns of a table need to be refreshed along with the table.
+     */
+    protected boolean isReadToastableColumns() {
+        return readToastableColumns;
+    }
+
+    public ToastedValueCache getToastedValueCache() {
+        return toastedValueCache;
+    }
+
     /**
      * Applies schema changes for the specified table.
      *
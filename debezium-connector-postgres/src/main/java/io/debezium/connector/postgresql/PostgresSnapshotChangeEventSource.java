@@ -8,7 +8,11 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,14 +21,17 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotReadMode;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.connector.postgresql.spi.Snapshotter;
 import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.Column;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
@@ -38,6 +45,16 @@ public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeE
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSnapshotChangeEventSource.class);
 
+    /**
+     * The minimum estimated number of rows of each part a table is split into when it is read by multiple snapshot
+     * reader connections.
+     */
+    private static final long MIN_ROWS_PER_CHUNK = 100_000;
+
+    private static final String SQL_ESTIMATED_ROW_COUNT = "SELECT c.reltuples FROM pg_catalog.pg_class c "
+            + "JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE n.nspname = ? AND c.relname = ?";
+
     private final PostgresConnectorConfig connectorConfig;
     private final PostgresConnection jdbcConnection;
     private final PostgresSchema schema;
@@ -45,6 +62,7 @@ public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeE
     private final SlotCreationResult slotCreatedInfo;
     private final SlotState startingSlotInfo;
     private final PostgresOffsetContext previousOffset;
+    private String exportedSnapshotId;
 
     public PostgresSnapshotChangeEventSource(PostgresConnectorConfig connectorConfig, Snapshotter snapshotter, PostgresOffsetContext previousOffset,
                                              PostgresConnection jdbcConnection, PostgresSchema schema, EventDispatcher<TableId> dispatcher, Clock clock,
@@ -231,6 +249,15 @@ protected Optional<String> getSnapshotSelect(RelationalSnapshotContext snapshotC
         return snapshotter.buildSnapshotQuery(tableId);
     }
 
+    @Override
+    protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext snapshotContext, TableId tableId, Object[] row) {
+        final ToastedValueCache toastedValueCache = schema.getToastedValueCache();
+        if (toastedValueCache.isEnabled()) {
+            toastedValueCache.update(schema.tableFor(tableId), row, schema.getToastableColumnsForTableId(tableId));
+        }
+        return super.getChangeRecordEmitter(snapshotContext, tableId, row);
+    }
+
     @Override
     protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
         try {
@@ -289,6 +316,106 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         }
     }
 
+    /**
+     * Opens a connection whose transaction imports the snapshot of the snapshot transaction, so that all the reader
+     * connections see exactly the same data as the snapshot connection.
+     */
+    @Override
+    protected JdbcConnection createSnapshotReaderConnection(RelationalSnapshotContext snapshotContext) throws SQLException {
+        if (exportedSnapshotId == null) {
+            exportedSnapshotId = jdbcConnection.queryAndMap("SELECT pg_export_snapshot()", rs -> rs.next() ? rs.getString(1) : null);
+            LOGGER.info("Exported snapshot '{}' for snapshot reader connections", exportedSnapshotId);
+        }
+        final PostgresConnection reader = new PostgresConnection(connectorConfig.jdbcConfig());
+        try {
+            reader.setAutoCommit(false);
+            reader.executeWithoutCommitting(
+                    "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY;",
+                    "SET TRANSACTION SNAPSHOT '" + exportedSnapshotId + "';");
+        }
+        catch (SQLException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * Splits tables with a single-column integer primary key into ranges of that key, if their estimated number of
+     * rows is large enough for being read in parallel.
+     */
+    @Override
+    protected List<String> getSnapshotSelectChunks(RelationalSnapshotContext snapshotContext, Table table, String select, int readerCount)
+            throws SQLException {
+        final List<Column> pkColumns = table.primaryKeyColumns();
+        if (pkColumns.size() != 1 || !isIntegerType(pkColumns.get(0))) {
+            return Collections.singletonList(select);
+        }
+        final TableId tableId = table.id();
+        final long estimatedRows = jdbcConnection.prepareQueryAndMap(SQL_ESTIMATED_ROW_COUNT,
+                statement -> {
+                    statement.setString(1, tableId.schema());
+                    statement.setString(2, tableId.table());
+                },
+                rs -> rs.next() ? rs.getLong(1) : 0);
+        final int chunkCount = (int) Math.min(readerCount, estimatedRows / MIN_ROWS_PER_CHUNK);
+        if (chunkCount <= 1) {
+            return Collections.singletonList(select);
+        }
+
+        final String pk = quote(pkColumns.get(0).name());
+        final long[] range = jdbcConnection.queryAndMap("SELECT min(" + pk + "), max(" + pk + ") FROM " + tableId.toDoubleQuotedString(),
+                rs -> rs.next() && rs.getObject(1) != null ? new long[]{ rs.getLong(1), rs.getLong(2) } : null);
+        // the difference overflows for key ranges spanning more than the range of BIGINT
+        if (range == null || range[1] - range[0] < chunkCount) {
+            return Collections.singletonList(select);
+        }
+
+        final long step = (range[1] - range[0]) / chunkCount;
+        final List<String> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            final StringBuilder chunk = new StringBuilder("SELECT * FROM (").append(select).append(") AS chunk WHERE ");
+            if (i > 0) {
+                chunk.append(pk).append(" >= ").append(range[0] + step * i);
+            }
+            if (i > 0 && i < chunkCount - 1) {
+                chunk.append(" AND ");
+            }
+            if (i < chunkCount - 1) {
+                chunk.append(pk).append(" < ").append(range[0] + step * (i + 1));
+            }
+            chunks.add(chunk.toString());
+        }
+        return chunks;
+    }
+
+    @Override
+    protected SnapshotRowReader createSnapshotRowReader(JdbcConnection connection, Table table, String selectStatement) throws SQLException {
+        if (connectorConfig.snapshotReadMode() == SnapshotReadMode.BINARY_COPY) {
+            final SnapshotRowReader rowReader = PostgresBinaryCopyRowReader.create(connection, schema.getTypeRegistry(), table, selectStatement);
+            if (rowReader != null) {
+                return rowReader;
+            }
+            LOGGER.info("Table '{}' has columns of types not supported by binary COPY, reading it via JDBC", table.id());
+        }
+        return super.createSnapshotRowReader(connection, table, selectStatement);
+    }
+
+    private static boolean isIntegerType(Column column) {
+        switch (column.jdbcType()) {
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String quote(String columnName) {
+        return '"' + columnName.replace("\"", "\"\"") + '"';
+    }
+
     protected void setSnapshotTransactionIsolationLevel() throws SQLException {
         LOGGER.info("Setting isolation level");
         String transactionStatement = snapshotter.snapshotTransactionIsolationLevelStatement(slotCreatedInfo);
@@ -179,84 +179,97 @@ private void processMessages(ChangeEventSourceContext context, final Replication
             throws SQLException, InterruptedException {
         LOGGER.info("Processing messages");
         int noMessageIterations = 0;
-        while (context.isRunning() && (offsetContext.getStreamingStoppingLsn() == null ||
-                (lastCompletelyProcessedLsn.compareTo(offsetContext.getStreamingStoppingLsn()) < 0))) {
+        // the events are handed over to the queue per transaction, or when no further messages are pending
+        dispatcher.startBatch();
+        try {
+            while (context.isRunning() && (offsetContext.getStreamingStoppingLsn() == null ||
+                    (lastCompletelyProcessedLsn.compareTo(offsetContext.getStreamingStoppingLsn()) < 0))) {
 
-            boolean receivedMessage = stream.readPending(message -> {
-                final Lsn lsn = stream.lastReceivedLsn();
+                boolean receivedMessage = stream.readPending(message -> {
+                    final Lsn lsn = stream.lastReceivedLsn();
 
-                if (message.isLastEventForLsn()) {
-                    lastCompletelyProcessedLsn = lsn;
-                }
+                    if (message.isLastEventForLsn()) {
+                        lastCompletelyProcessedLsn = lsn;
+                    }
 
-                // Tx BEGIN/END event
-                if (message.isTransactionalMessage()) {
-                    if (!connectorConfig.shouldProvideTransactionMetadata()) {
-                        LOGGER.trace("Received transactional message {}", message);
-                        // Don't skip on BEGIN message as it would flush LSN for the whole transaction
-                        // too early
-                        if (message.getOperation() == Operation.COMMIT) {
+                    // Tx BEGIN/END event
+                    if (message.isTransactionalMessage()) {
+                        if (!connectorConfig.shouldProvideTransactionMetadata()) {
+                            LOGGER.trace("Received transactional message {}", message);
+                            // Don't skip on BEGIN message as it would flush LSN for the whole transaction
+                            // too early
+                            if (message.getOperation() == Operation.COMMIT) {
+                                commitMessage(lsn);
+                                dispatcher.flushBatch();
+                            }
+                            return;
+                        }
+
+                        offsetContext.updateWalPosition(lsn, lastCompletelyProcessedLsn, message.getCommitTime(), message.getTransactionId(), null,
+                                taskContext.getSlotXmin(connection));
+                        if (message.getOperation() == Operation.BEGIN) {
+                            dispatcher.dispatchTransactionStartedEvent(Long.toString(message.getTransactionId()), offsetContext);
+                        }
+                        else if (message.getOperation() == Operation.COMMIT) {
                             commitMessage(lsn);
+                            dispatcher.dispatchTransactionCommittedEvent(offsetContext);
+                            dispatcher.flushBatch();
                         }
-                        return;
+                        maybeWarnAboutGrowingWalBacklog(true);
                     }
+                    // DML event
+                    else {
+                        TableId tableId = null;
+                        if (message.getOperation() != Operation.NOOP) {
+                            tableId = PostgresSchema.parse(message.getTable());
+                            Objects.requireNonNull(tableId);
+                        }
 
-                    offsetContext.updateWalPosition(lsn, lastCompletelyProcessedLsn, message.getCommitTime(), message.getTransactionId(), null,
-                            taskContext.getSlotXmin(connection));
-                    if (message.getOperation() == Operation.BEGIN) {
-                        dispatcher.dispatchTransactionStartedEvent(Long.toString(message.getTransactionId()), offsetContext);
-                    }
-                    else if (message.getOperation() == Operation.COMMIT) {
-                        commitMessage(lsn);
-                        dispatcher.dispatchTransactionCommittedEvent(offsetContext);
-                    }
-                    maybeWarnAboutGrowingWalBacklog(true);
-                }
-                // DML event
-                else {
-                    TableId tableId = null;
-                    if (message.getOperation() != Operation.NOOP) {
-                        tableId = PostgresSchema.parse(message.getTable());
-                        Objects.requireNonNull(tableId);
-                    }
+                        offsetContext.updateWalPosition(lsn, lastCompletelyProcessedLsn, message.getCommitTime(), message.getTransactionId(), tableId,
+                                taskContext.getSlotXmin(connection));
 
-                    offsetContext.updateWalPosition(lsn, lastCompletelyProcessedLsn, message.getCommitTime(), message.getTransactionId(), tableId,
-                            taskContext.getSlotXmin(connection));
+                        boolean dispatched = message.getOperation() != Operation.NOOP && dispatcher.dispatchDataChangeEvent(
+                                tableId,
+                                new PostgresChangeRecordEmitter(
+                                        offsetContext,
+                                        clock,
+                                        connectorConfig,
+                                        schema,
+                                        connection,
+                                        message));
 
-                    boolean dispatched = message.getOperation() != Operation.NOOP && dispatcher.dispatchDataChangeEvent(
-                            tableId,
-                            new PostgresChangeRecordEmitter(
-                                    offsetContext,
-                                    clock,
-                                    connectorConfig,
-                                    schema,
-                                    connection,
-                                    message));
+                        maybeWarnAboutGrowingWalBacklog(dispatched);
+                    }
+                });
 
-                    maybeWarnAboutGrowingWalBacklog(dispatched);
+                if (receivedMessage) {
+                    noMessageIterations = 0;
                 }
-            });
-
-            if (receivedMessage) {
-                noMessageIterations = 0;
-            }
-            else {
-                if (offsetContext.hasCompletelyProcessedPosition()) {
-                    dispatcher.dispatchHeartbeatEvent(offsetContext);
+                else {
+                    if (offsetContext.hasCompletelyProcessedPosition()) {
+                        dispatcher.dispatchHeartbeatEvent(offsetContext);
+                    }
+                    // hand over the pending events including the heartbeat, as no further ones may arrive for a while
+                    dispatcher.flushBatch();
+                    noMessageIterations++;
+                    if (noMessageIterations >= THROTTLE_NO_MESSAGE_BEFORE_PAUSE) {
+                        noMessageIterations = 0;
+                        pauseNoMessage.sleepWhen(true);
+                    }
                 }
-                noMessageIterations++;
-                if (noMessageIterations >= THROTTLE_NO_MESSAGE_BEFORE_PAUSE) {
-                    noMessageIterations = 0;
-                    pauseNoMessage.sleepWhen(true);
+                if (!isInPreSnapshotCatchUpStreaming()) {
+                    // During catch up streaming, the streaming phase needs to hold a transaction open so that
+                    // the phase can stream event up to a specific lsn and the snapshot that occurs after the catch up
+                    // streaming will not lose the current view of data. Since we need to hold the transaction open
+                    // for the snapshot, this block must not commit during catch up streaming.
+                    connection.commit();
                 }
             }
-            if (!isInPreSnapshotCatchUpStreaming()) {
-                // During catch up streaming, the streaming phase needs to hold a transaction open so that
-                // the phase can stream event up to a specific lsn and the snapshot that occurs after the catch up
-                // streaming will not lose the current view of data. Since we need to hold the transaction open
-                // for the snapshot, this block must not commit during catch up streaming.
-                connection.commit();
-            }
+            dispatcher.completeBatch();
+        }
+        finally {
+            // the events of a batch interrupted by a failure are not handed over
+            dispatcher.abortBatch();
         }
     }
 
@@ -41,7 +41,7 @@ public class PostgresTaskContext extends CdcSourceTaskContext {
     private Long lastXmin;
 
     protected PostgresTaskContext(PostgresConnectorConfig config, PostgresSchema schema, TopicSelector<TableId> topicSelector) {
-        super(config.getContextName(), config.getLogicalName(), Collections::emptySet);
+        super(config.getContextName(), config.getTaskName(), Collections::emptySet);
 
         this.config = config;
         if (config.xminFetchInterval().toMillis() > 0) {
@@ -65,6 +65,10 @@ protected PostgresConnectorConfig config() {
     }
 
     protected void refreshSchema(PostgresConnection connection, boolean printReplicaIdentityInfo) throws SQLException {
+        if (config.schemaLoadMode() == PostgresConnectorConfig.SchemaLoadMode.LAZY) {
+            LOGGER.info("Table schemas will be read upon the first change event for each table");
+            return;
+        }
         schema.refresh(connection, printReplicaIdentityInfo);
     }
 
@@ -0,0 +1,259 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.metrics.Metrics;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * A bounded, least recently used cache of the values of toastable columns, keyed by table, primary key and column.
+ * <p>
+ * Logical decoding does not provide the value of a TOASTed column which is not changed by an update, unless the table
+ * has {@code REPLICA IDENTITY FULL}. Such values are emitted as the {@link PostgresConnectorConfig#TOASTED_VALUE_PLACEHOLDER
+ * placeholder}, unless they are found in this cache, which is populated with the values of the toastable columns of
+ * the rows read during the snapshot as well as of inserted and updated rows. Only textual and binary values of tables
+ * with a primary key are cached; the size of the cache is bounded by the estimated memory used by these values.
+ */
+@ThreadSafe
+public class ToastedValueCache extends Metrics implements ToastedValueCacheMXBean {
+
+    /**
+     * The estimated memory used for each cached value besides the value itself, i.e. the map entry and the key.
+     */
+    private static final long ENTRY_OVERHEAD = 96;
+    private static final long STRING_OVERHEAD = 56;
+    private static final long BYTE_ARRAY_OVERHEAD = 16;
+
+    private final long maxCachedBytes;
+    private final LinkedHashMap<Key, Object> values = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long cachedBytes;
+
+    public ToastedValueCache(PostgresConnectorConfig connectorConfig) {
+        super(connectorConfig, connectorConfig.getTaskName(), "toasted-value-cache");
+        this.maxCachedBytes = connectorConfig.toastedValueCacheMaxBytes();
+    }
+
+    public boolean isEnabled() {
+        return maxCachedBytes > 0;
+    }
+
+    /**
+     * Replaces the {@link UnchangedToastedReplicationMessageColumn#UNCHANGED_TOAST_VALUE unchanged toasted values} of
+     * the given row by the cached values, if present, and caches the other values of its toastable columns.
+     *
+     * @param table the table of the row
+     * @param row the values of the row, indexed by column position
+     * @param toastableColumns the names of the toastable columns of the table
+     */
+    public void update(Table table, Object[] row, List<String> toastableColumns) {
+        if (!isEnabled() || toastableColumns.isEmpty()) {
+            return;
+        }
+        final List<String> rowKey = rowKey(table, row);
+        if (rowKey == null) {
+            return;
+        }
+        synchronized (this) {
+            for (String columnName : toastableColumns) {
+                final int position = position(table, columnName, row);
+                if (position == -1) {
+                    continue;
+                }
+                final Key key = new Key(table.id(), rowKey, columnName);
+                final Object value = row[position];
+                if (value == UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE) {
+                    final Object cached = values.get(key);
+                    if (cached != null) {
+                        hits.incrementAndGet();
+                        row[position] = cached;
+                    }
+                    else {
+                        misses.incrementAndGet();
+                    }
+                }
+                else if (value instanceof String || value instanceof byte[]) {
+                    put(key, value);
+                }
+                else {
+                    remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the cached values of the given row, e.g. after it has been deleted.
+     *
+     * @param table the table of the row
+     * @param row the values of the row, indexed by column position; only its primary key values are required
+     * @param toastableColumns the names of the toastable columns of the table
+     */
+    public void remove(Table table, Object[] row, List<String> toastableColumns) {
+        if (!isEnabled() || toastableColumns.isEmpty()) {
+            return;
+        }
+        final List<String> rowKey = rowKey(table, row);
+        if (rowKey == null) {
+            return;
+        }
+        synchronized (this) {
+            for (String columnName : toastableColumns) {
+                remove(new Key(table.id(), rowKey, columnName));
+            }
+        }
+    }
+
+    private void put(Key key, Object value) {
+        final long size = size(key, value);
+        if (size > maxCachedBytes) {
+            remove(key);
+            return;
+        }
+        final Object previous = values.put(key, value);
+        cachedBytes += size;
+        if (previous != null) {
+            cachedBytes -= size(key, previous);
+        }
+
+        final Iterator<Map.Entry<Key, Object>> eldest = values.entrySet().iterator();
+        while (cachedBytes > maxCachedBytes && eldest.hasNext()) {
+            final Map.Entry<Key, Object> entry = eldest.next();
+            cachedBytes -= size(entry.getKey(), entry.getValue());
+            eldest.remove();
+        }
+    }
+
+    private void remove(Key key) {
+        final Object previous = values.remove(key);
+        if (previous != null) {
+            cachedBytes -= size(key, previous);
+        }
+    }
+
+    /**
+     * Returns the primary key values of the given row in their textual form, so that the same key is obtained from the
+     * values read during the snapshot and during streaming, even if they are of different types.
+     */
+    private static List<String> rowKey(Table table, Object[] row) {
+        final List<Column> pkColumns = table.primaryKeyColumns();
+        if (pkColumns.isEmpty()) {
+            return null;
+        }
+        final List<String> rowKey = new ArrayList<>(pkColumns.size());
+        for (Column column : pkColumns) {
+            final int position = column.position() - 1;
+            if (position < 0 || position >= row.length || row[position] == null) {
+                return null;
+            }
+            final Object value = row[position];
+            rowKey.add(value instanceof byte[] ? Arrays.toString((byte[]) value) : value.toString());
+        }
+        return rowKey;
+    }
+
+    private static int position(Table table, String columnName, Object[] row) {
+        final Column column = table.columnWithName(columnName);
+        if (column == null || column.position() < 1 || column.position() > row.length) {
+            return -1;
+        }
+        return column.position() - 1;
+    }
+
+    private static long size(Key key, Object value) {
+        long size = ENTRY_OVERHEAD + 2L * key.column.length();
+        for (String keyValue : key.rowKey) {
+            size += 2L * keyValue.length();
+        }
+        if (value instanceof String) {
+            return size + STRING_OVERHEAD + 2L * ((String) value).length();
+        }
+        return size + BYTE_ARRAY_OVERHEAD + ((byte[]) value).length;
+    }
+
+    @Override
+    public long getCacheHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public double getCacheHitRate() {
+        final long hits = this.hits.get();
+        final long lookups = hits + misses.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized long getNumberOfCachedValues() {
+        return values.size();
+    }
+
+    @Override
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    @Override
+    public long getMaxCachedBytes() {
+        return maxCachedBytes;
+    }
+
+    @Override
+    public void reset() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static final class Key {
+
+        private final TableId tableId;
+        private final List<String> rowKey;
+        private final String column;
+        private final int hashCode;
+
+        Key(TableId tableId, List<String> rowKey, String column) {
+            this.tableId = tableId;
+            this.rowKey = rowKey;
+            this.column = column;
+            this.hashCode = Objects.hash(tableId, rowKey, column);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && tableId.equals(other.tableId) && column.equals(other.column) && rowKey.equals(other.rowKey);
+        }
+    }
+}
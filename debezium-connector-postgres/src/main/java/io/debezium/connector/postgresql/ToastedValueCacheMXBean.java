@@ -0,0 +1,38 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+/**
+ * Metrics of the {@link ToastedValueCache}.
+ */
+public interface ToastedValueCacheMXBean {
+
+    /**
+     * @return the number of unchanged toasted values which were replaced by a cached value
+     */
+    long getCacheHits();
+
+    /**
+     * @return the number of unchanged toasted values for which no value was cached
+     */
+    long getCacheMisses();
+
+    /**
+     * @return the ratio of cache hits to all lookups, or 0 if there were no lookups yet
+     */
+    double getCacheHitRate();
+
+    long getNumberOfCachedValues();
+
+    /**
+     * @return the estimated heap memory used by the cached values and their keys
+     */
+    long getCachedBytes();
+
+    long getMaxCachedBytes();
+
+    void reset();
+}
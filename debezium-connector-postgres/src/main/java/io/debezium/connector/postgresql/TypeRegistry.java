@@ -18,6 +18,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.core.BaseConnection;
@@ -95,8 +96,9 @@ private static Map<String, String> getLongTypeNames() {
         return longTypeNames;
     }
 
-    private final Map<String, PostgresType> nameToType = new HashMap<>();
-    private final Map<Integer, PostgresType> oidToType = new HashMap<>();
+    // types may be looked up concurrently by the snapshot reader threads
+    private final Map<String, PostgresType> nameToType = new ConcurrentHashMap<>();
+    private final Map<Integer, PostgresType> oidToType = new ConcurrentHashMap<>();
 
     private final PostgresConnection connection;
 
@@ -368,7 +370,7 @@ else if (CATEGORY_ARRAY.equals(category)) {
         return builder.parentType(parentTypeOid);
     }
 
-    private PostgresType resolveUnknownType(String name) {
+    private synchronized PostgresType resolveUnknownType(String name) {
         try {
             LOGGER.trace("Type '{}' not cached, attempting to lookup from database.", name);
             final Connection connection = this.connection.connection();
@@ -383,7 +385,7 @@ private PostgresType resolveUnknownType(String name) {
         }
     }
 
-    private PostgresType resolveUnknownType(int lookupOid) {
+    private synchronized PostgresType resolveUnknownType(int lookupOid) {
         try {
             LOGGER.trace("Type OID '{}' not cached, attempting to lookup from database.", lookupOid);
             final Connection connection = this.connection.connection();
@@ -12,8 +12,13 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.connect.errors.ConnectException;
@@ -48,6 +53,18 @@ public class PostgresConnection extends JdbcConnection {
 
     private static Logger LOGGER = LoggerFactory.getLogger(PostgresConnection.class);
 
+    /**
+     * The primary key columns of all tables in key order, based on the statement used by the JDBC driver for a single table
+     */
+    private static final String SQL_PRIMARY_KEYS = "SELECT n.nspname, ct.relname, a.attname, (i.keys).n AS key_seq "
+            + "FROM pg_catalog.pg_class ct "
+            + "JOIN pg_catalog.pg_attribute a ON (ct.oid = a.attrelid) "
+            + "JOIN pg_catalog.pg_namespace n ON (ct.relnamespace = n.oid) "
+            + "JOIN (SELECT i.indrelid, i.indisprimary, information_schema._pg_expandarray(i.indkey) AS keys FROM pg_catalog.pg_index i) i "
+            + "ON (a.attnum = (i.keys).x AND a.attrelid = i.indrelid) "
+            + "WHERE i.indisprimary "
+            + "ORDER BY n.nspname, ct.relname, key_seq";
+
     private static final String URL_PATTERN = "jdbc:postgresql://${" + JdbcConfiguration.HOSTNAME + "}:${"
             + JdbcConfiguration.PORT + "}/${" + JdbcConfiguration.DATABASE + "}";
     protected static final ConnectionFactory FACTORY = JdbcConnection.patternBasedFactory(URL_PATTERN,
@@ -123,6 +140,25 @@ public ServerInfo.ReplicaIdentity readReplicaIdentityInfo(TableId tableId) throw
         return ServerInfo.ReplicaIdentity.parseFromDB(replIdentity.toString());
     }
 
+    /**
+     * Query the replica identity of all tables of the database with a single statement.
+     *
+     * @return the replica identity by table; never null
+     * @throws SQLException if there is a problem obtaining the replica identity information
+     */
+    public Map<TableId, ServerInfo.ReplicaIdentity> readReplicaIdentityInfo() throws SQLException {
+        String statement = "SELECT n.nspname, c.relname, c.relreplident FROM pg_catalog.pg_class c " +
+                "LEFT JOIN pg_catalog.pg_namespace n ON c.relnamespace=n.oid " +
+                "WHERE c.relkind IN ('r', 'p')";
+        Map<TableId, ServerInfo.ReplicaIdentity> replicaIdentities = new HashMap<>();
+        query(statement, rs -> {
+            while (rs.next()) {
+                replicaIdentities.put(new TableId(null, rs.getString(1), rs.getString(2)), ServerInfo.ReplicaIdentity.parseFromDB(rs.getString(3)));
+            }
+        });
+        return replicaIdentities;
+    }
+
     /**
      * Returns the current state of the replication slot
      * @param slotName the name of the slot
@@ -444,6 +480,38 @@ private static void validateServerVersion(Statement statement) throws SQLExcepti
         }
     }
 
+    /**
+     * Reads the primary keys of all tables with a single statement instead of one metadata query per table, which
+     * dominates the time needed for reading the schema of databases with many tables. Unique indices are only read
+     * for the tables without primary key.
+     */
+    @Override
+    protected Map<TableId, List<String>> readPrimaryKeyOrUniqueIndexNames(DatabaseMetaData metadata, Set<TableId> tableIds) throws SQLException {
+        if (tableIds.size() <= 1) {
+            return super.readPrimaryKeyOrUniqueIndexNames(metadata, tableIds);
+        }
+        final Map<TableId, TableId> tableIdsByName = new HashMap<>();
+        for (TableId id : tableIds) {
+            tableIdsByName.put(new TableId(null, id.schema(), id.table()), id);
+        }
+
+        final Map<TableId, List<String>> pkColumnNamesByTable = new HashMap<>();
+        query(SQL_PRIMARY_KEYS, rs -> {
+            while (rs.next()) {
+                final TableId id = tableIdsByName.get(new TableId(null, rs.getString(1), rs.getString(2)));
+                if (id != null) {
+                    pkColumnNamesByTable.computeIfAbsent(id, x -> new ArrayList<>()).add(rs.getString(3));
+                }
+            }
+        });
+        for (TableId id : tableIds) {
+            if (!pkColumnNamesByTable.containsKey(id)) {
+                pkColumnNamesByTable.put(id, readTableUniqueIndices(metadata, id));
+            }
+        }
+        return pkColumnNamesByTable;
+    }
+
     @Override
     protected int resolveNativeType(String typeName) {
         return getTypeRegistry().get(typeName).getRootType().getOid();
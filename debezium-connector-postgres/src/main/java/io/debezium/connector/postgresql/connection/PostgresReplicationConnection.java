@@ -154,12 +154,19 @@ protected void initPublication() {
                                 case FILTERED:
                                     try {
                                         Set<TableId> tablesToCapture = determineCapturedTables();
+                                        if (tablesToCapture.isEmpty()) {
+                                            throw new ConnectException(String.format("Unable to create filtered publication %s, as no captured tables exist; "
+                                                    + "when using shards, make sure that each shard is assigned at least one table", publicationName));
+                                        }
                                         tableFilterString = tablesToCapture.stream().map(TableId::toDoubleQuotedString).collect(Collectors.joining(", "));
                                         createPublicationStmt = String.format("CREATE PUBLICATION %s FOR TABLE %s;", publicationName, tableFilterString);
                                         LOGGER.info("Creating Publication with statement '{}'", createPublicationStmt);
                                         // Publication doesn't exist, create it but restrict to the tableFilter.
                                         stmt.execute(createPublicationStmt);
                                     }
+                                    catch (ConnectException e) {
+                                        throw e;
+                                    }
                                     catch (Exception e) {
                                         throw new ConnectException(String.format("Unable to create filtered publication %s for %s", publicationName, tableFilterString),
                                                 e);
@@ -10,7 +10,7 @@
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.List;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
@@ -23,11 +23,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
 import io.debezium.connector.postgresql.connection.TransactionMessage;
-import io.debezium.document.Array;
-import io.debezium.document.Array.Entry;
-import io.debezium.document.Document;
-import io.debezium.document.DocumentReader;
-import io.debezium.document.Value;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChangeParser.Wal2JsonTransaction;
 
 /**
  * A non-streaming version of JSON deserialization of a message sent by
@@ -43,6 +39,7 @@ public class NonStreamingWal2JsonMessageDecoder extends AbstractMessageDecoder {
     private static final Logger LOGGER = LoggerFactory.getLogger(NonStreamingWal2JsonMessageDecoder.class);
 
     private final DateTimeFormat dateTime = DateTimeFormat.get();
+    private final Wal2JsonChangeParser parser = new Wal2JsonChangeParser();
     private boolean containsMetadata = false;
 
     public NonStreamingWal2JsonMessageDecoder(MessageDecoderConfig config) {
@@ -57,12 +54,14 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
             }
             final byte[] source = buffer.array();
             final byte[] content = Arrays.copyOfRange(source, buffer.arrayOffset(), source.length);
-            LOGGER.trace("Message arrived for decoding {}", new String(content));
-            final Document message = DocumentReader.floatNumbersAsTextReader().read(content);
-            final long txId = message.getLong("xid");
-            final String timestamp = message.getString("timestamp");
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Message arrived for decoding {}", new String(content));
+            }
+            final Wal2JsonTransaction message = parser.readTransaction(content);
+            final long txId = message.getXid();
+            final String timestamp = message.getTimestamp();
             final Instant commitTime = dateTime.systemTimestampToInstant(timestamp);
-            final Array changes = message.getArray("change");
+            final List<Wal2JsonChange> changes = message.getChanges();
 
             // WAL2JSON may send empty changes that still have a txid. These events are from things like vacuum,
             // materialized view, DDL, etc. They still need to be processed for the heartbeat to fire.
@@ -71,11 +70,10 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
                 processor.process(new TransactionMessage(Operation.COMMIT, txId, commitTime));
             }
             else {
-                Iterator<Entry> it = changes.iterator();
                 processor.process(new TransactionMessage(Operation.BEGIN, txId, commitTime));
-                while (it.hasNext()) {
-                    Value value = it.next().getValue();
-                    processor.process(new Wal2JsonReplicationMessage(txId, commitTime, value.asDocument(), containsMetadata, !it.hasNext(), typeRegistry));
+                for (int i = 0; i < changes.size(); i++) {
+                    final boolean lastEventForLsn = i == changes.size() - 1;
+                    processor.process(new Wal2JsonReplicationMessage(txId, commitTime, changes.get(i), containsMetadata, lastEventForLsn, typeRegistry));
                 }
                 processor.process(new TransactionMessage(Operation.COMMIT, txId, commitTime));
             }
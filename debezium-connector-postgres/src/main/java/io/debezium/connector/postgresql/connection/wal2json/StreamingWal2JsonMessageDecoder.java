@@ -23,8 +23,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
 import io.debezium.connector.postgresql.connection.TransactionMessage;
-import io.debezium.document.Document;
-import io.debezium.document.DocumentReader;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChangeParser.Wal2JsonTransaction;
 
 /**
  * <p>JSON deserialization of a message sent by
@@ -96,6 +95,7 @@ public class StreamingWal2JsonMessageDecoder extends AbstractMessageDecoder {
     private static final long UNDEFINED_LONG = -1;
 
     private final DateTimeFormat dateTime = DateTimeFormat.get();
+    private final Wal2JsonChangeParser parser = new Wal2JsonChangeParser();
     private boolean containsMetadata = false;
     private boolean messageInProgress = false;
 
@@ -143,16 +143,16 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
                         content[lastPos - 1] = RIGHT_BRACKET;
                         content[lastPos] = RIGHT_BRACE;
                     }
-                    final Document message = DocumentReader.defaultReader().read(content);
-                    if (message.has("kind")) {
+                    final Wal2JsonTransaction message = parser.readTransactionHeader(content);
+                    if (message == null) {
                         // This is not a preamble but out-of-order change chunk
                         outOfOrderChunk(content);
                         nonInitialChunk(processor, typeRegistry, content);
                     }
                     else {
                         // Correct initial chunk
-                        txId = message.getLong("xid");
-                        final String timestamp = message.getString("timestamp");
+                        txId = message.getXid();
+                        final String timestamp = message.getTimestamp();
                         commitTime = dateTime.systemTimestampToInstant(timestamp);
                         messageInProgress = true;
                         currentChunk = null;
@@ -253,7 +253,7 @@ private boolean isWhitespace(byte c) {
     private void doProcessMessage(ReplicationMessageProcessor processor, TypeRegistry typeRegistry, byte[] content, boolean lastMessage)
             throws IOException, SQLException, InterruptedException {
         if (content != null) {
-            final Document change = DocumentReader.floatNumbersAsTextReader().read(content);
+            final Wal2JsonChange change = parser.readChange(content);
             LOGGER.trace("Change arrived for decoding {}", change);
             processor.process(new Wal2JsonReplicationMessage(txId, commitTime, change, containsMetadata, lastMessage, typeRegistry));
         }
@@ -0,0 +1,204 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
+
+/**
+ * A single change as sent by the wal2json logical decoding plug-in, read by the {@link Wal2JsonChangeParser}.
+ */
+@Immutable
+final class Wal2JsonChange {
+
+    private final String kind;
+    private final String schema;
+    private final String table;
+    private final Tuple newTuple;
+    private final Tuple oldKeys;
+
+    Wal2JsonChange(String kind, String schema, String table, Tuple newTuple, Tuple oldKeys) {
+        this.kind = kind;
+        this.schema = schema;
+        this.table = table;
+        this.newTuple = newTuple;
+        this.oldKeys = oldKeys;
+    }
+
+    String getKind() {
+        return kind;
+    }
+
+    String getSchema() {
+        return schema;
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    /**
+     * @return the new column values; may be null for deletes
+     */
+    Tuple getNewTuple() {
+        return newTuple;
+    }
+
+    /**
+     * @return the old key values; may be null for inserts
+     */
+    Tuple getOldKeys() {
+        return oldKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "{kind=" + kind + ", schema=" + schema + ", table=" + table + ", new=" + newTuple + ", oldkeys=" + oldKeys + "}";
+    }
+
+    /**
+     * The values of the columns of a row, along with the columns' metadata which is shared by all the changes of a
+     * relation as long as its structure does not change.
+     */
+    @Immutable
+    static final class Tuple {
+
+        private final ColumnMetadata columns;
+        private final Object[] values;
+
+        Tuple(ColumnMetadata columns, Object[] values) {
+            if (columns.size() != values.length) {
+                throw new ConnectException("Column related arrays do not have the same size");
+            }
+            this.columns = columns;
+            this.values = values;
+        }
+
+        ColumnMetadata getColumns() {
+            return columns;
+        }
+
+        /**
+         * Returns the value of the given column as read from the JSON message: a {@code String} for textual and
+         * floating point values, an {@code Integer}, {@code Long} or {@code BigInteger} for integral values, a
+         * {@code Boolean} or {@code null}.
+         */
+        Object getValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        public String toString() {
+            return columns + "=" + Arrays.toString(values);
+        }
+    }
+
+    /**
+     * The names, types and optionality of the columns of a relation.
+     */
+    @Immutable
+    static final class ColumnMetadata {
+
+        private final String[] names;
+        private final String[] typeNames;
+        private final boolean[] optionals;
+        private final String[] baseTypeNames;
+
+        ColumnMetadata(String[] names, String[] typeNames, boolean[] optionals) {
+            if (names.length != typeNames.length) {
+                throw new ConnectException("Column related arrays do not have the same size");
+            }
+            this.names = names;
+            this.typeNames = typeNames;
+            this.optionals = optionals;
+            this.baseTypeNames = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                baseTypeNames[i] = parseType(names[i], typeNames[i]);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        String getName(int index) {
+            return names[index];
+        }
+
+        String getTypeName(int index) {
+            return typeNames[index];
+        }
+
+        /**
+         * @return the type name without modifiers, as used for looking up the type in the {@link TypeRegistry}
+         */
+        String getBaseTypeName(int index) {
+            return baseTypeNames[index];
+        }
+
+        boolean isOptional(int index) {
+            return optionals != null && optionals[index];
+        }
+
+        boolean matches(String[] names, int namesCount, String[] typeNames, int typeNamesCount, boolean[] optionals, int optionalsCount) {
+            return equal(this.names, names, namesCount)
+                    && equal(this.typeNames, typeNames, typeNamesCount)
+                    && (this.optionals == null ? optionals == null : optionals != null && equal(this.optionals, optionals, optionalsCount));
+        }
+
+        private static boolean equal(String[] values, String[] others, int othersCount) {
+            if (values.length != othersCount) {
+                return false;
+            }
+            for (int i = 0; i < othersCount; i++) {
+                if (!values[i].equals(others[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean equal(boolean[] values, boolean[] others, int othersCount) {
+            if (values.length != othersCount) {
+                return false;
+            }
+            for (int i = 0; i < othersCount; i++) {
+                if (values[i] != others[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String parseType(String columnName, String typeWithModifiers) {
+            Matcher m = AbstractReplicationMessageColumn.TypeMetadataImpl.TYPE_PATTERN.matcher(typeWithModifiers);
+            if (!m.matches()) {
+                throw new ConnectException(String.format("Failed to parse columnType '%s' for column %s", typeWithModifiers, columnName));
+            }
+            String baseType = m.group("base").trim();
+            final String suffix = m.group("suffix");
+            if (suffix != null) {
+                baseType += suffix;
+            }
+            baseType = TypeRegistry.normalizeTypeName(baseType);
+            if (m.group("array") != null) {
+                baseType = "_" + baseType;
+            }
+            return baseType;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(names);
+        }
+    }
+}
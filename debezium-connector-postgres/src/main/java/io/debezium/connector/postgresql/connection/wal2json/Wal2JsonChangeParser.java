@@ -0,0 +1,339 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChange.ColumnMetadata;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChange.Tuple;
+
+/**
+ * Reads the JSON messages sent by the wal2json plug-in token by token, without building an intermediary
+ * {@link io.debezium.document.Document} tree.
+ * <p>
+ * Column values are taken directly from the parser tokens; floating point numbers are kept in their textual form
+ * so that no precision is lost before they are converted according to the column type. The column names, types and
+ * optionality of a relation are the same for all of its changes as long as its structure does not change, so they
+ * are kept per relation and reused instead of being allocated and parsed for each change.
+ */
+@NotThreadSafe
+class Wal2JsonChangeParser {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build();
+
+    private final Map<String, ColumnMetadata> newTupleColumns = new HashMap<>();
+    private final Map<String, ColumnMetadata> oldKeysColumns = new HashMap<>();
+    private final ColumnBuffer newTupleBuffer = new ColumnBuffer();
+    private final ColumnBuffer oldKeysBuffer = new ColumnBuffer();
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * Reads a message with all the changes of one transaction as sent in the non-streaming mode.
+     *
+     * @return the transaction; never null
+     */
+    Wal2JsonTransaction readTransaction(byte[] content) throws IOException {
+        final Wal2JsonTransaction transaction = readTransactionHeader(content, true);
+        if (transaction == null) {
+            throw new JsonParseException(null, "Expected a transaction but received a single change");
+        }
+        return transaction;
+    }
+
+    /**
+     * Reads the header of a transaction as sent in the streaming mode, i.e. the transaction's id and timestamp
+     * followed by an empty change array.
+     *
+     * @return the transaction without changes, or {@code null} if the content is a change rather than a transaction
+     */
+    Wal2JsonTransaction readTransactionHeader(byte[] content) throws IOException {
+        return readTransactionHeader(content, false);
+    }
+
+    private Wal2JsonTransaction readTransactionHeader(byte[] content, boolean readChanges) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            Long xid = null;
+            String timestamp = null;
+            List<Wal2JsonChange> changes = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                final JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "kind":
+                        return null;
+                    case "xid":
+                        xid = token == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+                        break;
+                    case "timestamp":
+                        timestamp = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                        break;
+                    case "change":
+                        if (readChanges) {
+                            expect(parser, token, JsonToken.START_ARRAY);
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                changes.add(readChange(parser));
+                            }
+                        }
+                        else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return new Wal2JsonTransaction(xid, timestamp, changes);
+        }
+    }
+
+    /**
+     * Reads a single change as sent in the streaming mode.
+     */
+    Wal2JsonChange readChange(byte[] content) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            parser.nextToken();
+            return readChange(parser);
+        }
+    }
+
+    private Wal2JsonChange readChange(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String kind = null;
+        String schema = null;
+        String table = null;
+        Object[] newValues = null;
+        boolean hasOldKeys = false;
+        Object[] keyValues = null;
+
+        newTupleBuffer.clear();
+        oldKeysBuffer.clear();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            switch (field) {
+                case "kind":
+                    kind = parser.getText();
+                    break;
+                case "schema":
+                    schema = parser.getText();
+                    break;
+                case "table":
+                    table = parser.getText();
+                    break;
+                case "columnnames":
+                    newTupleBuffer.readNames(parser, token);
+                    break;
+                case "columntypes":
+                    newTupleBuffer.readTypeNames(parser, token);
+                    break;
+                case "columnoptionals":
+                    newTupleBuffer.readOptionals(parser, token);
+                    break;
+                case "columnvalues":
+                    newValues = readValues(parser, token);
+                    break;
+                case "oldkeys":
+                    if (token == JsonToken.START_OBJECT) {
+                        hasOldKeys = true;
+                        keyValues = readOldKeys(parser);
+                    }
+                    else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        final String relation = schema + '.' + table;
+        final Tuple newTuple = newTupleBuffer.hasNames ? new Tuple(newTupleBuffer.toMetadata(newTupleColumns, relation), valuesOrEmpty(newValues)) : null;
+        final Tuple oldKeys = hasOldKeys ? new Tuple(oldKeysBuffer.toMetadata(oldKeysColumns, relation), valuesOrEmpty(keyValues)) : null;
+        return new Wal2JsonChange(kind, schema, table, newTuple, oldKeys);
+    }
+
+    private Object[] readOldKeys(JsonParser parser) throws IOException {
+        Object[] keyValues = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            switch (field) {
+                case "keynames":
+                    oldKeysBuffer.readNames(parser, token);
+                    break;
+                case "keytypes":
+                    oldKeysBuffer.readTypeNames(parser, token);
+                    break;
+                case "keyvalues":
+                    keyValues = readValues(parser, token);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return keyValues;
+    }
+
+    private static Object[] valuesOrEmpty(Object[] values) {
+        return values != null ? values : new Object[0];
+    }
+
+    private Object[] readValues(JsonParser parser, JsonToken token) throws IOException {
+        expect(parser, token, JsonToken.START_ARRAY);
+        values.clear();
+        for (JsonToken value = parser.nextToken(); value != JsonToken.END_ARRAY; value = parser.nextToken()) {
+            values.add(readValue(parser, value));
+        }
+        return values.toArray();
+    }
+
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getBigIntegerValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                // converted according to the column type later on
+                return parser.getText();
+            default:
+                throw new JsonParseException(parser, "Unexpected column value " + token);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but got " + actual);
+        }
+    }
+
+    /**
+     * Collects the column metadata of a tuple while it is read, reusing its arrays from change to change.
+     */
+    private static final class ColumnBuffer {
+
+        private String[] names = new String[16];
+        private int namesCount;
+        private boolean hasNames;
+        private String[] typeNames = new String[16];
+        private int typeNamesCount;
+        private boolean[] optionals = new boolean[16];
+        private int optionalsCount;
+        private boolean hasOptionals;
+
+        void clear() {
+            namesCount = 0;
+            hasNames = false;
+            typeNamesCount = 0;
+            optionalsCount = 0;
+            hasOptionals = false;
+        }
+
+        void readNames(JsonParser parser, JsonToken token) throws IOException {
+            expect(parser, token, JsonToken.START_ARRAY);
+            hasNames = true;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (namesCount == names.length) {
+                    names = Arrays.copyOf(names, names.length * 2);
+                }
+                names[namesCount++] = parser.getText();
+            }
+        }
+
+        void readTypeNames(JsonParser parser, JsonToken token) throws IOException {
+            expect(parser, token, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (typeNamesCount == typeNames.length) {
+                    typeNames = Arrays.copyOf(typeNames, typeNames.length * 2);
+                }
+                typeNames[typeNamesCount++] = parser.getText();
+            }
+        }
+
+        void readOptionals(JsonParser parser, JsonToken token) throws IOException {
+            expect(parser, token, JsonToken.START_ARRAY);
+            hasOptionals = true;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (optionalsCount == optionals.length) {
+                    optionals = Arrays.copyOf(optionals, optionals.length * 2);
+                }
+                optionals[optionalsCount++] = parser.getBooleanValue();
+            }
+        }
+
+        /**
+         * Returns the cached metadata of the given relation if it matches the metadata just read, or caches the latter.
+         */
+        ColumnMetadata toMetadata(Map<String, ColumnMetadata> cache, String relation) {
+            final boolean[] currentOptionals = hasOptionals ? optionals : null;
+            final ColumnMetadata cached = cache.get(relation);
+            if (cached != null && cached.matches(names, namesCount, typeNames, typeNamesCount, currentOptionals, optionalsCount)) {
+                return cached;
+            }
+            final ColumnMetadata metadata = new ColumnMetadata(Arrays.copyOf(names, namesCount), Arrays.copyOf(typeNames, typeNamesCount),
+                    hasOptionals ? Arrays.copyOf(optionals, optionalsCount) : null);
+            cache.put(relation, metadata);
+            return metadata;
+        }
+    }
+
+    /**
+     * A transaction as sent by the wal2json plug-in.
+     */
+    static final class Wal2JsonTransaction {
+
+        private final Long xid;
+        private final String timestamp;
+        private final List<Wal2JsonChange> changes;
+
+        Wal2JsonTransaction(Long xid, String timestamp, List<Wal2JsonChange> changes) {
+            this.xid = xid;
+            this.timestamp = timestamp;
+            this.changes = changes;
+        }
+
+        Long getXid() {
+            return xid;
+        }
+
+        String getTimestamp() {
+            return timestamp;
+        }
+
+        List<Wal2JsonChange> getChanges() {
+            return changes;
+        }
+    }
+}
@@ -6,45 +6,49 @@
 package io.debezium.connector.postgresql.connection.wal2json;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import io.debezium.connector.postgresql.connection.AbstractColumnValue;
 import io.debezium.data.SpecialValueDecimal;
-import io.debezium.document.Value;
 import io.debezium.util.Strings;
 
 /**
  * @author Chris Cranford
  */
-class Wal2JsonColumnValue extends AbstractColumnValue<Value> {
+class Wal2JsonColumnValue extends AbstractColumnValue<Object> {
 
-    private Value value;
+    /**
+     * The value as read by the {@link Wal2JsonChangeParser}: a {@code String}, {@code Integer}, {@code Long},
+     * {@code BigInteger}, {@code Boolean} or {@code null}
+     */
+    private Object value;
 
-    Wal2JsonColumnValue(Value value) {
+    Wal2JsonColumnValue(Object value) {
         this.value = value;
     }
 
     @Override
-    public Value getRawValue() {
+    public Object getRawValue() {
         return value;
     }
 
     @Override
     public boolean isNull() {
-        return value.isNull();
+        return value == null;
     }
 
     @Override
     public String asString() {
-        return value.asString();
+        return value instanceof String ? (String) value : null;
     }
 
     @Override
     public Boolean asBoolean() {
-        if (value.isBoolean()) {
-            return value.asBoolean();
+        if (value instanceof Boolean) {
+            return (Boolean) value;
         }
-        else if (value.isString()) {
-            return "t".equalsIgnoreCase(value.asString());
+        else if (value instanceof String) {
+            return "t".equalsIgnoreCase((String) value);
         }
         else {
             return null;
@@ -53,11 +57,15 @@ else if (value.isString()) {
 
     @Override
     public Integer asInteger() {
-        if (value.isNumber()) {
-            return value.asInteger();
+        if (value instanceof Integer) {
+            return (Integer) value;
         }
-        else if (value.isString()) {
-            return Integer.valueOf(value.asString());
+        else if (value instanceof Long) {
+            final long longValue = (Long) value;
+            return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE ? (int) longValue : null;
+        }
+        else if (value instanceof String) {
+            return Integer.valueOf((String) value);
         }
         else {
             return null;
@@ -66,11 +74,14 @@ else if (value.isString()) {
 
     @Override
     public Long asLong() {
-        if (value.isNumber()) {
-            return value.asLong();
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        else if (value instanceof Integer) {
+            return ((Integer) value).longValue();
         }
-        else if (value.isString()) {
-            return Long.valueOf(value.asString());
+        else if (value instanceof String) {
+            return Long.valueOf((String) value);
         }
         else {
             return null;
@@ -79,30 +90,30 @@ else if (value.isString()) {
 
     @Override
     public Float asFloat() {
-        return value.isNumber() ? value.asFloat() : Float.valueOf(value.asString());
+        return value instanceof Number ? ((Number) value).floatValue() : Float.valueOf(asString());
     }
 
     @Override
     public Double asDouble() {
-        return value.isNumber() ? value.asDouble() : Double.valueOf(value.asString());
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(asString());
     }
 
     @Override
     public SpecialValueDecimal asDecimal() {
-        if (value.isInteger()) {
-            return new SpecialValueDecimal(new BigDecimal(value.asInteger()));
+        if (value instanceof Integer) {
+            return new SpecialValueDecimal(new BigDecimal((Integer) value));
         }
-        else if (value.isLong()) {
-            return new SpecialValueDecimal(new BigDecimal(value.asLong()));
+        else if (value instanceof Long) {
+            return new SpecialValueDecimal(new BigDecimal((Long) value));
         }
-        else if (value.isBigInteger()) {
-            return new SpecialValueDecimal(new BigDecimal(value.asBigInteger()));
+        else if (value instanceof BigInteger) {
+            return new SpecialValueDecimal(new BigDecimal((BigInteger) value));
         }
-        return SpecialValueDecimal.valueOf(value.asString());
+        return SpecialValueDecimal.valueOf(asString());
     }
 
     @Override
     public byte[] asByteArray() {
-        return Strings.hexStringToByteArray(value.asString());
+        return Strings.hexStringToByteArray(asString());
     }
 }
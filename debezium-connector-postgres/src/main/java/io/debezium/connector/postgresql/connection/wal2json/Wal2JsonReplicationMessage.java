@@ -9,12 +9,8 @@
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
 
 import org.apache.kafka.connect.data.Field;
-import org.apache.kafka.connect.errors.ConnectException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
 import io.debezium.connector.postgresql.PostgresType;
@@ -23,9 +19,8 @@
 import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.ReplicationMessage;
 import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValueResolver;
-import io.debezium.document.Array;
-import io.debezium.document.Document;
-import io.debezium.document.Value;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChange.ColumnMetadata;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChange.Tuple;
 
 /**
  * Replication message representing message sent by the wal2json logical decoding plug-in.
@@ -34,19 +29,17 @@
  */
 class Wal2JsonReplicationMessage implements ReplicationMessage {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(Wal2JsonReplicationMessage.class);
-
     private final long txId;
     private final Instant commitTime;
-    private final Document rawMessage;
+    private final Wal2JsonChange change;
     private final boolean hasMetadata;
     private final boolean lastEventForLsn;
     private final TypeRegistry typeRegistry;
 
-    public Wal2JsonReplicationMessage(long txId, Instant commitTime, Document rawMessage, boolean hasMetadata, boolean lastEventForLsn, TypeRegistry typeRegistry) {
+    public Wal2JsonReplicationMessage(long txId, Instant commitTime, Wal2JsonChange change, boolean hasMetadata, boolean lastEventForLsn, TypeRegistry typeRegistry) {
         this.txId = txId;
         this.commitTime = commitTime;
-        this.rawMessage = rawMessage;
+        this.change = change;
         this.hasMetadata = hasMetadata;
         this.lastEventForLsn = lastEventForLsn;
         this.typeRegistry = typeRegistry;
@@ -54,7 +47,7 @@ public Wal2JsonReplicationMessage(long txId, Instant commitTime, Document rawMes
 
     @Override
     public Operation getOperation() {
-        final String operation = rawMessage.getString("kind");
+        final String operation = change.getKind();
         switch (operation) {
             case "insert":
                 return Operation.INSERT;
@@ -79,18 +72,17 @@ public long getTransactionId() {
 
     @Override
     public String getTable() {
-        return "\"" + rawMessage.getString("schema") + "\".\"" + rawMessage.getString("table") + "\"";
+        return "\"" + change.getSchema() + "\".\"" + change.getTable() + "\"";
     }
 
     @Override
     public List<ReplicationMessage.Column> getOldTupleList() {
-        final Document oldkeys = rawMessage.getDocument("oldkeys");
-        return oldkeys != null ? transform(oldkeys, "keynames", "keytypes", "keyvalues", "columnoptionals") : null;
+        return transform(change.getOldKeys());
     }
 
     @Override
     public List<ReplicationMessage.Column> getNewTupleList() {
-        return transform(rawMessage, "columnnames", "columntypes", "columnvalues", "columnoptionals");
+        return transform(change.getNewTuple());
     }
 
     @Override
@@ -98,25 +90,19 @@ public boolean hasTypeMetadata() {
         return hasMetadata;
     }
 
-    private List<ReplicationMessage.Column> transform(final Document data, final String nameField, final String typeField, final String valueField,
-                                                      final String optionalsField) {
-        final Array columnNames = data.getArray(nameField);
-        final Array columnTypes = data.getArray(typeField);
-        final Array columnValues = data.getArray(valueField);
-        final Array columnOptionals = data.getArray(optionalsField);
-
-        if (columnNames.size() != columnTypes.size() || columnNames.size() != columnValues.size()) {
-            throw new ConnectException("Column related arrays do not have the same size");
+    private List<ReplicationMessage.Column> transform(Tuple tuple) {
+        if (tuple == null) {
+            return null;
         }
+        final ColumnMetadata metadata = tuple.getColumns();
+        final List<ReplicationMessage.Column> columns = new ArrayList<>(metadata.size());
 
-        final List<ReplicationMessage.Column> columns = new ArrayList<>(columnNames.size());
-
-        for (int i = 0; i < columnNames.size(); i++) {
-            final String columnName = columnNames.get(i).asString();
-            final String columnTypeName = columnTypes.get(i).asString();
-            final boolean columnOptional = columnOptionals != null ? columnOptionals.get(i).asBoolean() : false;
-            final Value rawValue = columnValues.get(i);
-            final PostgresType columnType = typeRegistry.get(parseType(columnName, columnTypeName));
+        for (int i = 0; i < metadata.size(); i++) {
+            final String columnName = metadata.getName(i);
+            final String columnTypeName = metadata.getTypeName(i);
+            final boolean columnOptional = metadata.isOptional(i);
+            final Object rawValue = tuple.getValue(i);
+            final PostgresType columnType = typeRegistry.get(metadata.getBaseTypeName(i));
 
             columns.add(new AbstractReplicationMessageColumn(columnName, columnType, columnTypeName, columnOptional, true) {
 
@@ -136,24 +122,6 @@ public String toString() {
         return columns;
     }
 
-    private String parseType(String columnName, String typeWithModifiers) {
-        Matcher m = AbstractReplicationMessageColumn.TypeMetadataImpl.TYPE_PATTERN.matcher(typeWithModifiers);
-        if (!m.matches()) {
-            LOGGER.error("Failed to parse columnType for {} '{}'", columnName, typeWithModifiers);
-            throw new ConnectException(String.format("Failed to parse columnType '%s' for column %s", typeWithModifiers, columnName));
-        }
-        String baseType = m.group("base").trim();
-        final String suffix = m.group("suffix");
-        if (suffix != null) {
-            baseType += suffix;
-        }
-        baseType = TypeRegistry.normalizeTypeName(baseType);
-        if (m.group("array") != null) {
-            baseType = "_" + baseType;
-        }
-        return baseType;
-    }
-
     /**
      * Converts the value (string representation) coming from wal2json plugin to
      * a Java value based on the type of the column from the message. This value will be converted later on if necessary by the
@@ -165,7 +133,7 @@ private String parseType(String columnName, String typeWithModifiers) {
      *
      * @return the value; may be null
      */
-    public Object getValue(String columnName, PostgresType type, String fullType, Value rawValue, final PgConnectionSupplier connection,
+    public Object getValue(String columnName, PostgresType type, String fullType, Object rawValue, final PgConnectionSupplier connection,
                            boolean includeUnknownDatatypes) {
         final Wal2JsonColumnValue columnValue = new Wal2JsonColumnValue(rawValue);
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDatatypes, typeRegistry);
@@ -0,0 +1,179 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.relational.Column;
+
+public class PostgresBinaryCopyRowReaderTest {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+
+    @Test
+    public void shouldDecodeTuples() throws Exception {
+        final UUID uuid = UUID.randomUUID();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+
+        out.writeShort(8);
+        field(out, 4).writeInt(42);
+        field(out, 2).writeShort(7);
+        field(out, 8).writeLong(Long.MIN_VALUE);
+        field(out, 8).writeDouble(1.5);
+        field(out, 1).writeByte(1);
+        final byte[] text = "žluťoučký".getBytes(StandardCharsets.UTF_8);
+        field(out, text.length).write(text);
+        field(out, 16).writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        field(out, 3).write(new byte[]{ 1, 2, 3 });
+
+        out.writeShort(8);
+        field(out, 4).writeInt(43);
+        for (int i = 1; i < 8; i++) {
+            out.writeInt(-1);
+        }
+        out.writeShort(-1);
+
+        final PostgresBinaryCopyRowReader reader = reader(bytes,
+                new int[]{ PgOid.INT4, PgOid.INT2, PgOid.INT8, PgOid.FLOAT8, PgOid.BOOL, PgOid.VARCHAR, PgOid.UUID, PgOid.BYTEA },
+                1, 2, 3, 4, 5, 6, 7, 8);
+
+        final Object[] row = reader.next();
+        assertThat(row).hasSize(8);
+        assertThat(row[0]).isEqualTo(42);
+        assertThat(row[1]).isEqualTo(7);
+        assertThat(row[2]).isEqualTo(Long.MIN_VALUE);
+        assertThat(row[3]).isEqualTo(1.5);
+        assertThat(row[4]).isEqualTo(Boolean.TRUE);
+        assertThat(row[5]).isEqualTo("žluťoučký");
+        assertThat(row[6]).isEqualTo(uuid);
+        assertThat((byte[]) row[7]).isEqualTo(new byte[]{ 1, 2, 3 });
+
+        final Object[] nullRow = reader.next();
+        assertThat(nullRow[0]).isEqualTo(43);
+        for (int i = 1; i < 8; i++) {
+            assertThat(nullRow[i]).isNull();
+        }
+
+        assertThat(reader.next()).isNull();
+        assertThat(reader.next()).isNull();
+        reader.close();
+    }
+
+    @Test
+    public void shouldPlaceValuesAtColumnPositions() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        out.writeShort(2);
+        field(out, 4).writeInt(1);
+        field(out, 4).writeInt(2);
+        out.writeShort(-1);
+
+        final PostgresBinaryCopyRowReader reader = reader(bytes, new int[]{ PgOid.INT4, PgOid.INT4 }, 3, 1);
+        assertThat(reader.next()).isEqualTo(new Object[]{ 2, null, 1 });
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    public void shouldDecodeNumerics() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        // 12345.678 = 1 2345 . 6780
+        numeric(out, 1, 0x0000, 3, 1, 2345, 6780);
+        // -0.0012
+        numeric(out, -1, 0x4000, 4, 12);
+        // 0.00
+        numeric(out, 0, 0x0000, 2);
+        // 1234567890123456789012.5 spans more than four digits
+        numeric(out, 5, 0x0000, 1, 12, 3456, 7890, 1234, 5678, 9012, 5000);
+        // 10000
+        numeric(out, 1, 0x0000, 0, 1);
+        numeric(out, 0, 0xC000, 0);
+        numeric(out, 0, 0xD000, 0);
+        numeric(out, 0, 0xF000, 0);
+        out.writeShort(-1);
+
+        final PostgresBinaryCopyRowReader reader = reader(bytes, new int[]{ PgOid.NUMERIC }, 1);
+        assertThat(decimal(reader)).isEqualTo(new BigDecimal("12345.678"));
+        assertThat(decimal(reader)).isEqualTo(new BigDecimal("-0.0012"));
+        assertThat(decimal(reader)).isEqualTo(new BigDecimal("0.00"));
+        assertThat(decimal(reader)).isEqualTo(new BigDecimal("1234567890123456789012.5"));
+        assertThat(decimal(reader)).isEqualTo(new BigDecimal("10000"));
+        assertThat(reader.next()[0]).isSameAs(SpecialValueDecimal.NOT_A_NUMBER);
+        assertThat(reader.next()[0]).isSameAs(SpecialValueDecimal.POSITIVE_INF);
+        assertThat(reader.next()[0]).isSameAs(SpecialValueDecimal.NEGATIVE_INF);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test(expected = SQLException.class)
+    public void shouldRejectInvalidSignature() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write("PGCOPY\n".getBytes(StandardCharsets.US_ASCII));
+        bytes.write(new byte[16]);
+        reader(bytes, new int[]{ PgOid.INT4 }, 1).next();
+    }
+
+    @Test
+    public void shouldSupportOnlyDecodedTypes() {
+        assertThat(PostgresBinaryCopyRowReader.isSupported(PgOid.TEXT)).isTrue();
+        assertThat(PostgresBinaryCopyRowReader.isSupported(PgOid.NUMERIC)).isTrue();
+        assertThat(PostgresBinaryCopyRowReader.isSupported(PgOid.TIMESTAMPTZ)).isFalse();
+        assertThat(PostgresBinaryCopyRowReader.isSupported(PgOid.JSONB_OID)).isFalse();
+        assertThat(PostgresBinaryCopyRowReader.isSupported(PgOid.INT4_ARRAY)).isFalse();
+    }
+
+    private static DataOutputStream header(ByteArrayOutputStream bytes) throws IOException {
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(SIGNATURE);
+        out.writeInt(0);
+        // header extension
+        out.writeInt(2);
+        out.writeShort(0);
+        return out;
+    }
+
+    private static DataOutputStream field(DataOutputStream out, int length) throws IOException {
+        out.writeInt(length);
+        return out;
+    }
+
+    private static void numeric(DataOutputStream out, int weight, int sign, int displayScale, int... digits) throws IOException {
+        out.writeShort(1);
+        out.writeInt(8 + 2 * digits.length);
+        out.writeShort(digits.length);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(displayScale);
+        for (int digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    private static BigDecimal decimal(PostgresBinaryCopyRowReader reader) throws SQLException {
+        return ((SpecialValueDecimal) reader.next()[0]).getDecimalValue().get();
+    }
+
+    private static PostgresBinaryCopyRowReader reader(ByteArrayOutputStream bytes, int[] oids, int... positions) {
+        final Column[] columns = new Column[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            columns[i] = Column.editor().name("c" + positions[i]).position(positions[i]).create();
+        }
+        return new PostgresBinaryCopyRowReader(new ByteArrayInputStream(bytes.toByteArray()), columns, oids);
+    }
+}
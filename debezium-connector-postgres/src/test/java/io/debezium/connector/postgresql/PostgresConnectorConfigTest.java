@@ -0,0 +1,23 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+
+public class PostgresConnectorConfigTest {
+
+    @Test
+    public void shouldDefineEachFieldOnlyOnce() {
+        final ConfigDef configDef = new PostgresConnector().config();
+        assertThat(configDef.names()).contains(CommonConnectorConfig.SNAPSHOT_MAX_THREADS.name());
+        assertThat(configDef.names()).contains(PostgresConnectorConfig.SNAPSHOT_READ_MODE.name());
+    }
+}
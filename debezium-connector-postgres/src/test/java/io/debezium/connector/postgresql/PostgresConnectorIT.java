@@ -403,6 +403,43 @@ public void shouldConsumeMessagesFromSnapshot() throws Exception {
         stopConnector();
     }
 
+    @Test
+    public void shouldConsumeMessagesFromSnapshotReadInParallel() throws Exception {
+        TestHelper.execute(SETUP_TABLES_STMT);
+        final int recordCount = 100;
+
+        for (int i = 0; i < recordCount - 1; i++) {
+            TestHelper.execute(INSERT_STMT);
+        }
+        Configuration.Builder configBuilder = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.INITIAL.getValue())
+                .with(PostgresConnectorConfig.SNAPSHOT_MAX_THREADS, 2)
+                .with(PostgresConnectorConfig.MAX_QUEUE_SIZE, recordCount / 2)
+                .with(PostgresConnectorConfig.MAX_BATCH_SIZE, 10);
+        start(PostgresConnector.class, configBuilder.build());
+        assertConnectorIsRunning();
+
+        waitForSnapshotToBeCompleted();
+        SourceRecords records = consumeRecordsByTopic(recordCount * 2);
+        Assertions.assertThat(records.recordsForTopic("test_server.s1.a")).hasSize(recordCount);
+        Assertions.assertThat(records.recordsForTopic("test_server.s2.a")).hasSize(recordCount);
+
+        // only the very last record of the snapshot is marked as such
+        final List<SourceRecord> snapshotRecords = records.allRecordsInOrder();
+        for (int i = 0; i < snapshotRecords.size(); i++) {
+            final Struct source = ((Struct) snapshotRecords.get(i).value()).getStruct("source");
+            Assertions.assertThat(source.getString("snapshot")).isEqualTo(i == snapshotRecords.size() - 1 ? "last" : "true");
+        }
+
+        // changes are streamed once the snapshot has been completed
+        TestHelper.execute(INSERT_STMT);
+        records = consumeRecordsByTopic(2);
+        Assertions.assertThat(records.recordsForTopic("test_server.s1.a")).hasSize(1);
+        Assertions.assertThat(records.recordsForTopic("test_server.s2.a")).hasSize(1);
+
+        stopConnector();
+    }
+
     @Test
     public void shouldConsumeMessagesFromSnapshotOld() throws Exception {
         TestHelper.execute(SETUP_TABLES_STMT);
@@ -692,6 +729,27 @@ public void shouldProduceEventsWhenSnapshotsAreNeverAllowed() throws Interrupted
         assertRecordsAfterInsert(2, 2, 2);
     }
 
+    @Test
+    public void shouldProduceEventsWithLazilyLoadedSchema() throws InterruptedException {
+        TestHelper.dropDefaultReplicationSlot();
+        TestHelper.execute(SETUP_TABLES_STMT);
+        Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.NEVER.getValue())
+                .with(PostgresConnectorConfig.SCHEMA_LOAD_MODE, PostgresConnectorConfig.SchemaLoadMode.LAZY.getValue())
+                .with(PostgresConnectorConfig.DROP_SLOT_ON_STOP, Boolean.TRUE)
+                .build();
+        start(PostgresConnector.class, config);
+        assertConnectorIsRunning();
+        TestHelper.waitForDefaultReplicationSlotBeActive();
+
+        waitForAvailableRecords(100, TimeUnit.MILLISECONDS);
+        assertNoRecordsToConsume();
+
+        // the schemas of both tables are read upon their first event
+        TestHelper.execute(INSERT_STMT);
+        assertRecordsAfterInsert(2, 2, 2);
+    }
+
     @Test
     public void shouldNotProduceEventsWithInitialOnlySnapshot() throws InterruptedException {
         Testing.Print.enable();
@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.AutoCreateMode;
+import io.debezium.relational.TableId;
+
+public class PostgresConnectorShardingTest {
+
+    private static final List<TableId> TABLES = Arrays.asList(
+            new TableId(null, "s1", "a"),
+            new TableId(null, "s1", "b"),
+            new TableId(null, "s1", "c"),
+            new TableId(null, "s2", "a"),
+            new TableId(null, "s2", "d"),
+            new TableId(null, "public", "orders"));
+
+    @Test
+    public void shouldCreateSingleTaskByDefault() {
+        final List<Map<String, String>> taskConfigs = taskConfigs(connectorConfig().build(), 3);
+        assertThat(taskConfigs).hasSize(1);
+
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.from(taskConfigs.get(0)));
+        assertThat(config.isSharded()).isFalse();
+        assertThat(config.slotName()).isEqualTo("debezium");
+        assertThat(config.publicationName()).isEqualTo("dbz_publication");
+        assertThat(config.getTaskName()).isEqualTo("serverX");
+        assertThat(new PostgresOffsetContext.Loader(config).getPartition()).isEqualTo(Collections.singletonMap("server", "serverX"));
+    }
+
+    @Test
+    public void shouldCreateTaskPerShard() {
+        final List<Map<String, String>> taskConfigs = taskConfigs(connectorConfig()
+                .with(PostgresConnectorConfig.SHARD_COUNT, 3)
+                .build(), 4);
+        assertThat(taskConfigs).hasSize(3);
+
+        for (int shardId = 0; shardId < 3; shardId++) {
+            final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.from(taskConfigs.get(shardId)));
+            assertThat(config.isSharded()).isTrue();
+            assertThat(config.shardId()).isEqualTo(shardId);
+            assertThat(config.slotName()).isEqualTo("debezium_" + shardId);
+            assertThat(config.publicationName()).isEqualTo("dbz_publication_" + shardId);
+            assertThat(config.publicationAutocreateMode()).isEqualTo(AutoCreateMode.FILTERED);
+            assertThat(config.getTaskName()).isEqualTo("serverX-shard-" + shardId);
+            assertThat(new PostgresOffsetContext.Loader(config).getPartition().get("shard")).isEqualTo(Integer.toString(shardId));
+        }
+    }
+
+    @Test
+    public void shouldCaptureEachTableByExactlyOneShard() {
+        final Configuration.Builder builder = connectorConfig()
+                .with(PostgresConnectorConfig.SHARD_COUNT, 3)
+                .with(PostgresConnectorConfig.TABLE_EXCLUDE_LIST, "s1\\.c");
+
+        for (TableId tableId : TABLES) {
+            int shards = 0;
+            for (int shardId = 0; shardId < 3; shardId++) {
+                final PostgresConnectorConfig config = new PostgresConnectorConfig(builder
+                        .with(PostgresConnectorConfig.SHARD_ID, shardId)
+                        .build());
+                final boolean included = config.getTableFilters().dataCollectionFilter().isIncluded(tableId);
+                assertThat(new Filters(config).tableFilter().isIncluded(tableId)).isEqualTo(included);
+                if (included) {
+                    assertThat(PostgresConnectorConfig.shardOf(tableId, 3)).isEqualTo(shardId);
+                    shards++;
+                }
+            }
+            assertThat(shards).isEqualTo(tableId.table().equals("c") ? 0 : 1);
+        }
+    }
+
+    @Test
+    public void shouldAssignTablesToShardsByName() {
+        for (TableId tableId : TABLES) {
+            final int shard = PostgresConnectorConfig.shardOf(tableId, 5);
+            assertThat(shard).isGreaterThanOrEqualTo(0).isLessThan(5);
+            assertThat(PostgresConnectorConfig.shardOf(new TableId("otherdb", tableId.schema(), tableId.table()), 5)).isEqualTo(shard);
+        }
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldRequireTaskPerShard() {
+        taskConfigs(connectorConfig()
+                .with(PostgresConnectorConfig.SHARD_COUNT, 3)
+                .build(), 2);
+    }
+
+    private static Configuration.Builder connectorConfig() {
+        return Configuration.create()
+                .with(PostgresConnectorConfig.SERVER_NAME, "serverX");
+    }
+
+    private static List<Map<String, String>> taskConfigs(Configuration config, int maxTasks) {
+        final PostgresConnector connector = new PostgresConnector();
+        connector.start(config.asMap());
+        return connector.taskConfigs(maxTasks);
+    }
+}
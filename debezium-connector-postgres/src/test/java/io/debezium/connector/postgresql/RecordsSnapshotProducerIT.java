@@ -321,6 +321,30 @@ private void assertReadRecord(SourceRecord record, Map<String, List<SchemaAndVal
         assertRecordSchemaAndValues(expectedValuesAndSchemasForTopic, record, Envelope.FieldName.AFTER);
     }
 
+    @Test
+    public void shouldGenerateSnapshotsForDefaultDatatypesUsingBinaryCopy() throws Exception {
+        // insert data for each of different supported types
+        String statementsBuilder = ALL_STMTS.stream().collect(Collectors.joining(";" + System.lineSeparator())) + ";";
+        TestHelper.execute(statementsBuilder);
+
+        // tables with types not supported by binary COPY are read via JDBC, so the values must be the same either way
+        buildNoStreamProducer(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_READ_MODE, PostgresConnectorConfig.SnapshotReadMode.BINARY_COPY.getValue()));
+
+        TestConsumer consumer = testConsumer(ALL_STMTS.size(), "public", "Quoted__");
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        Map<String, List<SchemaAndValueField>> expectedValuesByTopicName = super.schemaAndValuesByTopicName();
+        consumer.process(record -> assertReadRecord(record, expectedValuesByTopicName));
+
+        // check the offset information for each record
+        while (!consumer.isEmpty()) {
+            SourceRecord record = consumer.remove();
+            assertRecordOffsetAndSnapshotSource(record, true, consumer.isEmpty());
+            assertSourceInfo(record);
+        }
+    }
+
     @Test
     @FixFor("DBZ-342")
     public void shouldGenerateSnapshotsForDefaultDatatypesAdaptiveMicroseconds() throws Exception {
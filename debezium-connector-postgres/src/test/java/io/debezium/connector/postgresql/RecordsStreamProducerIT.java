@@ -1439,6 +1439,35 @@ public void shouldNotPropagateUnchangedToastedData() throws Exception {
                 Envelope.FieldName.AFTER);
     }
 
+    @Test
+    public void shouldPropagateUnchangedToastedDataFromCache() throws Exception {
+        startConnector(config -> config
+                .with(PostgresConnectorConfig.TOASTED_VALUE_CACHE_MAX_BYTES, 10 * 1024 * 1024));
+
+        final String toastedValue = RandomStringUtils.randomAlphanumeric(10000);
+
+        String statement = "ALTER TABLE test_table ADD COLUMN not_toast integer;"
+                + "INSERT INTO test_table (not_toast, text) values (10, '" + toastedValue + "');";
+        consumer = testConsumer(1);
+        executeAndWait(statement);
+        assertRecordSchemaAndValues(Arrays.asList(
+                new SchemaAndValueField("not_toast", SchemaBuilder.OPTIONAL_INT32_SCHEMA, 10),
+                new SchemaAndValueField("text", SchemaBuilder.OPTIONAL_STRING_SCHEMA, toastedValue)), consumer.remove(), Envelope.FieldName.AFTER);
+
+        // the unchanged toasted value is taken from the insert
+        statement = "UPDATE test_table SET not_toast = 2 WHERE not_toast = 10;";
+        consumer.expects(1);
+        executeAndWait(statement);
+        assertRecordSchemaAndValues(Arrays.asList(
+                new SchemaAndValueField("not_toast", SchemaBuilder.OPTIONAL_INT32_SCHEMA, 2),
+                new SchemaAndValueField("text", SchemaBuilder.OPTIONAL_STRING_SCHEMA, toastedValue)), consumer.remove(), Envelope.FieldName.AFTER);
+
+        assertWithTask(task -> {
+            final ToastedValueCache cache = ((PostgresConnectorTask) task).getTaskContext().schema().getToastedValueCache();
+            assertThat(cache.getCacheHits()).isEqualTo(1);
+        });
+    }
+
     @Test
     @FixFor("DBZ-1029")
     public void shouldReceiveChangesForTableWithoutPrimaryKey() throws Exception {
@@ -0,0 +1,129 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Strings;
+
+public class ToastedValueCacheTest {
+
+    private static final Object UNCHANGED = UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE;
+    private static final List<String> TOASTABLE_COLUMNS = Arrays.asList("txt", "bin");
+
+    private final Table table = Table.editor()
+            .tableId(new TableId(null, "s1", "t"))
+            .addColumn(Column.editor().name("pk").jdbcType(Types.INTEGER).position(1).create())
+            .addColumn(Column.editor().name("txt").jdbcType(Types.VARCHAR).position(2).create())
+            .addColumn(Column.editor().name("bin").jdbcType(Types.BINARY).position(3).create())
+            .setPrimaryKeyNames("pk")
+            .create();
+
+    @Test
+    public void shouldReplaceUnchangedToastedValuesByCachedValues() {
+        final ToastedValueCache cache = cache(1024 * 1024);
+        final byte[] bytes = new byte[]{ 1, 2, 3 };
+        cache.update(table, new Object[]{ 1, "text", bytes }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(2);
+
+        final Object[] update = new Object[]{ 1, UNCHANGED, UNCHANGED };
+        cache.update(table, update, TOASTABLE_COLUMNS);
+        assertThat(update).isEqualTo(new Object[]{ 1, "text", bytes });
+
+        final Object[] otherRow = new Object[]{ 2, UNCHANGED, "changed" };
+        cache.update(table, otherRow, TOASTABLE_COLUMNS);
+        assertThat(otherRow[1]).isSameAs(UNCHANGED);
+
+        assertThat(cache.getCacheHits()).isEqualTo(2);
+        assertThat(cache.getCacheMisses()).isEqualTo(1);
+        assertThat(cache.getCacheHitRate()).isEqualTo(2.0 / 3);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(3);
+
+        cache.reset();
+        assertThat(cache.getCacheHits()).isEqualTo(0);
+        assertThat(cache.getCacheHitRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void shouldMatchKeysOfDifferentTypes() {
+        final ToastedValueCache cache = cache(1024 * 1024);
+        cache.update(table, new Object[]{ 1L, "text", null }, TOASTABLE_COLUMNS);
+
+        final Object[] update = new Object[]{ 1, UNCHANGED, null };
+        cache.update(table, update, TOASTABLE_COLUMNS);
+        assertThat(update[1]).isEqualTo("text");
+    }
+
+    @Test
+    public void shouldRemoveValuesOfDeletedAndNulledColumns() {
+        final ToastedValueCache cache = cache(1024 * 1024);
+        cache.update(table, new Object[]{ 1, "text", new byte[1] }, TOASTABLE_COLUMNS);
+        cache.update(table, new Object[]{ 1, null, UNCHANGED }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(1);
+
+        cache.remove(table, new Object[]{ 1, null, null }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(0);
+        assertThat(cache.getCachedBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedValues() {
+        final String value = Strings.pad("", 1000, 'x');
+        final ToastedValueCache cache = cache(3 * 2200);
+        cache.update(table, new Object[]{ 1, value, null }, TOASTABLE_COLUMNS);
+        cache.update(table, new Object[]{ 2, value, null }, TOASTABLE_COLUMNS);
+        cache.update(table, new Object[]{ 3, value, null }, TOASTABLE_COLUMNS);
+
+        // makes the first row the most recently used one
+        cache.update(table, new Object[]{ 1, UNCHANGED, null }, TOASTABLE_COLUMNS);
+        cache.update(table, new Object[]{ 4, value, null }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(3);
+        assertThat(cache.getCachedBytes()).isLessThanOrEqualTo(cache.getMaxCachedBytes());
+
+        final Object[] first = new Object[]{ 1, UNCHANGED, null };
+        final Object[] second = new Object[]{ 2, UNCHANGED, null };
+        cache.update(table, first, TOASTABLE_COLUMNS);
+        cache.update(table, second, TOASTABLE_COLUMNS);
+        assertThat(first[1]).isEqualTo(value);
+        assertThat(second[1]).isSameAs(UNCHANGED);
+    }
+
+    @Test
+    public void shouldNotCacheValuesOfTablesWithoutPrimaryKey() {
+        final ToastedValueCache cache = cache(1024 * 1024);
+        final Table keyless = table.edit().setPrimaryKeyNames(Collections.emptyList()).create();
+        cache.update(keyless, new Object[]{ 1, "text", null }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        final ToastedValueCache cache = new ToastedValueCache(new PostgresConnectorConfig(Configuration.create()
+                .with(PostgresConnectorConfig.SERVER_NAME, "serverX")
+                .build()));
+        assertThat(cache.isEnabled()).isFalse();
+        cache.update(table, new Object[]{ 1, "text", null }, TOASTABLE_COLUMNS);
+        assertThat(cache.getNumberOfCachedValues()).isEqualTo(0);
+    }
+
+    private static ToastedValueCache cache(long maxBytes) {
+        return new ToastedValueCache(new PostgresConnectorConfig(Configuration.create()
+                .with(PostgresConnectorConfig.SERVER_NAME, "serverX")
+                .with(PostgresConnectorConfig.TOASTED_VALUE_CACHE_MAX_BYTES, maxBytes)
+                .build()));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChange.Tuple;
+import io.debezium.connector.postgresql.connection.wal2json.Wal2JsonChangeParser.Wal2JsonTransaction;
+
+public class Wal2JsonChangeParserTest {
+
+    private static final String TRANSACTION = "{\n"
+            + "  \"xid\": 563,\n"
+            + "  \"timestamp\": \"2018-03-20 10:58:43.396355+01\",\n"
+            + "  \"change\": [\n"
+            + "    {\n"
+            + "      \"kind\": \"insert\",\n"
+            + "      \"schema\": \"public\",\n"
+            + "      \"table\": \"t\",\n"
+            + "      \"columnnames\": [\"pk\", \"d\", \"big\", \"txt\", \"b\"],\n"
+            + "      \"columntypes\": [\"integer\", \"numeric(3,2)\", \"bigint\", \"character varying(255)\", \"boolean\"],\n"
+            + "      \"columnoptionals\": [false, true, true, true, true],\n"
+            + "      \"columnvalues\": [1, 1.10, 9223372036854775807, \"text\", true]\n"
+            + "    },\n"
+            + "    {\n"
+            + "      \"kind\": \"update\",\n"
+            + "      \"schema\": \"public\",\n"
+            + "      \"table\": \"t\",\n"
+            + "      \"columnnames\": [\"pk\", \"d\", \"big\", \"txt\", \"b\"],\n"
+            + "      \"columntypes\": [\"integer\", \"numeric(3,2)\", \"bigint\", \"character varying(255)\", \"boolean\"],\n"
+            + "      \"columnoptionals\": [false, true, true, true, true],\n"
+            + "      \"columnvalues\": [2, null, 18446744073709551616, \"other\", false],\n"
+            + "      \"oldkeys\": {\"keynames\": [\"pk\"], \"keytypes\": [\"integer\"], \"keyvalues\": [1]}\n"
+            + "    },\n"
+            + "    {\n"
+            + "      \"kind\": \"delete\",\n"
+            + "      \"schema\": \"public\",\n"
+            + "      \"table\": \"t\",\n"
+            + "      \"oldkeys\": {\"keynames\": [\"pk\"], \"keytypes\": [\"integer\"], \"keyvalues\": [2]}\n"
+            + "    }\n"
+            + "  ]\n"
+            + "}";
+
+    @Test
+    public void shouldReadTransactionWithChanges() throws IOException {
+        final Wal2JsonTransaction transaction = new Wal2JsonChangeParser().readTransaction(bytes(TRANSACTION));
+        assertThat(transaction.getXid()).isEqualTo(563L);
+        assertThat(transaction.getTimestamp()).isEqualTo("2018-03-20 10:58:43.396355+01");
+        assertThat(transaction.getChanges()).hasSize(3);
+
+        final Wal2JsonChange insert = transaction.getChanges().get(0);
+        assertThat(insert.getKind()).isEqualTo("insert");
+        assertThat(insert.getSchema()).isEqualTo("public");
+        assertThat(insert.getTable()).isEqualTo("t");
+        assertThat(insert.getOldKeys()).isNull();
+
+        final Tuple tuple = insert.getNewTuple();
+        assertThat(tuple.getColumns().size()).isEqualTo(5);
+        assertThat(tuple.getColumns().getName(3)).isEqualTo("txt");
+        assertThat(tuple.getColumns().getTypeName(3)).isEqualTo("character varying(255)");
+        assertThat(tuple.getColumns().getBaseTypeName(3)).isEqualTo("varchar");
+        assertThat(tuple.getColumns().isOptional(0)).isFalse();
+        assertThat(tuple.getColumns().isOptional(1)).isTrue();
+        assertThat(tuple.getValue(0)).isEqualTo(1);
+        // floating point numbers are kept as text to retain their precision
+        assertThat(tuple.getValue(1)).isEqualTo("1.10");
+        assertThat(tuple.getValue(2)).isEqualTo(Long.MAX_VALUE);
+        assertThat(tuple.getValue(3)).isEqualTo("text");
+        assertThat(tuple.getValue(4)).isEqualTo(Boolean.TRUE);
+
+        final Wal2JsonChange update = transaction.getChanges().get(1);
+        assertThat(update.getNewTuple().getValue(1)).isNull();
+        assertThat(update.getNewTuple().getValue(2)).isEqualTo(new BigInteger("18446744073709551616"));
+        assertThat(update.getOldKeys().getColumns().getName(0)).isEqualTo("pk");
+        assertThat(update.getOldKeys().getColumns().isOptional(0)).isFalse();
+        assertThat(update.getOldKeys().getValue(0)).isEqualTo(1);
+
+        final Wal2JsonChange delete = transaction.getChanges().get(2);
+        assertThat(delete.getNewTuple()).isNull();
+        assertThat(delete.getOldKeys().getValue(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReuseColumnMetadataOfRelation() throws IOException {
+        final Wal2JsonTransaction transaction = new Wal2JsonChangeParser().readTransaction(bytes(TRANSACTION));
+
+        final Wal2JsonChange insert = transaction.getChanges().get(0);
+        final Wal2JsonChange update = transaction.getChanges().get(1);
+        final Wal2JsonChange delete = transaction.getChanges().get(2);
+        assertThat(update.getNewTuple().getColumns()).isSameAs(insert.getNewTuple().getColumns());
+        assertThat(delete.getOldKeys().getColumns()).isSameAs(update.getOldKeys().getColumns());
+    }
+
+    @Test
+    public void shouldReplaceColumnMetadataWhenRelationChanges() throws IOException {
+        final Wal2JsonChangeParser parser = new Wal2JsonChangeParser();
+        final Wal2JsonChange before = parser.readChange(bytes(
+                "{\"kind\": \"insert\", \"schema\": \"public\", \"table\": \"t\", "
+                        + "\"columnnames\": [\"pk\"], \"columntypes\": [\"integer\"], \"columnvalues\": [1]}"));
+        final Wal2JsonChange after = parser.readChange(bytes(
+                "{\"kind\": \"insert\", \"schema\": \"public\", \"table\": \"t\", "
+                        + "\"columnnames\": [\"pk\", \"val\"], \"columntypes\": [\"integer\", \"text\"], \"columnvalues\": [2, \"x\"]}"));
+
+        assertThat(before.getNewTuple().getColumns().size()).isEqualTo(1);
+        assertThat(after.getNewTuple().getColumns().size()).isEqualTo(2);
+        assertThat(after.getNewTuple().getColumns().getName(1)).isEqualTo("val");
+        assertThat(after.getNewTuple().getValue(1)).isEqualTo("x");
+    }
+
+    @Test
+    public void shouldRecognizeChangeInsteadOfTransactionHeader() throws IOException {
+        final Wal2JsonChangeParser parser = new Wal2JsonChangeParser();
+        final Wal2JsonTransaction header = parser.readTransactionHeader(bytes(
+                "{\"xid\": 563, \"timestamp\": \"2018-03-20 10:58:43.396355+01\", \"change\": [ ]}"));
+        assertThat(header.getXid()).isEqualTo(563L);
+        assertThat(header.getChanges()).isEmpty();
+
+        assertThat(parser.readTransactionHeader(bytes("{\"kind\": \"insert\", \"schema\": \"public\", \"table\": \"t\"}"))).isNull();
+    }
+
+    @Test
+    public void shouldConvertColumnValues() {
+        assertThat(new Wal2JsonColumnValue(1).asLong()).isEqualTo(1L);
+        assertThat(new Wal2JsonColumnValue(Long.MAX_VALUE).asInteger()).isNull();
+        assertThat(new Wal2JsonColumnValue("42").asInteger()).isEqualTo(42);
+        assertThat(new Wal2JsonColumnValue("t").asBoolean()).isTrue();
+        assertThat(new Wal2JsonColumnValue("1.10").asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("1.10"));
+        assertThat(new Wal2JsonColumnValue(new BigInteger("18446744073709551616")).asDecimal().getDecimalValue().get())
+                .isEqualTo(new BigDecimal("18446744073709551616"));
+        assertThat(new Wal2JsonColumnValue("1.5").asDouble()).isEqualTo(1.5);
+        assertThat(new Wal2JsonColumnValue(null).isNull()).isTrue();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -20,6 +20,7 @@
 import io.debezium.connector.common.BaseSourceTask;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSerializer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
@@ -96,6 +97,10 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .waitStrategy(connectorConfig.getQueueWaitStrategy())
+                .linger(connectorConfig.getQueueLinger())
+                .overflowJournal(connectorConfig.getQueueOverflowDirectory(), connectorConfig.getQueueOverflowMaxBytes(),
+                        connectorConfig.getQueueOverflowSegmentBytes(), new DataChangeEventSerializer())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
@@ -162,6 +167,10 @@ protected void doStop() {
         if (schema != null) {
             schema.close();
         }
+
+        if (queue != null) {
+            queue.close();
+        }
     }
 
     @Override
@@ -161,6 +161,8 @@ public void execute(ChangeEventSourceContext context) throws InterruptedExceptio
                     }
                 }
                 try {
+                    // the changes of all tables are handed over to the queue in batches
+                    dispatcher.startBatch();
                     dataConnection.getChangesForTables(tablesSlot.get(), fromLsn, maxLsnResult.getMaxLsn(), resultSets -> {
 
                         long eventSerialNoInInitialTx = 1;
@@ -270,6 +272,7 @@ public void execute(ChangeEventSourceContext context) throws InterruptedExceptio
                             tableWithSmallestLsn.next();
                         }
                     });
+                    dispatcher.completeBatch();
                     lastProcessedPosition = TxLogPosition.valueOf(maxLsnResult.getMaxLsn());
                     // Terminate the transaction otherwise CDC could not be disabled for tables
                     dataConnection.rollback();
@@ -277,6 +280,10 @@ public void execute(ChangeEventSourceContext context) throws InterruptedExceptio
                 catch (SQLException e) {
                     tablesSlot.set(processErrorFromChangeTableQuery(e, tablesSlot.get()));
                 }
+                finally {
+                    // the changes are queried again after a failure, so the events of the failed query are not handed over
+                    dispatcher.abortBatch();
+                }
             }
         }
         catch (Exception e) {
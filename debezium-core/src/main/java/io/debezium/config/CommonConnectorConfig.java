@@ -5,6 +5,8 @@
  */
 package io.debezium.config;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -232,6 +234,82 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined strategies for waiting for change events when polling the change event queue.
+     */
+    public enum QueueWaitStrategy implements EnumeratedValue {
+
+        /**
+         * Sleeps for the poll interval between two attempts to take events from the queue.
+         */
+        SLEEP("sleep"),
+
+        /**
+         * Blocks until the first event arrives, or, while lingering, until a batch is complete.
+         */
+        BLOCKING("blocking"),
+
+        /**
+         * Re-checks the queue without ever giving up the CPU; lowest latency, but occupies a core while waiting.
+         */
+        BUSY_SPIN("busy-spin"),
+
+        /**
+         * Yields the CPU to other threads between two checks of the queue.
+         */
+        YIELD("yield"),
+
+        /**
+         * Spins, then yields and eventually parks for increasing periods of time between two checks of the queue.
+         */
+        PARK("park");
+
+        private final String value;
+
+        QueueWaitStrategy(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static QueueWaitStrategy parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (QueueWaitStrategy option : QueueWaitStrategy.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static QueueWaitStrategy parse(String value, String defaultValue) {
+            QueueWaitStrategy strategy = parse(value);
+            if (strategy == null && defaultValue != null) {
+                strategy = parse(defaultValue);
+            }
+            return strategy;
+        }
+    }
+
     private static final String CONFLUENT_AVRO_CONVERTER = "io.confluent.connect.avro.AvroConverter";
     private static final String APICURIO_AVRO_CONVERTER = "io.apicurio.registry.utils.converter.AvroConverter";
 
@@ -243,6 +321,9 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     private static final String CONVERTER_TYPE_SUFFIX = ".type";
     public static final long DEFAULT_RETRIABLE_RESTART_WAIT = 10000L;
     public static final long DEFAULT_MAX_QUEUE_SIZE_IN_BYTES = 0; // In case we don't want to pass max.queue.size.in.bytes;
+    public static final long DEFAULT_QUEUE_LINGER_MILLIS = 0;
+    public static final long DEFAULT_QUEUE_OVERFLOW_MAX_BYTES = 1024L * 1024 * 1024;
+    public static final int DEFAULT_QUEUE_OVERFLOW_SEGMENT_BYTES = 64 * 1024 * 1024;
 
     public static final Field RETRIABLE_RESTART_WAIT = Field.create("retriable.restart.connector.wait.ms")
             .withDisplayName("Retriable restart wait (ms)")
@@ -305,6 +386,60 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
             .withValidation(Field::isNonNegativeLong);
 
+    public static final Field QUEUE_WAIT_STRATEGY = Field.create("queue.wait.strategy")
+            .withDisplayName("Change event queue wait strategy")
+            .withEnum(QueueWaitStrategy.class, QueueWaitStrategy.SLEEP)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify how the task waits for change events to arrive in the queue, including: "
+                    + "'sleep' sleeps for the poll interval between two checks of the queue (default); "
+                    + "'blocking' is woken up as soon as an event arrives, or a batch is complete while lingering; "
+                    + "'busy-spin' checks the queue continuously, occupying a CPU core while waiting; "
+                    + "'yield' yields the CPU between two checks of the queue; "
+                    + "'park' spins, then yields and eventually parks for up to a millisecond between two checks of the queue.");
+
+    public static final Field QUEUE_LINGER_MS = Field.create("queue.linger.ms")
+            .withDisplayName("Change event queue linger (ms)")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Time in milliseconds to wait for further change events once the first event of a batch has arrived, "
+                    + "so that batches of up to the maximum batch size are returned rather than single events, similar to "
+                    + "the 'linger.ms' setting of Kafka producers. Defaults to " + DEFAULT_QUEUE_LINGER_MILLIS + "ms, "
+                    + "i.e. the events are returned as soon as they arrive.")
+            .withDefault(DEFAULT_QUEUE_LINGER_MILLIS)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field QUEUE_OVERFLOW_DIR = Field.create("queue.overflow.dir")
+            .withDisplayName("Change event queue overflow directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Path of a local directory for a journal taking the change events that exceed the maximum size "
+                    + "of the change event queue, e.g. while Kafka is unavailable, so that the connector can keep reading the "
+                    + "database log rather than blocking. The journal consists of memory-mapped segment files and is deleted "
+                    + "when the connector stops. By default, no journal is used.");
+
+    public static final Field QUEUE_OVERFLOW_MAX_BYTES = Field.create("queue.overflow.max.bytes")
+            .withDisplayName("Change event queue overflow size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("Maximum size in bytes of the journal for change events exceeding the maximum size of the change event queue. "
+                    + "Once reached, the connector blocks until events have been consumed. Defaults to " + DEFAULT_QUEUE_OVERFLOW_MAX_BYTES + ".")
+            .withDefault(DEFAULT_QUEUE_OVERFLOW_MAX_BYTES)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field QUEUE_OVERFLOW_SEGMENT_BYTES = Field.create("queue.overflow.segment.bytes")
+            .withDisplayName("Change event queue overflow segment size in bytes")
+            .withType(Type.INT)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("Size in bytes of a single segment file of the journal for change events exceeding the maximum size of "
+                    + "the change event queue. Defaults to " + DEFAULT_QUEUE_OVERFLOW_SEGMENT_BYTES + ".")
+            .withDefault(DEFAULT_QUEUE_OVERFLOW_SEGMENT_BYTES)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
             .withDisplayName("Snapshot Delay (milliseconds)")
             .withType(Type.LONG)
@@ -417,6 +552,11 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
                     MAX_QUEUE_SIZE,
                     POLL_INTERVAL_MS,
                     MAX_QUEUE_SIZE_IN_BYTES,
+                    QUEUE_WAIT_STRATEGY,
+                    QUEUE_LINGER_MS,
+                    QUEUE_OVERFLOW_DIR,
+                    QUEUE_OVERFLOW_MAX_BYTES,
+                    QUEUE_OVERFLOW_SEGMENT_BYTES,
                     PROVIDE_TRANSACTION_METADATA,
                     SKIPPED_OPERATIONS,
                     SNAPSHOT_DELAY_MS,
@@ -440,6 +580,11 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     private final int maxBatchSize;
     private final long maxQueueSizeInBytes;
     private final Duration pollInterval;
+    private final QueueWaitStrategy queueWaitStrategy;
+    private final Duration queueLinger;
+    private final String queueOverflowDirectory;
+    private final long queueOverflowMaxBytes;
+    private final int queueOverflowSegmentBytes;
     private final String logicalName;
     private final String heartbeatTopicsPrefix;
     private final Duration snapshotDelayMs;
@@ -461,6 +606,11 @@ protected CommonConnectorConfig(Configuration config, String logicalName, int de
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
         this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.queueWaitStrategy = QueueWaitStrategy.parse(config.getString(QUEUE_WAIT_STRATEGY), QUEUE_WAIT_STRATEGY.defaultValueAsString());
+        this.queueLinger = config.getDuration(QUEUE_LINGER_MS, ChronoUnit.MILLIS);
+        this.queueOverflowDirectory = config.getString(QUEUE_OVERFLOW_DIR);
+        this.queueOverflowMaxBytes = config.getLong(QUEUE_OVERFLOW_MAX_BYTES);
+        this.queueOverflowSegmentBytes = config.getInteger(QUEUE_OVERFLOW_SEGMENT_BYTES);
         this.logicalName = logicalName;
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.snapshotDelayMs = Duration.ofMillis(config.getLong(SNAPSHOT_DELAY_MS));
@@ -506,6 +656,32 @@ public Duration getPollInterval() {
         return pollInterval;
     }
 
+    public QueueWaitStrategy getQueueWaitStrategy() {
+        return queueWaitStrategy;
+    }
+
+    public Duration getQueueLinger() {
+        return queueLinger;
+    }
+
+    /**
+     * Returns the directory for the overflow journal of the change event queue of this connector.
+     *
+     * @return the connector-specific sub-directory of the configured directory, or {@code null} if no overflow journal
+     *         is configured
+     */
+    public Path getQueueOverflowDirectory() {
+        return Strings.isNullOrEmpty(queueOverflowDirectory) ? null : Paths.get(queueOverflowDirectory, logicalName);
+    }
+
+    public long getQueueOverflowMaxBytes() {
+        return queueOverflowMaxBytes;
+    }
+
+    public int getQueueOverflowSegmentBytes() {
+        return queueOverflowSegmentBytes;
+    }
+
     public String getLogicalName() {
         return logicalName;
     }
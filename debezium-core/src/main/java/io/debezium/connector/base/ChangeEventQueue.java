@@ -5,29 +5,37 @@
  */
 package io.debezium.connector.base;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig.QueueWaitStrategy;
 import io.debezium.config.ConfigurationDefaults;
+import io.debezium.metrics.Histogram;
 import io.debezium.time.Temporals;
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
 import io.debezium.util.Metronome;
 import io.debezium.util.ObjectSizeCalculator;
-import io.debezium.util.Threads;
-import io.debezium.util.Threads.Timer;
 
 /**
  * A queue which serves as handover point between producer threads (e.g. MySQL's
@@ -38,7 +46,17 @@
  * {@link Builder} for the different options. The queue applies back-pressure
  * semantics, i.e. if it holds the maximum number of elements, subsequent calls
  * to {@link #enqueue(Object)} will block until elements have been removed from
- * the queue.
+ * the queue. Producers that have several records at hand can pass them with
+ * {@link #enqueueAll(List)}, which acquires the queue only once for all of them.
+ * <p>
+ * How {@link #poll()} waits for records to arrive is determined by the configured {@link QueueWaitStrategy}, trading
+ * CPU usage for latency. If a linger time is configured, {@link #poll()} waits up to that time after the first record
+ * has arrived for a complete batch, rather than returning the records available at that point.
+ * <p>
+ * If an {@link OverflowJournal} is configured, records exceeding the maximum queue size (or size in bytes) do not
+ * block the producer, but are written to the journal on local disk, until the journal reaches its maximum size. The
+ * records are returned in the order they were enqueued, regardless of whether they were kept on the heap or not.
+ * Records are converted to and from their serialized form without holding the queue's lock.
  * <p>
  * If an exception occurs on the producer side, the producer should make that
  * exception known by calling {@link #producerException(RuntimeException)} before stopping its
@@ -58,27 +76,87 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
 
+    /**
+     * The queue time is measured for one in {@code 2^QUEUE_TIME_SAMPLING_BITS} events
+     */
+    private static final int QUEUE_TIME_SAMPLING_BITS = 4;
+    private static final long QUEUE_TIME_SAMPLING_MASK = (1L << QUEUE_TIME_SAMPLING_BITS) - 1;
+
+    private static final int INITIAL_QUEUE_CAPACITY = 1024;
+
+    /**
+     * The number of rounds the {@link QueueWaitStrategy#PARK park} strategy spins and yields before parking
+     */
+    private static final int SPIN_ROUNDS = 100;
+    private static final int YIELD_ROUNDS = 100;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_PARK_DOUBLINGS = 10;
+
+    /**
+     * Where {@link #put(Object, long, byte[])} has added a record to
+     */
+    private enum Placement {
+        QUEUE,
+        JOURNAL,
+        /**
+         * The record must go to the journal but hasn't been serialized yet, so it hasn't been added
+         */
+        SERIALIZATION_REQUIRED
+    }
+
     private final Duration pollInterval;
+    private final QueueWaitStrategy waitStrategy;
+    private final long lingerNanos;
     private final int maxBatchSize;
     private final int maxQueueSize;
     private final long maxQueueSizeInBytes;
-    private final BlockingQueue<T> queue;
+    private final Deque<T> queue;
+    private final OverflowJournal<T> journal;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    /**
+     * The number of records in the queue, allowing to check for records without acquiring the lock
+     */
+    private volatile int size;
+    /**
+     * The number of records a blocked consumer waits for, or {@code 0} if the consumer is not blocked; guarded by the lock
+     */
+    private int awaitedSize;
     private final Metronome metronome;
     private final Supplier<PreviousContext> loggingContextSupplier;
     private AtomicLong currentQueueSizeInBytes = new AtomicLong(0);
     private Map<T, Long> objectMap = new ConcurrentHashMap<>();
 
+    /**
+     * The enqueue times of the sampled events in the queue, see {@link #recordEnqueueTime()}
+     */
+    private final AtomicLongArray enqueueTimes;
+    private final int enqueueTimesMask;
+    private long enqueuedEvents;
+    private long dequeuedEvents;
+    private final Histogram queueTime = new Histogram();
+    private final Histogram pollBatchSizes = new Histogram();
+
     private volatile RuntimeException producerException;
 
     private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes) {
+                             long maxQueueSizeInBytes, QueueWaitStrategy waitStrategy, Duration linger, OverflowJournal<T> journal) {
         this.pollInterval = pollInterval;
+        this.waitStrategy = waitStrategy != null ? waitStrategy : QueueWaitStrategy.SLEEP;
+        this.lingerNanos = linger != null ? linger.toNanos() : 0;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queue = new ArrayDeque<>(Math.min(maxQueueSize, INITIAL_QUEUE_CAPACITY));
+        this.journal = journal;
         this.metronome = Metronome.sleeper(pollInterval, Clock.SYSTEM);
         this.loggingContextSupplier = loggingContextSupplier;
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+        // room for the sampled events in the queue and those of producers that did not record their event yet
+        final int enqueueTimesSize = Integer.highestOneBit(Math.max(maxQueueSize >>> QUEUE_TIME_SAMPLING_BITS, 1)) << 2;
+        this.enqueueTimes = new AtomicLongArray(enqueueTimesSize * 2);
+        this.enqueueTimesMask = enqueueTimesSize - 1;
     }
 
     public static class Builder<T> {
@@ -88,6 +166,12 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private int maxBatchSize;
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
         private long maxQueueSizeInBytes;
+        private QueueWaitStrategy waitStrategy;
+        private Duration linger;
+        private Path overflowDirectory;
+        private long overflowMaxSizeInBytes;
+        private int overflowSegmentSizeInBytes;
+        private OverflowJournal.Serializer<T> overflowSerializer;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -114,14 +198,49 @@ public Builder<T> maxQueueSizeInBytes(long maxQueueSizeInBytes) {
             return this;
         }
 
+        public Builder<T> waitStrategy(QueueWaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder<T> linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        /**
+         * Configures an {@link OverflowJournal} for the records exceeding the maximum queue size.
+         *
+         * @param directory the directory of the journal; if null, no journal is used
+         * @param maxSizeInBytes the maximum size of the journal
+         * @param segmentSizeInBytes the size of the journal's segment files
+         * @param serializer the serializer for the records written to the journal
+         */
+        public Builder<T> overflowJournal(Path directory, long maxSizeInBytes, int segmentSizeInBytes, OverflowJournal.Serializer<T> serializer) {
+            this.overflowDirectory = directory;
+            this.overflowMaxSizeInBytes = maxSizeInBytes;
+            this.overflowSegmentSizeInBytes = segmentSizeInBytes;
+            this.overflowSerializer = serializer;
+            return this;
+        }
+
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes);
+            OverflowJournal<T> journal = null;
+            if (overflowDirectory != null) {
+                try {
+                    journal = OverflowJournal.open(overflowDirectory, overflowMaxSizeInBytes, overflowSegmentSizeInBytes, overflowSerializer);
+                }
+                catch (IOException e) {
+                    throw new DebeziumException("Couldn't open overflow journal in " + overflowDirectory, e);
+                }
+            }
+            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, waitStrategy, linger, journal);
         }
     }
 
     /**
      * Enqueues a record so that it can be obtained via {@link #poll()}. This method
-     * will block if the queue is full.
+     * will block if the queue (and its overflow journal, if any) is full.
      *
      * @param record
      *            the record to be enqueued
@@ -141,23 +260,216 @@ public void enqueue(T record) throws InterruptedException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Enqueuing source record '{}'", record);
         }
-        // Waiting for queue to add more record.
-        while (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() > maxQueueSizeInBytes) {
+        waitForQueueSizeInBytes();
+
+        final long sizeInBytes = sizeInBytes(record);
+        byte[] serialized = null;
+        for (;;) {
+            final Placement placement;
+            lock.lockInterruptibly();
+            try {
+                placement = put(record, sizeInBytes, serialized);
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (placement != Placement.SERIALIZATION_REQUIRED) {
+                return;
+            }
+            serialized = journal.serialize(record);
+        }
+    }
+
+    /**
+     * Enqueues the given records, in their order, so that they can be obtained via {@link #poll()}. The queue is
+     * acquired once for all the records instead of once per record; if the records do not fit into the queue, this
+     * method blocks until the consumer has made room for the remaining ones, so the maximum queue size is honoured.
+     *
+     * @param records
+     *            the records to be enqueued; null elements are ignored
+     * @throws InterruptedException
+     *             if this thread has been interrupted
+     */
+    public void enqueueAll(List<T> records) throws InterruptedException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Enqueuing {} source records", records.size());
+        }
+        waitForQueueSizeInBytes();
+
+        final int count = records.size();
+        final long[] sizesInBytes = maxQueueSizeInBytes > 0 ? new long[count] : null;
+        if (sizesInBytes != null) {
+            for (int j = 0; j < count; j++) {
+                sizesInBytes[j] = sizeInBytes(records.get(j));
+            }
+        }
+        byte[][] serialized = null;
+        int i = 0;
+        while (i < count) {
+            lock.lockInterruptibly();
+            try {
+                for (; i < count; i++) {
+                    final T record = records.get(i);
+                    if (record == null) {
+                        continue;
+                    }
+                    final Placement placement = put(record, sizesInBytes != null ? sizesInBytes[i] : 0, serialized != null ? serialized[i] : null);
+                    if (placement == Placement.SERIALIZATION_REQUIRED) {
+                        break;
+                    }
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (i < count) {
+                // the remaining records go to the journal, too, unless the consumer catches up in the meantime
+                if (serialized == null) {
+                    serialized = new byte[count][];
+                }
+                for (int j = i; j < count; j++) {
+                    final T record = records.get(j);
+                    if (record != null) {
+                        serialized[j] = journal.serialize(record);
+                    }
+                }
+            }
+        }
+    }
+
+    private void waitForQueueSizeInBytes() throws InterruptedException {
+        // Waiting for queue to add more record; with an overflow journal, such records are written to the journal instead
+        while (journal == null && maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() > maxQueueSizeInBytes) {
             Thread.sleep(pollInterval.toMillis());
         }
+    }
+
+    /**
+     * Adds a record to the queue, or to the overflow journal if the queue is full, waiting for room if both are full;
+     * the lock must be held by the caller. The record is not serialized here, so that the lock isn't held for the
+     * conversion; if it has to go to the journal but {@code serialized} is null, the caller must release the lock,
+     * serialize the record and try again.
+     *
+     * @param sizeInBytes the size of the record as per {@link #sizeInBytes(Object)}, accounted for if it is added to the
+     *            queue, so that the consumer cannot take the record before its size has been recorded
+     * @param serialized the serialized form of the record, if already known; may be null
+     * @return where the record has been added to
+     */
+    private Placement put(T record, long sizeInBytes, byte[] serialized) throws InterruptedException {
         // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
-        queue.put(record);
+        for (;;) {
+            // once records have overflown, further ones are written to the journal, too, so their order is retained
+            if ((journal == null || journal.isEmpty()) && !isQueueFull()) {
+                queue.addLast(record);
+                recordQueueSizeInBytes(record, sizeInBytes);
+                onEnqueued();
+                return Placement.QUEUE;
+            }
+            if (journal != null) {
+                if (serialized == null) {
+                    return Placement.SERIALIZATION_REQUIRED;
+                }
+                if (journal.append(serialized)) {
+                    onEnqueued();
+                    return Placement.JOURNAL;
+                }
+            }
+            notFull.await();
+        }
+    }
+
+    private boolean isQueueFull() {
+        return queue.size() >= maxQueueSize || (journal != null && maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() > maxQueueSizeInBytes);
+    }
+
+    private int currentSize() {
+        return journal == null ? queue.size() : (int) Math.min(Integer.MAX_VALUE, queue.size() + journal.size());
+    }
+
+    private void onEnqueued() {
+        size = currentSize();
+        recordEnqueueTime();
+        if (awaitedSize > 0 && size >= awaitedSize) {
+            awaitedSize = 0;
+            notEmpty.signal();
+        }
+    }
+
+    /**
+     * Calculates the size of a record outside of the lock, as this is expensive.
+     *
+     * @return the size of the record, or {@code 0} if the size of the queue in bytes is not limited
+     */
+    private long sizeInBytes(T record) {
         // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
+        return maxQueueSizeInBytes > 0 && record != null ? ObjectSizeCalculator.getObjectSize(record) : 0;
+    }
+
+    private void recordQueueSizeInBytes(T record, long messageSize) {
         if (maxQueueSizeInBytes > 0) {
-            long messageSize = ObjectSizeCalculator.getObjectSize(record);
             objectMap.put(record, messageSize);
             currentQueueSizeInBytes.addAndGet(messageSize);
         }
     }
 
+    /**
+     * Moves up to {@code maxBatchSize} records from the queue, followed by those of the overflow journal, into the
+     * given list.
+     *
+     * @return the number of records moved
+     */
+    private int drainTo(List<T> records) {
+        final int count;
+        List<byte[]> overflown = null;
+        lock.lock();
+        try {
+            count = Math.min(currentSize(), maxBatchSize);
+            for (int i = 0; i < count; i++) {
+                final T record = queue.pollFirst();
+                if (record != null) {
+                    records.add(record);
+                }
+                else {
+                    // the queue is empty, all further records are taken from the journal
+                    if (overflown == null) {
+                        overflown = new ArrayList<>(count - i);
+                    }
+                    overflown.add(journal.poll());
+                }
+            }
+            if (count > 0) {
+                size = currentSize();
+                notFull.signalAll();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (overflown != null) {
+            for (byte[] data : overflown) {
+                records.add(journal.deserialize(data));
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
-     * elements have arrived in the maximum waiting time.
+     * elements have arrived in the maximum waiting time. If a linger time is
+     * configured, waits up to that time for a complete batch once the first
+     * element has arrived.
      *
      * @throws InterruptedException
      *             if this thread has been interrupted while waiting for more
@@ -169,15 +481,33 @@ public List<T> poll() throws InterruptedException {
         try {
             LOGGER.debug("polling records...");
             List<T> records = new ArrayList<>();
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            while (!timeout.expired() && queue.drainTo(records, maxBatchSize) == 0) {
+            final int batchSize = Math.min(maxBatchSize, maxQueueSize);
+            long deadline = System.nanoTime() + Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL).toNanos();
+            int awaited = 1;
+            for (int round = 0;; round++) {
+                if (size >= awaited) {
+                    if (awaited == 1 && lingerNanos > 0 && size < batchSize) {
+                        // the first records have arrived, give the batch some time to fill up
+                        awaited = batchSize;
+                        final long lingerDeadline = System.nanoTime() + lingerNanos;
+                        if (lingerDeadline - deadline < 0) {
+                            deadline = lingerDeadline;
+                        }
+                        continue;
+                    }
+                    drainTo(records);
+                    break;
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    // takes the records that arrived while lingering, if any
+                    drainTo(records);
+                    break;
+                }
                 throwProducerExceptionIfPresent();
-
-                LOGGER.debug("no records available yet, sleeping a bit...");
-                // no records yet, so wait a bit
-                metronome.pause();
-                LOGGER.debug("checking for more records...");
+                awaitRecords(awaited, remaining, round);
             }
+            recordDequeueTimes(records.size());
             if (maxQueueSizeInBytes > 0 && records.size() > 0) {
                 records.parallelStream().forEach((record) -> {
                     if (objectMap.containsKey(record)) {
@@ -193,6 +523,124 @@ public List<T> poll() throws InterruptedException {
         }
     }
 
+    /**
+     * Waits for the given number of records to be in the queue, as determined by the wait strategy; may return early,
+     * so the caller must check the queue again.
+     *
+     * @param count the number of records to wait for
+     * @param timeoutNanos the maximum time to wait
+     * @param round the number of previous calls within the current {@link #poll()}
+     */
+    private void awaitRecords(int count, long timeoutNanos, int round) throws InterruptedException {
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        switch (waitStrategy) {
+            case BLOCKING:
+                lock.lockInterruptibly();
+                try {
+                    if (size < count) {
+                        awaitedSize = count;
+                        notEmpty.awaitNanos(timeoutNanos);
+                    }
+                }
+                finally {
+                    awaitedSize = 0;
+                    lock.unlock();
+                }
+                break;
+            case BUSY_SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            case PARK:
+                if (round >= SPIN_ROUNDS + YIELD_ROUNDS) {
+                    // doubling the time parked up to the maximum
+                    final long parkNanos = Math.min(MIN_PARK_NANOS << Math.min(round - SPIN_ROUNDS - YIELD_ROUNDS, MAX_PARK_DOUBLINGS), MAX_PARK_NANOS);
+                    LockSupport.parkNanos(this, Math.min(parkNanos, timeoutNanos));
+                }
+                else if (round >= SPIN_ROUNDS) {
+                    Thread.yield();
+                }
+                break;
+            default:
+                LOGGER.debug("no records available yet, sleeping a bit...");
+                if (count == 1) {
+                    // no records yet, so wait a bit
+                    metronome.pause();
+                }
+                else {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(timeoutNanos, pollInterval.toNanos()));
+                }
+                LOGGER.debug("checking for more records...");
+                break;
+        }
+    }
+
+    /**
+     * Stores the time a sampled event was put into the queue in a ring buffer indexed by the sequence number of the
+     * event, so that the queue time can be measured without wrapping the events. Each slot holds the sequence number
+     * next to the time, allowing the consumer to detect slots not written yet or overwritten already. The lock must be
+     * held by the caller.
+     */
+    private void recordEnqueueTime() {
+        final long sequence = enqueuedEvents++;
+        if ((sequence & QUEUE_TIME_SAMPLING_MASK) == 0) {
+            final int slot = slotOf(sequence);
+            enqueueTimes.set(slot + 1, System.nanoTime());
+            enqueueTimes.set(slot, sequence + 1);
+        }
+    }
+
+    private void recordDequeueTimes(int events) {
+        if (events == 0) {
+            return;
+        }
+        pollBatchSizes.record(events);
+        final long end = dequeuedEvents + events;
+        long sequence = (dequeuedEvents + QUEUE_TIME_SAMPLING_MASK) & ~QUEUE_TIME_SAMPLING_MASK;
+        dequeuedEvents = end;
+        if (sequence >= end) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (; sequence < end; sequence += QUEUE_TIME_SAMPLING_MASK + 1) {
+            final int slot = slotOf(sequence);
+            if (enqueueTimes.get(slot) == sequence + 1) {
+                final long enqueueTime = enqueueTimes.get(slot + 1);
+                if (enqueueTimes.get(slot) == sequence + 1) {
+                    queueTime.record(TimeUnit.NANOSECONDS.toMicros(now - enqueueTime));
+                }
+            }
+        }
+    }
+
+    private int slotOf(long sequence) {
+        return ((int) (sequence >>> QUEUE_TIME_SAMPLING_BITS) & enqueueTimesMask) << 1;
+    }
+
+    /**
+     * Releases the resources of this queue, i.e. deletes the overflow journal, if any. Must not be called before all
+     * producers have been stopped.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+        catch (IOException e) {
+            LOGGER.warn("Couldn't close overflow journal", e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
     }
@@ -210,7 +658,11 @@ public int totalCapacity() {
 
     @Override
     public int remainingCapacity() {
-        return queue.remainingCapacity();
+        return Math.max(maxQueueSize - size, 0);
+    }
+
+    public int maxBatchSize() {
+        return maxBatchSize;
     }
 
     @Override
@@ -222,4 +674,14 @@ public long maxQueueSizeInBytes() {
     public long currentQueueSizeInBytes() {
         return currentQueueSizeInBytes.get();
     }
+
+    @Override
+    public Histogram queueTimeInMicroSeconds() {
+        return queueTime;
+    }
+
+    @Override
+    public Histogram pollBatchSizes() {
+        return pollBatchSizes;
+    }
 }
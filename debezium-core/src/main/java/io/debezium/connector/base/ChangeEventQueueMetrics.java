@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.base;
 
+import io.debezium.metrics.Histogram;
+
 public interface ChangeEventQueueMetrics {
 
     int totalCapacity();
@@ -14,4 +16,18 @@ public interface ChangeEventQueueMetrics {
     long maxQueueSizeInBytes();
 
     long currentQueueSizeInBytes();
+
+    /**
+     * @return the distribution of the time in microseconds the events spent in the queue, or {@code null} if not tracked
+     */
+    default Histogram queueTimeInMicroSeconds() {
+        return null;
+    }
+
+    /**
+     * @return the distribution of the number of events returned by a single poll, or {@code null} if not tracked
+     */
+    default Histogram pollBatchSizes() {
+        return null;
+    }
 }
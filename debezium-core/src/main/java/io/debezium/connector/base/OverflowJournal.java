@@ -0,0 +1,308 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A FIFO journal of serialized records on local disk, used by the {@link ChangeEventQueue} to take the records that
+ * exceed its on-heap capacity.
+ * <p>
+ * The records are appended to memory-mapped segment files of a fixed size, so neither writing nor reading them
+ * requires heap memory beyond the records themselves; a segment is deleted as soon as all its records have been
+ * read. The journal exclusively uses a sub-directory of the given base directory, which is guarded by a file lock;
+ * segments left over by a previous process are discarded when the journal is opened, as the connector resumes from
+ * its last committed offset anyway.
+ *
+ * @param <T> the type of the records in the journal
+ */
+@NotThreadSafe
+public class OverflowJournal<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OverflowJournal.class);
+
+    private static final String LOCK_FILE = ".lock";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+    /**
+     * The directories used by journals of this JVM; file locks only guard against other processes
+     */
+    private static final Set<Path> DIRECTORIES_IN_USE = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Converts records to bytes and back. Called by the journal's users without holding their lock, so it must be
+     * thread-safe.
+     *
+     * @param <T> the type of the records
+     */
+    public interface Serializer<T> {
+
+        byte[] serialize(T record);
+
+        T deserialize(byte[] data);
+    }
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final long maxSizeInBytes;
+    private final int segmentSizeInBytes;
+    private final Serializer<T> serializer;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private long size;
+    private long sizeInBytes;
+    private boolean closed;
+
+    private OverflowJournal(Path directory, FileChannel lockChannel, FileLock lock, long maxSizeInBytes, int segmentSizeInBytes,
+                            Serializer<T> serializer) {
+        this.directory = directory;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.segmentSizeInBytes = segmentSizeInBytes;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Opens a journal in the first sub-directory of the given directory that is not used by another journal.
+     *
+     * @param baseDirectory the directory to create the journal in; may not be null
+     * @param maxSizeInBytes the maximum size of all segments of the journal
+     * @param segmentSizeInBytes the size of a single segment
+     * @param serializer the serializer of the records; may not be null
+     * @return the journal; never null
+     * @throws IOException if the journal directory cannot be created or cleaned up
+     */
+    public static <T> OverflowJournal<T> open(Path baseDirectory, long maxSizeInBytes, int segmentSizeInBytes, Serializer<T> serializer) throws IOException {
+        for (int i = 0;; i++) {
+            final Path directory = baseDirectory.resolve(Integer.toString(i)).toAbsolutePath().normalize();
+            if (!DIRECTORIES_IN_USE.add(directory)) {
+                continue;
+            }
+            FileChannel lockChannel = null;
+            FileLock lock = null;
+            try {
+                Files.createDirectories(directory);
+                lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                lock = lockChannel.tryLock();
+                if (lock == null) {
+                    // used by another process
+                    lockChannel.close();
+                    DIRECTORIES_IN_USE.remove(directory);
+                    continue;
+                }
+
+                try (DirectoryStream<Path> staleSegments = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                    for (Path segment : staleSegments) {
+                        LOGGER.info("Discarding segment '{}' of a previous overflow journal", segment);
+                        Files.delete(segment);
+                    }
+                }
+            }
+            catch (IOException e) {
+                if (lockChannel != null) {
+                    // also releases the lock
+                    lockChannel.close();
+                }
+                DIRECTORIES_IN_USE.remove(directory);
+                throw e;
+            }
+
+            LOGGER.info("Using overflow journal in '{}'", directory);
+            return new OverflowJournal<>(directory, lockChannel, lock, maxSizeInBytes, segmentSizeInBytes, serializer);
+        }
+    }
+
+    /**
+     * Converts the given record into its serialized form, to be passed to {@link #append(byte[])}. May be called
+     * concurrently with the other methods of the journal.
+     */
+    public byte[] serialize(T record) {
+        return serializer.serialize(record);
+    }
+
+    /**
+     * Converts a serialized record obtained from {@link #poll()} back into a record. May be called concurrently with
+     * the other methods of the journal.
+     *
+     * @param data the serialized record; may be null
+     * @return the record, or {@code null} if the given data is null
+     */
+    public T deserialize(byte[] data) {
+        return data == null ? null : serializer.deserialize(data);
+    }
+
+    /**
+     * Appends a serialized record to the journal.
+     *
+     * @param data the serialized record; may not be null
+     * @return {@code true} if the record was appended, {@code false} if the journal has reached its maximum size
+     */
+    public boolean append(byte[] data) {
+        ensureOpen();
+        final int required = RECORD_HEADER_SIZE + data.length;
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.writer.remaining() < required) {
+            final int capacity = Math.max(segmentSizeInBytes, required);
+            // a single record exceeding the maximum size is accepted so that it can pass at all
+            if (!segments.isEmpty() && sizeInBytes + capacity > maxSizeInBytes) {
+                return false;
+            }
+            tail = newSegment(capacity);
+        }
+        tail.writer.putInt(data.length);
+        tail.writer.put(data);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the oldest record from the journal.
+     *
+     * @return the serialized record, to be passed to {@link #deserialize(byte[])}, or {@code null} if the journal is
+     *         empty
+     */
+    public byte[] poll() {
+        ensureOpen();
+        if (size == 0) {
+            return null;
+        }
+        Segment head = segments.peekFirst();
+        while (head.reader.position() == head.writer.position()) {
+            deleteFirstSegment();
+            head = segments.peekFirst();
+        }
+        final byte[] data = new byte[head.reader.getInt()];
+        head.reader.get(data);
+        size--;
+
+        if (head.reader.position() == head.writer.position()) {
+            if (segments.size() > 1) {
+                deleteFirstSegment();
+            }
+            else {
+                // the only segment is read completely, so it can be written from the start again
+                head.reader.clear();
+                head.writer.clear();
+            }
+        }
+        return data;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of records in the journal
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return the size of the segments currently allocated by the journal
+     */
+    public long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Deletes all segments of the journal and releases its directory.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            while (!segments.isEmpty()) {
+                deleteFirstSegment();
+            }
+        }
+        finally {
+            size = 0;
+            try {
+                lock.release();
+                lockChannel.close();
+            }
+            finally {
+                DIRECTORIES_IN_USE.remove(directory);
+            }
+        }
+    }
+
+    private Segment newSegment(int capacity) {
+        final Path path = directory.resolve(SEGMENT_PREFIX + nextSegmentId++ + SEGMENT_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping remains valid after the channel has been closed
+            final Segment segment = new Segment(path, channel.map(MapMode.READ_WRITE, 0, capacity));
+            segments.addLast(segment);
+            sizeInBytes += capacity;
+            return segment;
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Couldn't create overflow journal segment " + path, e);
+        }
+    }
+
+    private void deleteFirstSegment() {
+        final Segment segment = segments.removeFirst();
+        sizeInBytes -= segment.capacity;
+        try {
+            // the file's storage is released once the mapping has been garbage-collected
+            Files.deleteIfExists(segment.path);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Couldn't delete overflow journal segment '{}'", segment.path, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The overflow journal in '" + directory + "' has been closed");
+        }
+    }
+
+    private static class Segment {
+
+        private final Path path;
+        private final int capacity;
+        private final ByteBuffer writer;
+        private final ByteBuffer reader;
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.capacity = buffer.capacity();
+            this.writer = buffer.duplicate();
+            this.reader = buffer.duplicate();
+        }
+    }
+}
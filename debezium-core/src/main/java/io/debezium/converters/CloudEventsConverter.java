@@ -103,6 +103,11 @@ public class CloudEventsConverter implements Converter {
     private SerializerType ceSerializerType = withName(CloudEventsConverterConfig.CLOUDEVENTS_SERIALIZER_TYPE_DEFAULT);
     private SerializerType dataSerializerType = withName(CloudEventsConverterConfig.CLOUDEVENTS_DATA_SERIALIZER_TYPE_DEFAULT);
 
+    /**
+     * Envelope names of different databases may legitimately map to the same replacement, so conflicts are only logged
+     */
+    private final SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create(LOGGER, null);
+
     private final JsonConverter jsonCloudEventsConverter = new JsonConverter();
     private final JsonConverter jsonDataConverter = new JsonConverter();
     private boolean enableJsonSchemas;
@@ -377,7 +382,6 @@ private SchemaAndValue reconvertData(String topic, byte[] serializedData, Serial
     }
 
     private SchemaAndValue convertToCloudEventsFormat(RecordParser parser, CloudEventsMaker maker, Schema dataSchemaType, String dataSchema, Object serializedData) {
-        SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create(LOGGER);
         Struct source = parser.source();
         Schema sourceSchema = parser.source().schema();
         final Struct transaction = parser.transaction();
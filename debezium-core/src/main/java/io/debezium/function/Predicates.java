@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -19,6 +20,8 @@
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 import io.debezium.util.Strings;
 
 /**
@@ -31,6 +34,11 @@ public class Predicates {
 
     private static final Pattern LITERAL_SEPARATOR_PATTERN = Pattern.compile(",");
 
+    /**
+     * Patterns without back references and quoted sections, which keep their meaning when being part of an alternation.
+     */
+    private static final Pattern COMBINABLE_PATTERN = Pattern.compile("(?s)(?:[^\\\\]|\\\\[^0-9kQ])*");
+
     /**
      * Generate a predicate function that for any supplied UUID strings returns {@code true} if <i>any</i> of the comma-separated
      * UUID literals or regular expressions matches the predicate parameter. This supplied strings can be a mixture
@@ -207,13 +215,82 @@ public static <T, U> BiPredicate<T, U> includes(String regexPatterns, BiFunction
     }
 
     protected static <T> Predicate<T> includedInPatterns(Collection<Pattern> patterns, Function<T, String> conversion) {
+        final Pattern combined = combine(patterns);
+        if (combined != null) {
+            return (t) -> {
+                String str = conversion.apply(t);
+                return str != null && combined.matcher(str).matches();
+            };
+        }
         return (t) -> matchedByPattern(patterns, conversion).apply(t).isPresent();
     }
 
     protected static <T, U> BiPredicate<T, U> includedInPatterns(Collection<Pattern> patterns, BiFunction<T, U, String> conversion) {
+        final Pattern combined = combine(patterns);
+        if (combined != null) {
+            return (t, u) -> {
+                String str = conversion.apply(t, u);
+                return str != null && combined.matcher(str).matches();
+            };
+        }
         return (t, u) -> matchedByPattern(patterns, conversion).apply(t, u).isPresent();
     }
 
+    /**
+     * Compiles the given patterns into a single alternation, so that a value is matched by one pass of the regular
+     * expression engine instead of one matcher per pattern.
+     *
+     * @param patterns the patterns to combine; may not be null
+     * @return the combined pattern, or {@code null} if the patterns cannot be combined without changing their meaning,
+     *         e.g. because they use different flags, back references or quoting
+     */
+    private static Pattern combine(Collection<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        final int flags = patterns.iterator().next().flags();
+        final StringBuilder alternation = new StringBuilder();
+        for (Pattern pattern : patterns) {
+            if (pattern.flags() != flags || !COMBINABLE_PATTERN.matcher(pattern.pattern()).matches()) {
+                return null;
+            }
+            if (alternation.length() > 0) {
+                alternation.append('|');
+            }
+            alternation.append("(?:").append(pattern.pattern()).append(')');
+        }
+        try {
+            return Pattern.compile(alternation.toString(), flags);
+        }
+        catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a predicate that remembers the outcome of the given predicate for the most recently tested values, so that
+     * an expensive filter like a list of regular expressions is evaluated only once per distinct value. The given
+     * predicate must always return the same result for equal values.
+     *
+     * @param predicate the predicate whose results are to be cached; may not be null
+     * @param capacity the maximum number of values whose results are retained
+     * @return the caching predicate; never null
+     */
+    public static <T> Predicate<T> memoize(Predicate<T> predicate, int capacity) {
+        final Map<T, Boolean> decisions = new BoundedConcurrentHashMap<>(capacity, 16, Eviction.LRU);
+        return (t) -> {
+            if (t == null) {
+                return predicate.test(t);
+            }
+            Boolean decision = decisions.get(t);
+            if (decision == null) {
+                decision = predicate.test(t);
+                decisions.put(t, decision);
+            }
+            return decision;
+        };
+    }
+
     /**
      * Generate a predicate function that for any supplied string returns a {@link Pattern} representing the first regular expression
      * in the supplied comma-separated list that matches the predicate parameter in a case-insensitive manner.
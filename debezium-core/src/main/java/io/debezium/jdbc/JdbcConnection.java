@@ -1139,6 +1139,31 @@ protected int resolveJdbcType(int metadataJdbcType, int nativeType) {
     public void readSchema(Tables tables, String databaseCatalog, String schemaNamePattern,
                            TableFilter tableFilter, ColumnNameFilter columnFilter, boolean removeTablesNotFoundInJdbc)
             throws SQLException {
+        readSchema(tables, databaseCatalog, schemaNamePattern, null, tableFilter, columnFilter, removeTablesNotFoundInJdbc);
+    }
+
+    /**
+     * Create definitions for each tables in the database, given the catalog name, schema pattern, table name pattern,
+     * table filter, and column filter.
+     *
+     * @param tables the set of table definitions to be modified; may not be null
+     * @param databaseCatalog the name of the catalog, which is typically the database name; may be null if all accessible
+     *            databases are to be processed
+     * @param schemaNamePattern the pattern used to match database schema names, which may be "" to match only those tables with
+     *            no schema or null to process all accessible tables regardless of database schema name
+     * @param tableNamePattern the pattern used to match database table names; may be null to process all tables of the
+     *            matching schemas
+     * @param tableFilter used to determine for which tables are to be processed; may be null if all accessible tables are to be
+     *            processed
+     * @param columnFilter used to determine which columns should be included as fields in its table's definition; may
+     *            be null if all columns for all tables are to be included
+     * @param removeTablesNotFoundInJdbc {@code true} if this method should remove from {@code tables} any definitions for tables
+     *            that are not found in the database metadata, or {@code false} if such tables should be left untouched
+     * @throws SQLException if an error occurs while accessing the database metadata
+     */
+    public void readSchema(Tables tables, String databaseCatalog, String schemaNamePattern, String tableNamePattern,
+                           TableFilter tableFilter, ColumnNameFilter columnFilter, boolean removeTablesNotFoundInJdbc)
+            throws SQLException {
         // Before we make any changes, get the copy of the set of table IDs ...
         Set<TableId> tableIdsBefore = new HashSet<>(tables.tableIds());
 
@@ -1147,7 +1172,7 @@ public void readSchema(Tables tables, String databaseCatalog, String schemaNameP
 
         // Find regular and materialized views as they cannot be snapshotted
         final Set<TableId> viewIds = new HashSet<>();
-        try (final ResultSet rs = metadata.getTables(databaseCatalog, schemaNamePattern, null, new String[]{ "VIEW", "MATERIALIZED VIEW" })) {
+        try (final ResultSet rs = metadata.getTables(databaseCatalog, schemaNamePattern, tableNamePattern, new String[]{ "VIEW", "MATERIALIZED VIEW" })) {
             while (rs.next()) {
                 final String catalogName = rs.getString(1);
                 final String schemaName = rs.getString(2);
@@ -1157,7 +1182,7 @@ public void readSchema(Tables tables, String databaseCatalog, String schemaNameP
         }
 
         Map<TableId, List<Column>> columnsByTable = new HashMap<>();
-        try (ResultSet columnMetadata = metadata.getColumns(databaseCatalog, schemaNamePattern, null, null)) {
+        try (ResultSet columnMetadata = metadata.getColumns(databaseCatalog, schemaNamePattern, tableNamePattern, null)) {
             while (columnMetadata.next()) {
                 String catalogName = columnMetadata.getString(1);
                 String schemaName = columnMetadata.getString(2);
@@ -1179,9 +1204,9 @@ public void readSchema(Tables tables, String databaseCatalog, String schemaNameP
         }
 
         // Read the metadata for the primary keys ...
+        final Map<TableId, List<String>> pkColumnNamesByTable = readPrimaryKeyOrUniqueIndexNames(metadata, columnsByTable.keySet());
         for (Entry<TableId, List<Column>> tableEntry : columnsByTable.entrySet()) {
-            // First get the primary key information, which must be done for *each* table ...
-            List<String> pkColumnNames = readPrimaryKeyOrUniqueIndexNames(metadata, tableEntry.getKey());
+            List<String> pkColumnNames = pkColumnNamesByTable.get(tableEntry.getKey());
 
             // Then define the table ...
             List<Column> columns = tableEntry.getValue();
@@ -1284,6 +1309,20 @@ protected List<String> readPrimaryKeyOrUniqueIndexNames(DatabaseMetaData metadat
         return pkColumnNames.isEmpty() ? readTableUniqueIndices(metadata, id) : pkColumnNames;
     }
 
+    /**
+     * Reads the primary key or unique index column names of the given tables. By default the metadata is read table by
+     * table; connectors may override this to read it for all tables at once.
+     *
+     * @return the column names by table; never null
+     */
+    protected Map<TableId, List<String>> readPrimaryKeyOrUniqueIndexNames(DatabaseMetaData metadata, Set<TableId> tableIds) throws SQLException {
+        final Map<TableId, List<String>> pkColumnNamesByTable = new HashMap<>();
+        for (TableId id : tableIds) {
+            pkColumnNamesByTable.put(id, readPrimaryKeyOrUniqueIndexNames(metadata, id));
+        }
+        return pkColumnNamesByTable;
+    }
+
     private void cleanupPreparedStatement(PreparedStatement statement) {
         LOGGER.trace("Closing prepared statement '{}' removed from cache", statement);
         try {
@@ -38,6 +38,10 @@ protected Metrics(CommonConnectorConfig connectorConfig, String contextName) {
         this.name = metricName(connectorConfig.getContextName(), connectorConfig.getLogicalName(), contextName);
     }
 
+    protected Metrics(CommonConnectorConfig connectorConfig, String connectorName, String contextName) {
+        this.name = metricName(connectorConfig.getContextName(), connectorName, contextName);
+    }
+
     /**
      * Registers a metrics MBean into the platform MBean server.
      * The method is intentionally synchronized to prevent preemption between registration and unregistration.
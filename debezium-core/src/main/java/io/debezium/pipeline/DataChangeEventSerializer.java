@@ -0,0 +1,199 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.base.OverflowJournal;
+import io.debezium.util.Collect;
+
+/**
+ * Serializes {@link DataChangeEvent}s for the overflow journal of the change event queue. Keys, values and headers
+ * are written in the JSON format including their schemas, the source partition and offset are written with their
+ * value types, so that the offsets read back are identical to the original ones.
+ */
+public class DataChangeEventSerializer implements OverflowJournal.Serializer<DataChangeEvent> {
+
+    private static final int NULL = -1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_DOUBLE = 5;
+
+    private final JsonConverter converter;
+
+    public DataChangeEventSerializer() {
+        converter = new JsonConverter();
+        converter.configure(Collect.hashMapOf(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, true), false);
+    }
+
+    @Override
+    public byte[] serialize(DataChangeEvent event) {
+        final SourceRecord record = event.getRecord();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeMap(out, record.sourcePartition());
+            writeMap(out, record.sourceOffset());
+            out.writeUTF(record.topic());
+            writeNullableInt(out, record.kafkaPartition());
+            writeBytes(out, converter.fromConnectData(record.topic(), record.keySchema(), record.key()));
+            writeBytes(out, converter.fromConnectData(record.topic(), record.valueSchema(), record.value()));
+            out.writeBoolean(record.timestamp() != null);
+            if (record.timestamp() != null) {
+                out.writeLong(record.timestamp());
+            }
+            out.writeInt(record.headers().size());
+            for (Header header : record.headers()) {
+                out.writeUTF(header.key());
+                writeBytes(out, converter.fromConnectData(record.topic(), header.schema(), header.value()));
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Couldn't serialize change event " + record, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public DataChangeEvent deserialize(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            final Map<String, ?> partition = readMap(in);
+            final Map<String, ?> offset = readMap(in);
+            final String topic = in.readUTF();
+            final Integer kafkaPartition = in.readBoolean() ? in.readInt() : null;
+            final SchemaAndValue key = converter.toConnectData(topic, readBytes(in));
+            final SchemaAndValue value = converter.toConnectData(topic, readBytes(in));
+            final Long timestamp = in.readBoolean() ? in.readLong() : null;
+            final ConnectHeaders headers = new ConnectHeaders();
+            for (int i = in.readInt(); i > 0; i--) {
+                final String headerKey = in.readUTF();
+                final SchemaAndValue header = converter.toConnectData(topic, readBytes(in));
+                headers.add(headerKey, header);
+            }
+            return new DataChangeEvent(new SourceRecord(partition, offset, topic, kafkaPartition, key.schema(), key.value(), value.schema(), value.value(),
+                    timestamp, headers));
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Couldn't deserialize change event", e);
+        }
+    }
+
+    private void writeMap(DataOutputStream out, Map<String, ?> map) throws IOException {
+        if (map == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            final Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(TYPE_NULL);
+            }
+            else if (value instanceof String) {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF((String) value);
+            }
+            else if (value instanceof Long) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong((Long) value);
+            }
+            else if (value instanceof Integer) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt((Integer) value);
+            }
+            else if (value instanceof Boolean) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            }
+            else if (value instanceof Double) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble((Double) value);
+            }
+            else {
+                throw new DebeziumException("Unsupported type " + value.getClass().getName() + " of source partition or offset entry '" + entry.getKey() + "'");
+            }
+        }
+    }
+
+    private Map<String, ?> readMap(DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size == NULL) {
+            return null;
+        }
+        final Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            final String key = in.readUTF();
+            final byte type = in.readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    map.put(key, null);
+                    break;
+                case TYPE_STRING:
+                    map.put(key, in.readUTF());
+                    break;
+                case TYPE_LONG:
+                    map.put(key, in.readLong());
+                    break;
+                case TYPE_INTEGER:
+                    map.put(key, in.readInt());
+                    break;
+                case TYPE_BOOLEAN:
+                    map.put(key, in.readBoolean());
+                    break;
+                case TYPE_DOUBLE:
+                    map.put(key, in.readDouble());
+                    break;
+                default:
+                    throw new DebeziumException("Unknown type " + type + " of source partition or offset entry '" + key + "'");
+            }
+        }
+        return map;
+    }
+
+    private void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private void writeBytes(DataOutputStream out, byte[] data) throws IOException {
+        if (data == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL) {
+            return null;
+        }
+        final byte[] data = new byte[length];
+        in.readFully(data);
+        return data;
+    }
+}
@@ -6,6 +6,7 @@
 package io.debezium.pipeline;
 
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -82,6 +83,13 @@
      */
     private final StreamingChangeRecordReceiver streamingReceiver;
 
+    /**
+     * The events dispatched by the {@link #batchOwner} thread that are not handed over to the queue yet, see
+     * {@link #startBatch()}.
+     */
+    private final List<DataChangeEvent> batch = new ArrayList<>();
+    private Thread batchOwner;
+
     public EventDispatcher(CommonConnectorConfig connectorConfig, TopicSelector<T> topicSelector,
                            DatabaseSchema<T> schema, ChangeEventQueue<DataChangeEvent> queue, DataCollectionFilter<T> filter,
                            ChangeEventCreator changeEventCreator, EventMetadataProvider metadataProvider, SchemaNameAdjuster schemaNameAdjuster) {
@@ -238,6 +246,76 @@ public void changeRecord(DataCollectionSchema schema,
         }
     }
 
+    /**
+     * Starts collecting the events dispatched by the current thread, so that they are handed over to the change event
+     * queue in batches rather than one by one, sparing the synchronization with the consumer for each single event.
+     * A batch is handed over when it reaches the maximum batch size of the queue, upon {@link #flushBatch()} and upon
+     * {@link #completeBatch()}. Events dispatched by other threads are not affected, and the order of all events
+     * dispatched by the current thread, including heartbeat, transaction and schema change events, is retained.
+     * <p>
+     * Sources should flush the batch whenever they are about to wait for further changes.
+     */
+    public void startBatch() {
+        batchOwner = Thread.currentThread();
+    }
+
+    /**
+     * Hands over the events collected since {@link #startBatch()} or the last flush to the queue, while continuing to
+     * collect events. Does nothing if the current thread has not started a batch.
+     */
+    public void flushBatch() throws InterruptedException {
+        if (batchOwner == Thread.currentThread() && !batch.isEmpty()) {
+            try {
+                queue.enqueueAll(batch);
+            }
+            finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Hands over the events collected since {@link #startBatch()} or the last flush to the queue and stops collecting
+     * events. Does nothing if the current thread has not started a batch.
+     */
+    public void completeBatch() throws InterruptedException {
+        if (batchOwner == Thread.currentThread()) {
+            try {
+                flushBatch();
+            }
+            finally {
+                batchOwner = null;
+            }
+        }
+    }
+
+    /**
+     * Discards the events collected since {@link #startBatch()} or the last flush and stops collecting events, e.g.
+     * after the source failed, so that no events of a partially processed batch are handed over to the queue. Does
+     * nothing if the current thread has not started a batch or has completed it already.
+     */
+    public void abortBatch() {
+        if (batchOwner == Thread.currentThread()) {
+            if (!batch.isEmpty()) {
+                LOGGER.debug("Discarding {} events of an aborted batch", batch.size());
+                batch.clear();
+            }
+            batchOwner = null;
+        }
+    }
+
+    private void enqueue(DataChangeEvent event) throws InterruptedException {
+        if (batchOwner == Thread.currentThread()) {
+            batch.add(event);
+            if (batch.size() >= queue.maxBatchSize()) {
+                flushBatch();
+            }
+        }
+        else {
+            queue.enqueue(event);
+        }
+    }
+
     public void dispatchTransactionCommittedEvent(OffsetContext offset) throws InterruptedException {
         transactionMonitor.transactionComittedEvent(offset);
     }
@@ -305,15 +383,15 @@ public boolean heartbeatsEnabled() {
     }
 
     private void enqueueHeartbeat(SourceRecord record) throws InterruptedException {
-        queue.enqueue(new DataChangeEvent(record));
+        enqueue(new DataChangeEvent(record));
     }
 
     private void enqueueTransactionMessage(SourceRecord record) throws InterruptedException {
-        queue.enqueue(new DataChangeEvent(record));
+        enqueue(new DataChangeEvent(record));
     }
 
     private void enqueueSchemaChangeMessage(SourceRecord record) throws InterruptedException {
-        queue.enqueue(new DataChangeEvent(record));
+        enqueue(new DataChangeEvent(record));
     }
 
     /**
@@ -350,7 +428,7 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema,
                     null,
                     headers);
 
-            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
+            enqueue(changeEventCreator.createDataChangeEvent(record));
 
             if (emitTombstonesOnDelete && operation == Operation.DELETE) {
                 SourceRecord tombStone = record.newRecord(
@@ -363,28 +441,37 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema,
                         record.timestamp(),
                         record.headers());
 
-                queue.enqueue(changeEventCreator.createDataChangeEvent(tombStone));
+                enqueue(changeEventCreator.createDataChangeEvent(tombStone));
             }
         }
     }
 
+    /**
+     * Buffers the last snapshot record to mark it as the last one upon completion of the snapshot, and hands over the
+     * records to the queue in batches of the queue's maximum batch size. The receiver may be shared by several snapshot
+     * threads, so records are received one at a time.
+     */
     private final class BufferingSnapshotChangeRecordReceiver implements SnapshotReceiver {
 
+        private final List<DataChangeEvent> batch = new ArrayList<>();
         private Supplier<DataChangeEvent> bufferedEvent;
 
         @Override
-        public void changeRecord(DataCollectionSchema dataCollectionSchema,
-                                 Operation operation,
-                                 Object key, Struct value,
-                                 OffsetContext offsetContext,
-                                 ConnectHeaders headers)
+        public synchronized void changeRecord(DataCollectionSchema dataCollectionSchema,
+                                              Operation operation,
+                                              Object key, Struct value,
+                                              OffsetContext offsetContext,
+                                              ConnectHeaders headers)
                 throws InterruptedException {
             Objects.requireNonNull(value, "value must not be null");
 
             LOGGER.trace("Received change record for {} operation on key {}", operation, key);
 
             if (bufferedEvent != null) {
-                queue.enqueue(bufferedEvent.get());
+                batch.add(bufferedEvent.get());
+                if (batch.size() >= queue.maxBatchSize()) {
+                    enqueueBatch();
+                }
             }
 
             Schema keySchema = dataCollectionSchema.keySchema();
@@ -404,7 +491,7 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema,
         }
 
         @Override
-        public void completeSnapshot() throws InterruptedException {
+        public synchronized void completeSnapshot() throws InterruptedException {
             if (bufferedEvent != null) {
                 // It is possible that the last snapshotted table was empty
                 // this way we ensure that the last event is always marked as last
@@ -418,9 +505,21 @@ public void completeSnapshot() throws InterruptedException {
                         SnapshotRecord.LAST.toSource(source);
                     }
                 }
-                queue.enqueue(event);
+                batch.add(event);
                 bufferedEvent = null;
             }
+            enqueueBatch();
+        }
+
+        private void enqueueBatch() throws InterruptedException {
+            if (!batch.isEmpty()) {
+                try {
+                    queue.enqueueAll(batch);
+                }
+                finally {
+                    batch.clear();
+                }
+            }
         }
     }
 
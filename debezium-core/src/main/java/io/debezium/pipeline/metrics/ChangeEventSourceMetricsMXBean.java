@@ -5,6 +5,8 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.util.Map;
+
 /**
  * Metrics that are common for both snapshot and streaming change event sources
  *
@@ -32,5 +34,21 @@ public interface ChangeEventSourceMetricsMXBean {
 
     long getCurrentQueueSizeInBytes();
 
+    /**
+     * @return the count, mean, percentiles and maximum of the time in microseconds the events spent in the queue,
+     *         sampled for one in 16 events
+     */
+    Map<String, Long> getQueueTimeInMicroSecondsDistribution();
+
+    /**
+     * @return the count, mean, percentiles and maximum of the number of events returned by a single poll of the queue
+     */
+    Map<String, Long> getPollBatchSizeDistribution();
+
+    /**
+     * @return the number of events seen per captured data collection
+     */
+    Map<String, Long> getNumberOfEventsByDataCollection();
+
     void reset();
 }
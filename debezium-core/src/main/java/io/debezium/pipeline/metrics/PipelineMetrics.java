@@ -5,6 +5,12 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.connect.data.Struct;
@@ -12,6 +18,7 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.metrics.Histogram;
 import io.debezium.metrics.Metrics;
 import io.debezium.pipeline.ConnectorEvent;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
@@ -28,12 +35,15 @@
 @ThreadSafe
 public abstract class PipelineMetrics extends Metrics implements DataChangeEventListener, ChangeEventSourceMetricsMXBean {
 
+    protected static final long UNKNOWN_LAG = Long.MIN_VALUE;
+
     protected final EventMetadataProvider metadataProvider;
     protected final AtomicLong totalNumberOfEventsSeen = new AtomicLong();
     private final AtomicLong numberOfEventsFiltered = new AtomicLong();
     protected final AtomicLong numberOfErroneousEvents = new AtomicLong();
     protected final AtomicLong lastEventTimestamp = new AtomicLong(-1);
-    private volatile String lastEvent;
+    private volatile LastEvent lastEvent;
+    private final ConcurrentMap<DataCollectionId, AtomicLong> numberOfEventsByDataCollection = new ConcurrentHashMap<>();
 
     protected final Clock clock;
     private final ChangeEventQueueMetrics changeEventQueueMetrics;
@@ -50,8 +60,34 @@ protected <T extends CdcSourceTaskContext> PipelineMetrics(T taskContext, String
 
     @Override
     public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
-        updateCommonEventMetrics();
-        lastEvent = metadataProvider.toSummaryString(source, offset, key, value);
+        final long timestamp = clock.currentTimeInMillis();
+        final long sequence = totalNumberOfEventsSeen.incrementAndGet();
+        lastEventTimestamp.set(timestamp);
+
+        // consecutive events mostly belong to the same data collection, saving the lookup of its counter
+        final LastEvent previous = lastEvent;
+        final AtomicLong events;
+        if (source == null) {
+            events = null;
+        }
+        else if (previous != null && previous.source == source) {
+            events = previous.events;
+        }
+        else {
+            events = numberOfEventsByDataCollection.computeIfAbsent(source, id -> new AtomicLong());
+        }
+        if (events != null) {
+            events.incrementAndGet();
+        }
+        lastEvent = new LastEvent(sequence, timestamp, source, offset, key, value, events);
+    }
+
+    /**
+     * @return the last event passed to {@link #onEvent(DataCollectionId, OffsetContext, Object, Struct)}, or {@code null}
+     *         if there was none since the metrics were created or reset
+     */
+    protected LastEvent lastEvent() {
+        return lastEvent;
     }
 
     private void updateCommonEventMetrics() {
@@ -77,7 +113,8 @@ public void onConnectorEvent(ConnectorEvent event) {
 
     @Override
     public String getLastEvent() {
-        return lastEvent;
+        final LastEvent event = lastEvent;
+        return event != null ? event.summary() : null;
     }
 
     @Override
@@ -107,6 +144,7 @@ public void reset() {
         numberOfEventsFiltered.set(0);
         numberOfErroneousEvents.set(0);
         lastEvent = null;
+        numberOfEventsByDataCollection.clear();
     }
 
     @Override
@@ -129,4 +167,82 @@ public long getCurrentQueueSizeInBytes() {
         return changeEventQueueMetrics.currentQueueSizeInBytes();
     }
 
+    @Override
+    public Map<String, Long> getQueueTimeInMicroSecondsDistribution() {
+        return summaryOf(changeEventQueueMetrics.queueTimeInMicroSeconds());
+    }
+
+    @Override
+    public Map<String, Long> getPollBatchSizeDistribution() {
+        return summaryOf(changeEventQueueMetrics.pollBatchSizes());
+    }
+
+    @Override
+    public Map<String, Long> getNumberOfEventsByDataCollection() {
+        final Map<String, Long> events = new HashMap<>();
+        numberOfEventsByDataCollection.forEach((id, count) -> events.put(id.identifier(), count.get()));
+        return events;
+    }
+
+    protected static Map<String, Long> summaryOf(Histogram histogram) {
+        return histogram != null ? histogram.getSummary() : Collections.emptyMap();
+    }
+
+    /**
+     * A reference to the last data change event seen. Deriving metrics like the summary string from it is deferred
+     * until they are read via JMX, so processing an event costs no more than keeping this reference. The offset
+     * context is the live one, which is modified by later events; the position of the event itself is taken from the
+     * source info of its value, which is immutable.
+     */
+    protected final class LastEvent {
+
+        private final long sequence;
+        private final long processedAt;
+        private final DataCollectionId source;
+        private final OffsetContext offset;
+        private final Object key;
+        private final Struct value;
+        private final AtomicLong events;
+        private volatile String summary;
+
+        private LastEvent(long sequence, long processedAt, DataCollectionId source, OffsetContext offset, Object key, Struct value,
+                          AtomicLong events) {
+            this.sequence = sequence;
+            this.processedAt = processedAt;
+            this.source = source;
+            this.offset = offset;
+            this.key = key;
+            this.value = value;
+            this.events = events;
+        }
+
+        /**
+         * @return the number of events seen including this one, usable to sample the events
+         */
+        public long sequence() {
+            return sequence;
+        }
+
+        public String summary() {
+            String summary = this.summary;
+            if (summary == null) {
+                summary = metadataProvider.toSummaryString(source, offset, key, value);
+                this.summary = summary;
+            }
+            return summary;
+        }
+
+        /**
+         * @return the time between the event's occurrence in the source and its processing in milliseconds, or
+         *         {@link #UNKNOWN_LAG} if the event has no timestamp
+         */
+        public long lagBehindSource() {
+            final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
+            return eventTimestamp != null ? processedAt - eventTimestamp.toEpochMilli() : UNKNOWN_LAG;
+        }
+
+        public Map<String, String> eventSourcePosition() {
+            return metadataProvider.getEventSourcePosition(source, offset, key, value);
+        }
+    }
 }
@@ -5,8 +5,6 @@
  */
 package io.debezium.pipeline.metrics;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -20,6 +18,7 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.metrics.Histogram;
 import io.debezium.pipeline.ConnectorEvent;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
@@ -34,10 +33,14 @@ public class StreamingChangeEventSourceMetrics extends PipelineMetrics implement
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StreamingChangeEventSourceMetrics.class);
 
+    /**
+     * The lag behind the source is added to its distribution for one in 16 events
+     */
+    private static final long LAG_SAMPLING_MASK = 15;
+
     private final AtomicBoolean connected = new AtomicBoolean();
-    private final AtomicReference<Duration> lagBehindSource = new AtomicReference<>();
     private final AtomicLong numberOfCommittedTransactions = new AtomicLong();
-    private final AtomicReference<Map<String, String>> sourceEventPosition = new AtomicReference<Map<String, String>>(Collections.emptyMap());
+    private final Histogram lagBehindSource = new Histogram();
     private final AtomicReference<String> lastTransactionId = new AtomicReference<>();
 
     public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
@@ -62,13 +65,21 @@ public void connected(boolean connected) {
 
     @Override
     public Map<String, String> getSourceEventPosition() {
-        return sourceEventPosition.get();
+        final LastEvent event = lastEvent();
+        final Map<String, String> eventSource = event != null ? event.eventSourcePosition() : null;
+        return eventSource != null ? eventSource : Collections.emptyMap();
     }
 
     @Override
     public long getMilliSecondsBehindSource() {
-        Duration lag = lagBehindSource.get();
-        return lag != null ? lag.toMillis() : -1;
+        final LastEvent event = lastEvent();
+        final long lag = event != null ? event.lagBehindSource() : UNKNOWN_LAG;
+        return lag != UNKNOWN_LAG ? lag : -1;
+    }
+
+    @Override
+    public Map<String, Long> getMilliSecondsBehindSourceDistribution() {
+        return summaryOf(lagBehindSource);
     }
 
     @Override
@@ -80,9 +91,12 @@ public long getNumberOfCommittedTransactions() {
     public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
         super.onEvent(source, offset, key, value);
 
-        final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
-        if (eventTimestamp != null) {
-            lagBehindSource.set(Duration.between(eventTimestamp, Instant.now()));
+        final LastEvent event = lastEvent();
+        if ((event.sequence() & LAG_SAMPLING_MASK) == 0) {
+            final long lag = event.lagBehindSource();
+            if (lag != UNKNOWN_LAG) {
+                lagBehindSource.record(lag);
+            }
         }
 
         final String transactionId = metadataProvider.getTransactionId(source, offset, key, value);
@@ -92,11 +106,6 @@ public void onEvent(DataCollectionId source, OffsetContext offset, Object key, S
                 numberOfCommittedTransactions.incrementAndGet();
             }
         }
-
-        final Map<String, String> eventSource = metadataProvider.getEventSourcePosition(source, offset, key, value);
-        if (eventSource != null) {
-            sourceEventPosition.set(eventSource);
-        }
     }
 
     @Override
@@ -112,9 +121,8 @@ public String getLastTransactionId() {
     public void reset() {
         super.reset();
         connected.set(false);
-        lagBehindSource.set(null);
         numberOfCommittedTransactions.set(0);
-        sourceEventPosition.set(Collections.emptyMap());
+        lagBehindSource.reset();
         lastTransactionId.set(null);
     }
 }
@@ -18,6 +18,12 @@ public interface StreamingChangeEventSourceMetricsMXBean extends ChangeEventSour
 
     long getMilliSecondsBehindSource();
 
+    /**
+     * @return the count, mean, percentiles and maximum of the time in milliseconds between the occurrence of the events
+     *         in the source and their processing by the connector, sampled for one in 16 events
+     */
+    Map<String, Long> getMilliSecondsBehindSourceDistribution();
+
     long getNumberOfCommittedTransactions();
 
     Map<String, String> getSourceEventPosition();
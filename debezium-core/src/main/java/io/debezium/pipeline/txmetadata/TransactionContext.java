@@ -5,10 +5,13 @@
  */
 package io.debezium.pipeline.txmetadata;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.ObjLongConsumer;
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.schema.DataCollectionId;
@@ -34,22 +37,46 @@ public class TransactionContext {
             + TransactionMonitor.DEBEZIUM_TRANSACTION_DATA_COLLECTION_ORDER_KEY + "_";
     private static final int OFFSET_TABLE_COUNT_PREFIX_LENGTH = OFFSET_TABLE_COUNT_PREFIX.length();
 
+    private static final int INITIAL_SLOTS = 16;
+    private static final int MAX_RETAINED_SLOTS = 10_000;
+
     private String transactionId = null;
-    private final Map<String, Long> perTableEventCount = new HashMap<>();
-    private final Map<String, Long> viewPerTableEventCount = Collections.unmodifiableMap(perTableEventCount);
     private long totalEventCount = 0;
 
+    // Data collections are interned into slots that are kept across transactions, so counting an event
+    // neither renders the data collection name nor boxes the count
+    private final Map<DataCollectionId, Integer> slotsByDataCollection = new HashMap<>();
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+    private String[] names = new String[INITIAL_SLOTS];
+    private String[] offsetKeys = new String[INITIAL_SLOTS];
+    private long[] eventCounts = new long[INITIAL_SLOTS];
+
+    // The slots with events in the current transaction, in order of their first event
+    private int[] activeSlots = new int[INITIAL_SLOTS];
+    private int activeSlotCount = 0;
+
+    private DataCollectionId lastDataCollection;
+    private int lastSlot;
+
     private void reset() {
         transactionId = null;
         totalEventCount = 0;
-        perTableEventCount.clear();
+        for (int i = 0; i < activeSlotCount; i++) {
+            eventCounts[activeSlots[i]] = 0;
+        }
+        activeSlotCount = 0;
+        if (slotsByName.size() > MAX_RETAINED_SLOTS) {
+            slotsByDataCollection.clear();
+            slotsByName.clear();
+            lastDataCollection = null;
+        }
     }
 
     public Map<String, Object> store(Map<String, Object> offset) {
         offset.put(OFFSET_TRANSACTION_ID, transactionId);
-        final String tableCountPrefix = OFFSET_TABLE_COUNT_PREFIX;
-        for (final Entry<String, Long> e : perTableEventCount.entrySet()) {
-            offset.put(tableCountPrefix + e.getKey(), e.getValue());
+        for (int i = 0; i < activeSlotCount; i++) {
+            final int slot = activeSlots[i];
+            offset.put(offsetKeys[slot], eventCounts[slot]);
         }
         return offset;
     }
@@ -65,12 +92,14 @@ public static TransactionContext load(Map<String, ?> offsets) {
             if (offset.getKey().startsWith(OFFSET_TABLE_COUNT_PREFIX)) {
                 final String dataCollectionId = offset.getKey().substring(OFFSET_TABLE_COUNT_PREFIX_LENGTH);
                 final Long count = (Long) offset.getValue();
-                context.perTableEventCount.put(dataCollectionId, count);
+                if (count != null && count > 0) {
+                    final int slot = context.activate(context.slotOf(dataCollectionId));
+                    context.eventCounts[slot] = count;
+                    context.totalEventCount += count;
+                }
             }
         }
 
-        context.totalEventCount = context.perTableEventCount.values().stream().mapToLong(x -> x).sum();
-
         return context;
     }
 
@@ -97,19 +126,75 @@ public void endTransaction() {
 
     public long event(DataCollectionId source) {
         totalEventCount++;
-        final String sourceName = source.toString();
-        final long dataCollectionEventOrder = perTableEventCount.getOrDefault(sourceName, 0L).longValue() + 1;
-        perTableEventCount.put(sourceName, Long.valueOf(dataCollectionEventOrder));
-        return dataCollectionEventOrder;
+        int slot;
+        if (source == lastDataCollection) {
+            slot = lastSlot;
+        }
+        else {
+            final Integer knownSlot = slotsByDataCollection.get(source);
+            if (knownSlot != null) {
+                slot = knownSlot;
+            }
+            else {
+                slot = slotOf(source.toString());
+                slotsByDataCollection.put(source, slot);
+            }
+            lastDataCollection = source;
+            lastSlot = slot;
+        }
+        if (eventCounts[slot] == 0) {
+            activate(slot);
+        }
+        return ++eventCounts[slot];
     }
 
     public Map<String, Long> getPerTableEventCount() {
-        return viewPerTableEventCount;
+        final Map<String, Long> perTableEventCount = new LinkedHashMap<>();
+        forEachDataCollection(perTableEventCount::put);
+        return Collections.unmodifiableMap(perTableEventCount);
+    }
+
+    /**
+     * Passes the name and the number of events of each data collection seen in the current transaction to the given
+     * consumer, in the order of the first event of each data collection.
+     */
+    void forEachDataCollection(ObjLongConsumer<String> consumer) {
+        for (int i = 0; i < activeSlotCount; i++) {
+            final int slot = activeSlots[i];
+            consumer.accept(names[slot], eventCounts[slot]);
+        }
+    }
+
+    private int slotOf(String name) {
+        final Integer knownSlot = slotsByName.get(name);
+        if (knownSlot != null) {
+            return knownSlot;
+        }
+        final int slot = slotsByName.size();
+        if (slot == names.length) {
+            final int capacity = slot * 2;
+            names = Arrays.copyOf(names, capacity);
+            offsetKeys = Arrays.copyOf(offsetKeys, capacity);
+            eventCounts = Arrays.copyOf(eventCounts, capacity);
+        }
+        names[slot] = name;
+        offsetKeys[slot] = OFFSET_TABLE_COUNT_PREFIX + name;
+        eventCounts[slot] = 0;
+        slotsByName.put(name, slot);
+        return slot;
+    }
+
+    private int activate(int slot) {
+        if (activeSlotCount == activeSlots.length) {
+            activeSlots = Arrays.copyOf(activeSlots, activeSlotCount * 2);
+        }
+        activeSlots[activeSlotCount++] = slot;
+        return slot;
     }
 
     @Override
     public String toString() {
         return "TransactionContext [currentTransactionId=" + transactionId + ", perTableEventCount="
-                + perTableEventCount + ", totalEventCount=" + totalEventCount + "]";
+                + getPerTableEventCount() + ", totalEventCount=" + totalEventCount + "]";
     }
 }
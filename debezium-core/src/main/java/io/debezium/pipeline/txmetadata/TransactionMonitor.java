@@ -7,14 +7,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Set;
 
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,11 +84,19 @@ public class TransactionMonitor {
             .field(DEBEZIUM_TRANSACTION_DATA_COLLECTIONS_KEY, SchemaBuilder.array(EVENT_COUNT_PER_DATA_COLLECTION_SCHEMA).optional().build())
             .build();
 
+    // The fields are resolved once, as the block is added to every single event
+    private static final Field TRANSACTION_BLOCK_ID_FIELD = TRANSACTION_BLOCK_SCHEMA.field(DEBEZIUM_TRANSACTION_ID_KEY);
+    private static final Field TRANSACTION_BLOCK_TOTAL_ORDER_FIELD = TRANSACTION_BLOCK_SCHEMA.field(DEBEZIUM_TRANSACTION_TOTAL_ORDER_KEY);
+    private static final Field TRANSACTION_BLOCK_DATA_COLLECTION_ORDER_FIELD = TRANSACTION_BLOCK_SCHEMA.field(DEBEZIUM_TRANSACTION_DATA_COLLECTION_ORDER_KEY);
+
     private final EventMetadataProvider eventMetadataProvider;
     private final String topicName;
     private final BlockingConsumer<SourceRecord> sender;
     private final CommonConnectorConfig connectorConfig;
 
+    private Schema lastValueSchema;
+    private Field lastTransactionField;
+
     public TransactionMonitor(CommonConnectorConfig connectorConfig, EventMetadataProvider eventMetadataProvider, BlockingConsumer<SourceRecord> sender) {
         Objects.requireNonNull(eventMetadataProvider);
         this.topicName = connectorConfig.getLogicalName() + TOPIC_SUFFIX;
@@ -148,10 +155,22 @@ private void transactionEvent(OffsetContext offsetContext, DataCollectionId sour
             return;
         }
         final Struct txStruct = new Struct(TRANSACTION_BLOCK_SCHEMA);
-        txStruct.put(DEBEZIUM_TRANSACTION_ID_KEY, offsetContext.getTransactionContext().getTransactionId());
-        txStruct.put(DEBEZIUM_TRANSACTION_TOTAL_ORDER_KEY, offsetContext.getTransactionContext().getTotalEventCount());
-        txStruct.put(DEBEZIUM_TRANSACTION_DATA_COLLECTION_ORDER_KEY, dataCollectionEventOrder);
-        value.put(Envelope.FieldName.TRANSACTION, txStruct);
+        txStruct.put(TRANSACTION_BLOCK_ID_FIELD, offsetContext.getTransactionContext().getTransactionId());
+        txStruct.put(TRANSACTION_BLOCK_TOTAL_ORDER_FIELD, offsetContext.getTransactionContext().getTotalEventCount());
+        txStruct.put(TRANSACTION_BLOCK_DATA_COLLECTION_ORDER_FIELD, dataCollectionEventOrder);
+        value.put(transactionFieldOf(value.schema()), txStruct);
+    }
+
+    private Field transactionFieldOf(Schema valueSchema) {
+        if (valueSchema != lastValueSchema) {
+            final Field transactionField = valueSchema.field(Envelope.FieldName.TRANSACTION);
+            if (transactionField == null) {
+                throw new DataException(Envelope.FieldName.TRANSACTION + " is not a valid field name");
+            }
+            lastTransactionField = transactionField;
+            lastValueSchema = valueSchema;
+        }
+        return lastTransactionField;
     }
 
     private void beginTransaction(OffsetContext offsetContext) throws InterruptedException {
@@ -173,14 +192,13 @@ private void endTransaction(OffsetContext offsetContext) throws InterruptedExcep
         value.put(DEBEZIUM_TRANSACTION_ID_KEY, offsetContext.getTransactionContext().getTransactionId());
         value.put(DEBEZIUM_TRANSACTION_EVENT_COUNT_KEY, offsetContext.getTransactionContext().getTotalEventCount());
 
-        final Set<Entry<String, Long>> perTableEventCount = offsetContext.getTransactionContext().getPerTableEventCount().entrySet();
-        final List<Struct> valuePerTableCount = new ArrayList<>(perTableEventCount.size());
-        for (Map.Entry<String, Long> tableEventCount : perTableEventCount) {
+        final List<Struct> valuePerTableCount = new ArrayList<>();
+        offsetContext.getTransactionContext().forEachDataCollection((dataCollection, eventCount) -> {
             final Struct perTable = new Struct(EVENT_COUNT_PER_DATA_COLLECTION_SCHEMA);
-            perTable.put(DEBEZIUM_TRANSACTION_COLLECTION_KEY, tableEventCount.getKey());
-            perTable.put(DEBEZIUM_TRANSACTION_EVENT_COUNT_KEY, tableEventCount.getValue());
+            perTable.put(DEBEZIUM_TRANSACTION_COLLECTION_KEY, dataCollection);
+            perTable.put(DEBEZIUM_TRANSACTION_EVENT_COUNT_KEY, eventCount);
             valuePerTableCount.add(perTable);
-        }
+        });
         value.put(DEBEZIUM_TRANSACTION_DATA_COLLECTIONS_KEY, valuePerTableCount);
 
         sender.accept(new SourceRecord(offsetContext.getPartition(), offsetContext.getOffset(),
@@ -10,11 +10,22 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,6 +69,11 @@ public abstract class RelationalSnapshotChangeEventSource extends AbstractSnapsh
      */
     private static final Duration LOG_INTERVAL = Duration.ofMillis(10_000);
 
+    /**
+     * The minimum number of rows buffered between the snapshot reader connections and the snapshot thread.
+     */
+    private static final int DEFAULT_ROW_BUFFER_SIZE = 1_024;
+
     private final RelationalDatabaseConnectorConfig connectorConfig;
     private final OffsetContext previousOffset;
     private final JdbcConnection jdbcConnection;
@@ -273,6 +289,27 @@ private void createDataEvents(ChangeEventSourceContext sourceContext, Relational
         SnapshotReceiver snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
         tryStartingSnapshot(snapshotContext);
 
+        final List<JdbcConnection> readers = createSnapshotReaderConnections(snapshotContext);
+        if (!readers.isEmpty()) {
+            try {
+                createDataEventsInParallel(sourceContext, snapshotContext, snapshotReceiver, readers);
+            }
+            finally {
+                closeSnapshotReaderConnections(readers);
+            }
+        }
+        else {
+            createDataEventsSequentially(sourceContext, snapshotContext, snapshotReceiver);
+        }
+
+        snapshotContext.offset.preSnapshotCompletion();
+        snapshotReceiver.completeSnapshot();
+        snapshotContext.offset.postSnapshotCompletion();
+    }
+
+    private void createDataEventsSequentially(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext,
+                                              SnapshotReceiver snapshotReceiver)
+            throws InterruptedException {
         for (Iterator<TableId> tableIdIterator = snapshotContext.capturedTables.iterator(); tableIdIterator.hasNext();) {
             final TableId tableId = tableIdIterator.next();
             snapshotContext.lastTable = !tableIdIterator.hasNext();
@@ -285,10 +322,173 @@ private void createDataEvents(ChangeEventSourceContext sourceContext, Relational
 
             createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId));
         }
+    }
 
-        snapshotContext.offset.preSnapshotCompletion();
-        snapshotReceiver.completeSnapshot();
-        snapshotContext.offset.postSnapshotCompletion();
+    /**
+     * Reads the captured tables on the given reader connections in parallel. The rows are handed over to the snapshot
+     * thread which dispatches them, so that the offset and the snapshot receiver are only accessed by a single thread;
+     * the last record of the snapshot is marked when the snapshot receiver is completed.
+     */
+    private void createDataEventsInParallel(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext,
+                                            SnapshotReceiver snapshotReceiver, List<JdbcConnection> readers)
+            throws InterruptedException {
+        final long exportStart = clock.currentTimeInMillis();
+        final Queue<SnapshotChunk> chunks = new ConcurrentLinkedQueue<>();
+        final Map<TableId, TableProgress> progressByTable = new HashMap<>();
+
+        for (TableId tableId : snapshotContext.capturedTables) {
+            final Table table = snapshotContext.tables.forTable(tableId);
+            final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, tableId);
+            if (!selectStatement.isPresent()) {
+                LOGGER.warn("For table '{}' the select statement was not provided, skipping table", tableId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(tableId, 0);
+                continue;
+            }
+            final List<String> chunkStatements;
+            try {
+                chunkStatements = isSnapshotSelectOverridden(tableId) ? Collections.singletonList(selectStatement.get())
+                        : getSnapshotSelectChunks(snapshotContext, table, selectStatement.get(), readers.size());
+            }
+            catch (SQLException e) {
+                throw new ConnectException("Splitting of table " + tableId + " for snapshotting failed", e);
+            }
+            LOGGER.info("\t For table '{}' using select statements: {}", tableId, chunkStatements);
+            progressByTable.put(tableId, new TableProgress(chunkStatements.size()));
+            chunkStatements.forEach(statement -> chunks.add(new SnapshotChunk(table, statement)));
+        }
+
+        LOGGER.info("\t Exporting data from {} tables in {} chunks with {} threads", progressByTable.size(), chunks.size(), readers.size());
+        final BlockingQueue<SnapshotRow> rows = new ArrayBlockingQueue<>(Math.max(connectorConfig.getSnapshotFetchSize(), DEFAULT_ROW_BUFFER_SIZE));
+        final ExecutorService executor = Threads.newFixedThreadPool(connectorConfig.getConnectorName(), connectorConfig.getLogicalName(), "snapshot-reader",
+                readers.size());
+        try {
+            for (JdbcConnection reader : readers) {
+                executor.submit(() -> {
+                    readSnapshotChunks(reader, chunks, rows);
+                    return null;
+                });
+            }
+
+            int pendingChunks = chunks.size();
+            Timer logTimer = getTableScanLogTimer();
+            long totalRows = 0;
+            while (pendingChunks > 0) {
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting");
+                }
+                final SnapshotRow row = rows.poll(LOG_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (logTimer.expired()) {
+                    LOGGER.info("\t Exported {} records after {}", totalRows, Strings.duration(clock.currentTimeInMillis() - exportStart));
+                    logTimer = getTableScanLogTimer();
+                }
+                if (row == null) {
+                    continue;
+                }
+
+                final TableId tableId = row.table.id();
+                final TableProgress progress = progressByTable.get(tableId);
+                if (row.failure != null) {
+                    throw new ConnectException("Snapshotting of table " + tableId + " failed", row.failure);
+                }
+                else if (row.values == null) {
+                    // a chunk of the table has been read completely
+                    pendingChunks--;
+                    if (--progress.pendingChunks == 0) {
+                        LOGGER.info("\t Finished exporting {} records for table '{}'", progress.rows, tableId);
+                        snapshotProgressListener.dataCollectionSnapshotCompleted(tableId, progress.rows);
+                    }
+                }
+                else {
+                    progress.rows++;
+                    totalRows++;
+                    dispatcher.dispatchSnapshotEvent(tableId, getChangeRecordEmitter(snapshotContext, tableId, row.values), snapshotReceiver);
+                }
+            }
+            LOGGER.info("\t Finished exporting {} records; total duration '{}'", totalRows, Strings.duration(clock.currentTimeInMillis() - exportStart));
+        }
+        finally {
+            executor.shutdownNow();
+            executor.awaitTermination(LOG_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void readSnapshotChunks(JdbcConnection reader, Queue<SnapshotChunk> chunks, BlockingQueue<SnapshotRow> rows) throws InterruptedException {
+        for (SnapshotChunk chunk = chunks.poll(); chunk != null; chunk = chunks.poll()) {
+            LOGGER.debug("Snapshotting chunk of table {} using select statement: '{}'", chunk.table.id(), chunk.selectStatement);
+            try (SnapshotRowReader rowReader = createSnapshotRowReader(reader, chunk.table, chunk.selectStatement)) {
+                for (Object[] row = rowReader.next(); row != null; row = rowReader.next()) {
+                    rows.put(new SnapshotRow(chunk.table, row, null));
+                }
+            }
+            catch (InterruptedException e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                // hand over any failure, as the consumer would otherwise wait for the rows of the chunk forever
+                rows.put(new SnapshotRow(chunk.table, null, e));
+                return;
+            }
+            rows.put(new SnapshotRow(chunk.table, null, null));
+        }
+    }
+
+    private List<JdbcConnection> createSnapshotReaderConnections(RelationalSnapshotContext snapshotContext) {
+        final int readerCount = connectorConfig.getSnapshotMaxThreads();
+        final List<JdbcConnection> readers = new ArrayList<>(readerCount);
+        if (readerCount <= 1) {
+            return readers;
+        }
+        try {
+            for (int i = 0; i < readerCount; i++) {
+                final JdbcConnection reader = createSnapshotReaderConnection(snapshotContext);
+                if (reader == null) {
+                    LOGGER.warn("Reading tables in parallel is not supported by the connector, snapshotting tables sequentially");
+                    break;
+                }
+                readers.add(reader);
+            }
+        }
+        catch (SQLException e) {
+            closeSnapshotReaderConnections(readers);
+            throw new ConnectException("Could not create snapshot reader connection", e);
+        }
+        return readers;
+    }
+
+    private void closeSnapshotReaderConnections(List<JdbcConnection> readers) {
+        for (JdbcConnection reader : readers) {
+            try {
+                reader.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close snapshot reader connection", e);
+            }
+        }
+        readers.clear();
+    }
+
+    /**
+     * Opens a connection for reading table data in parallel to the snapshot connection, if enabled via
+     * {@link io.debezium.config.CommonConnectorConfig#SNAPSHOT_MAX_THREADS}. The connection must observe the same state of the
+     * database as the snapshot connection.
+     *
+     * @return the connection, or {@code null} if the connector does not support reading tables in parallel
+     */
+    protected JdbcConnection createSnapshotReaderConnection(RelationalSnapshotContext snapshotContext) throws SQLException {
+        return null;
+    }
+
+    /**
+     * Returns statements reading disjoint parts of the given table, which together return all rows of the given select
+     * statement, so that a single large table can be read by multiple snapshot reader connections in parallel. By
+     * default the table is read with the given statement.
+     *
+     * @param select the select statement for the whole table
+     * @param readerCount the number of snapshot reader connections
+     */
+    protected List<String> getSnapshotSelectChunks(RelationalSnapshotContext snapshotContext, Table table, String select, int readerCount)
+            throws SQLException {
+        return Collections.singletonList(select);
     }
 
     private void tryStartingSnapshot(RelationalSnapshotContext snapshotContext) {
@@ -315,27 +515,22 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext, Re
         }
         LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), selectStatement.get());
 
-        try (Statement statement = readTableStatement();
-                ResultSet rs = statement.executeQuery(selectStatement.get())) {
+        try (SnapshotRowReader rowReader = createSnapshotRowReader(jdbcConnection, table, selectStatement.get())) {
 
-            ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
             Timer logTimer = getTableScanLogTimer();
             snapshotContext.lastRecordInTable = false;
 
-            if (rs.next()) {
+            Object[] row = rowReader.next();
+            if (row != null) {
                 while (!snapshotContext.lastRecordInTable) {
                     if (!sourceContext.isRunning()) {
                         throw new InterruptedException("Interrupted while snapshotting table " + table.id());
                     }
 
                     rows++;
-                    final Object[] row = new Object[columnArray.getGreatestColumnPosition()];
-                    for (int i = 0; i < columnArray.getColumns().length; i++) {
-                        row[columnArray.getColumns()[i].position() - 1] = getColumnValue(rs, i + 1, columnArray.getColumns()[i]);
-                    }
-
-                    snapshotContext.lastRecordInTable = !rs.next();
+                    final Object[] nextRow = rowReader.next();
+                    snapshotContext.lastRecordInTable = nextRow == null;
                     if (logTimer.expired()) {
                         long stop = clock.currentTimeInMillis();
                         LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
@@ -348,6 +543,7 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext, Re
                         snapshotContext.offset.markLastSnapshotRecord();
                     }
                     dispatcher.dispatchSnapshotEvent(table.id(), getChangeRecordEmitter(snapshotContext, table.id(), row), snapshotReceiver);
+                    row = nextRow;
                 }
             }
             else if (snapshotContext.lastTable) {
@@ -364,6 +560,17 @@ else if (snapshotContext.lastTable) {
         }
     }
 
+    /**
+     * Returns a reader for the rows returned by the given select statement for the given table. By default the
+     * statement is executed via JDBC and the values are obtained via {@link #getColumnValue(ResultSet, int, Column)}.
+     *
+     * @param connection the connection to read the rows with; either the snapshot connection or a snapshot reader
+     * connection
+     */
+    protected SnapshotRowReader createSnapshotRowReader(JdbcConnection connection, Table table, String selectStatement) throws SQLException {
+        return new ResultSetRowReader(connection, table, selectStatement);
+    }
+
     private Timer getTableScanLogTimer() {
         return Threads.timer(clock, LOG_INTERVAL);
     }
@@ -384,14 +591,22 @@ protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext snapshotCon
      * @return a valid query string or empty if table will not be snapshotted
      */
     private Optional<String> determineSnapshotSelect(RelationalSnapshotContext snapshotContext, TableId tableId) {
+        String overriddenSelect = getOverriddenSnapshotSelect(tableId);
+        return overriddenSelect != null ? Optional.of(enhanceOverriddenSelect(snapshotContext, overriddenSelect, tableId)) : getSnapshotSelect(snapshotContext, tableId);
+    }
+
+    private String getOverriddenSnapshotSelect(TableId tableId) {
         String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
 
         // try without catalog id, as this might or might not be populated based on the given connector
         if (overriddenSelect == null) {
             overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(new TableId(null, tableId.schema(), tableId.table()));
         }
+        return overriddenSelect;
+    }
 
-        return overriddenSelect != null ? Optional.of(enhanceOverriddenSelect(snapshotContext, overriddenSelect, tableId)) : getSnapshotSelect(snapshotContext, tableId);
+    private boolean isSnapshotSelectOverridden(TableId tableId) {
+        return getOverriddenSnapshotSelect(tableId) != null;
     }
 
     /**
@@ -417,9 +632,9 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         return rs.getObject(columnIndex);
     }
 
-    private Statement readTableStatement() throws SQLException {
+    private Statement readTableStatement(JdbcConnection connection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
-        Statement statement = jdbcConnection.connection().createStatement(); // the default cursor is FORWARD_ONLY
+        Statement statement = connection.connection().createStatement(); // the default cursor is FORWARD_ONLY
         statement.setFetchSize(fetchSize);
         return statement;
     }
@@ -441,6 +656,101 @@ private void rollbackTransaction(Connection connection) {
         }
     }
 
+    /**
+     * Reads the rows of a table during a snapshot, each of them as an array of column values indexed by column position.
+     */
+    public interface SnapshotRowReader extends AutoCloseable {
+
+        /**
+         * @return the values of the next row, or {@code null} if all rows have been read
+         */
+        Object[] next() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * Reads the rows returned by a select statement via JDBC.
+     */
+    private class ResultSetRowReader implements SnapshotRowReader {
+
+        private final Statement statement;
+        private final ResultSet rs;
+        private final ColumnUtils.ColumnArray columnArray;
+
+        ResultSetRowReader(JdbcConnection connection, Table table, String selectStatement) throws SQLException {
+            this.statement = readTableStatement(connection);
+            try {
+                this.rs = statement.executeQuery(selectStatement);
+                this.columnArray = ColumnUtils.toArray(rs, table);
+            }
+            catch (SQLException e) {
+                statement.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public Object[] next() throws SQLException {
+            if (!rs.next()) {
+                return null;
+            }
+            final Object[] row = new Object[columnArray.getGreatestColumnPosition()];
+            for (int i = 0; i < columnArray.getColumns().length; i++) {
+                row[columnArray.getColumns()[i].position() - 1] = getColumnValue(rs, i + 1, columnArray.getColumns()[i]);
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                rs.close();
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * A statement reading the whole or a part of a table by a snapshot reader connection.
+     */
+    private static class SnapshotChunk {
+        private final Table table;
+        private final String selectStatement;
+
+        SnapshotChunk(Table table, String selectStatement) {
+            this.table = table;
+            this.selectStatement = selectStatement;
+        }
+    }
+
+    /**
+     * A row read by a snapshot reader connection, or the completion or failure of a chunk if there are no values.
+     */
+    private static class SnapshotRow {
+        private final Table table;
+        private final Object[] values;
+        private final Throwable failure;
+
+        SnapshotRow(Table table, Object[] values, Throwable failure) {
+            this.table = table;
+            this.values = values;
+            this.failure = failure;
+        }
+    }
+
+    private static class TableProgress {
+        private int pendingChunks;
+        private long rows;
+
+        TableProgress(int pendingChunks) {
+            this.pendingChunks = pendingChunks;
+        }
+    }
+
     /**
      * Mutable context which is populated in the course of snapshotting.
      */
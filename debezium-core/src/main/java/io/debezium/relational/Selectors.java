@@ -28,6 +28,8 @@
 @Immutable
 public class Selectors {
 
+    private static final int DECISION_CACHE_SIZE = 10_000;
+
     /**
      * Obtain a new {@link TableSelectionPredicateBuilder builder} for a table selection predicate.
      *
@@ -288,20 +290,29 @@ public Predicate<TableId> build() {
             Predicate<String> schemaFilter = schemaInclusions != null ? schemaInclusions : schemaExclusions;
 
             if (dbFilter != null) {
-                return buildStartingFromDbFilter(dbFilter, schemaFilter, tableFilter);
+                return cached(buildStartingFromDbFilter(dbFilter, schemaFilter, tableFilter));
             }
 
             if (schemaFilter != null) {
-                return buildStartingFromSchemaFilter(schemaFilter, tableFilter);
+                return cached(buildStartingFromSchemaFilter(schemaFilter, tableFilter));
             }
 
             if (tableFilter != null) {
-                return tableFilter;
+                return cached(tableFilter);
             }
 
             return (id) -> true;
         }
 
+        /**
+         * The filters are evaluated for every change event, so the decision for each table is remembered instead of
+         * matching the patterns over and over again; the cache is discarded together with the predicate when the
+         * filter configuration changes.
+         */
+        private Predicate<TableId> cached(Predicate<TableId> filter) {
+            return Predicates.memoize(filter, DECISION_CACHE_SIZE);
+        }
+
         private Predicate<TableId> buildStartingFromSchemaFilter(Predicate<String> schemaFilter, Predicate<TableId> tableFilter) {
             assert schemaFilter != null;
             if (tableFilter != null) {
@@ -6,6 +6,7 @@
 package io.debezium.relational;
 
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -175,28 +176,27 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
         if (schema != null) {
             int[] recordIndexes = indexesForColumns(columns);
             Field[] fields = fieldsForColumns(schema, columns);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, columnSetName, columns, null);
+            int maxRecordIndex = maxIndex(recordIndexes);
+            int[] convertedPositions = convertedPositions(converters);
             return (row) -> {
+                if (row.length <= maxRecordIndex) {
+                    validateIncomingRow(recordIndexes, fields, converters, row);
+                }
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-                    ValueConverter converter = converters[i];
-                    if (converter != null) {
-                        // A component of primary key must be not-null.
-                        // It is possible for some databases and values (MySQL and all-zero datetime)
-                        // to be reported as null by JDBC or streaming reader.
-                        // It thus makes sense to convert them to a sensible default replacement value.
-                        value = converter.convert(value);
-                        try {
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
-                                    columnSetName, col.name(), col.typeName(), row, e);
-                        }
+                for (int position : convertedPositions) {
+                    // A component of primary key must be not-null.
+                    // It is possible for some databases and values (MySQL and all-zero datetime)
+                    // to be reported as null by JDBC or streaming reader.
+                    // It thus makes sense to convert them to a sensible default replacement value.
+                    Object value = converters[position].convert(row[recordIndexes[position]]);
+                    try {
+                        result.put(fields[position], value);
+                    }
+                    catch (DataException e) {
+                        Column col = columns.get(position);
+                        LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
+                                columnSetName, col.name(), col.typeName(), row, e);
                     }
                 }
                 return result;
@@ -205,6 +205,16 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
         return null;
     }
 
+    /**
+     * Verifies that the row contains all the values the generator reads; the checks of the
+     * {@link #validateIncomingRowToInternalMetadata individual positions} report the first one that is missing.
+     */
+    private void validateIncomingRow(int[] recordIndexes, Field[] fields, ValueConverter[] converters, Object[] row) {
+        for (int i = 0; i != recordIndexes.length; ++i) {
+            validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
+        }
+    }
+
     private void validateIncomingRowToInternalMetadata(int[] recordIndexes, Field[] fields, ValueConverter[] converters,
                                                        Object[] row, int position) {
         if (position >= converters.length) {
@@ -242,38 +252,23 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
                     .collect(Collectors.toList());
             int[] recordIndexes = indexesForColumns(columnsThatShouldBeAdded);
             Field[] fields = fieldsForColumns(schema, columnsThatShouldBeAdded);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, tableId, columnsThatShouldBeAdded, mappers);
+            int maxRecordIndex = maxIndex(recordIndexes);
+            int[] convertedPositions = convertedPositions(converters);
             return (row) -> {
+                if (row.length <= maxRecordIndex) {
+                    validateIncomingRow(recordIndexes, fields, converters, row);
+                }
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-
-                    ValueConverter converter = converters[i];
-
-                    if (converter != null) {
-                        LOGGER.trace("converter for value object: *** {} ***", converter);
+                for (int position : convertedPositions) {
+                    try {
+                        Object value = converters[position].convert(row[recordIndexes[position]]);
+                        result.put(fields[position], value);
                     }
-                    else {
-                        LOGGER.trace("converter is null...");
-                    }
-
-                    if (converter != null) {
-                        try {
-                            value = converter.convert(value);
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException | IllegalArgumentException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
-                        catch (final Exception e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
+                    catch (final Exception e) {
+                        Column col = columnsThatShouldBeAdded.get(position);
+                        LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
+                                tableId, col.name(), col.typeName(), row, e);
                     }
                 }
                 return result;
@@ -282,6 +277,29 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
         return null;
     }
 
+    private static int maxIndex(int[] recordIndexes) {
+        int max = -1;
+        for (int index : recordIndexes) {
+            max = Math.max(max, index);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the positions of the columns that have a converter, i.e. that are part of the emitted struct; the
+     * generators iterate only over these instead of checking every column of the row for a converter.
+     */
+    private static int[] convertedPositions(ValueConverter[] converters) {
+        int[] positions = new int[converters.length];
+        int numPositions = 0;
+        for (int i = 0; i != converters.length; ++i) {
+            if (converters[i] != null) {
+                positions[numPositions++] = i;
+            }
+        }
+        return Arrays.copyOf(positions, numPositions);
+    }
+
     protected int[] indexesForColumns(List<Column> columns) {
         int[] recordIndexes = new int[columns.size()];
         AtomicInteger i = new AtomicInteger(0);
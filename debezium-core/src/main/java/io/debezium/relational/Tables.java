@@ -5,6 +5,8 @@
  */
 package io.debezium.relational;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,10 @@
 
 /**
  * Structural definitions for a set of tables in a JDBC database.
+ * <p>
+ * Lookups of single tables do not lock and can run concurrently with the application of schema changes; modifications
+ * are serialized. A consistent view of all definitions that is not affected by later changes can be obtained via
+ * {@link #snapshot()}.
  *
  * @author Randall Hauch
  */
@@ -62,6 +68,8 @@ public static TableFilter includeAll() {
 
     public static class ColumnNameFilterFactory {
 
+        private static final int DECISION_CACHE_SIZE = 10_000;
+
         /**
          * Build the {@link ColumnNameFilter} that determines whether a column identified by a given {@link ColumnId} is to be included,
          * using the given comma-separated regular expression patterns defining which columns (if any) should be <i>excluded</i>.
@@ -73,7 +81,8 @@ public static class ColumnNameFilterFactory {
          * @return a column name filter; never null
          */
         public static ColumnNameFilter createExcludeListFilter(String fullyQualifiedColumnNames) {
-            Predicate<ColumnId> delegate = Predicates.excludes(fullyQualifiedColumnNames, ColumnId::toString);
+            Predicate<ColumnId> delegate = Predicates.memoize(Predicates.excludes(fullyQualifiedColumnNames, ColumnId::toString),
+                    DECISION_CACHE_SIZE);
             return (catalogName, schemaName, tableName, columnName) -> delegate.test(new ColumnId(new TableId(catalogName, schemaName, tableName), columnName));
         }
 
@@ -88,7 +97,8 @@ public static ColumnNameFilter createExcludeListFilter(String fullyQualifiedColu
          * @return a column name filter; never null
          */
         public static ColumnNameFilter createIncludeListFilter(String fullyQualifiedColumnNames) {
-            Predicate<ColumnId> delegate = Predicates.includes(fullyQualifiedColumnNames, ColumnId::toString);
+            Predicate<ColumnId> delegate = Predicates.memoize(Predicates.includes(fullyQualifiedColumnNames, ColumnId::toString),
+                    DECISION_CACHE_SIZE);
             return (catalogName, schemaName, tableName, columnName) -> delegate.test(new ColumnId(new TableId(catalogName, schemaName, tableName), columnName));
         }
     }
@@ -117,6 +127,7 @@ public interface ColumnNameFilter {
     private final TablesById tablesByTableId;
     private final TableIds changes;
     private final boolean tableIdCaseInsensitive;
+    private volatile Snapshot snapshot;
 
     /**
      * Create an empty set of definitions.
@@ -159,7 +170,7 @@ public Tables clone() {
      * @return the table count
      */
     public int size() {
-        return lock.read(tablesByTableId::size);
+        return tablesByTableId.size();
     }
 
     public Set<TableId> drainChanges() {
@@ -223,7 +234,7 @@ public void removeTablesForDatabase(String schemaName) {
 
     public void removeTablesForDatabase(String catalogName, String schemaName) {
         lock.write(() -> {
-            tablesByTableId.entrySet().removeIf(tableIdTableEntry -> {
+            tablesByTableId.removeIf(tableIdTableEntry -> {
                 TableId tableId = tableIdTableEntry.getKey();
 
                 boolean equalCatalog = Objects.equals(catalogName, tableId.catalog());
@@ -301,7 +312,7 @@ public Table removeTable(TableId tableId) {
      * @return the table definition, or null if there was no definition for the identified table
      */
     public Table forTable(TableId tableId) {
-        return lock.read(() -> tablesByTableId.get(tableId));
+        return tablesByTableId.get(tableId);
     }
 
     /**
@@ -327,6 +338,28 @@ public Set<TableId> tableIds() {
         return lock.read(() -> Collect.unmodifiableSet(tablesByTableId.ids()));
     }
 
+    /**
+     * Obtain an immutable view of the table definitions as of the last completed modification. The view is shared by
+     * all callers until the next modification, so stages processing events concurrently can pin a consistent version
+     * of the schema without copying it.
+     *
+     * @return the snapshot of the current table definitions; never null
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == tablesByTableId.version()) {
+            return current;
+        }
+        return lock.read(() -> {
+            Snapshot latest = snapshot;
+            if (latest == null || latest.version() != tablesByTableId.version()) {
+                latest = new Snapshot(tablesByTableId);
+                snapshot = latest;
+            }
+            return latest;
+        });
+    }
+
     /**
      * Obtain an editor for the table with the given ID. This method does not lock the set of table definitions, so use
      * with caution. The resulting editor can be used to modify the table definition, but when completed the new {@link Table}
@@ -415,6 +448,7 @@ private static class TablesById {
 
         private final boolean tableIdCaseInsensitive;
         private final ConcurrentMap<TableId, Table> values;
+        private volatile long version;
 
         public TablesById(boolean tableIdCaseInsensitive) {
             this.tableIdCaseInsensitive = tableIdCaseInsensitive;
@@ -429,6 +463,13 @@ boolean isEmpty() {
             return values.isEmpty();
         }
 
+        /**
+         * The number of modifications applied to this map; modifications must be serialized by the caller.
+         */
+        long version() {
+            return version;
+        }
+
         public void putAll(TablesById tablesByTableId) {
             if (tableIdCaseInsensitive) {
                 tablesByTableId.values.entrySet()
@@ -436,11 +477,17 @@ public void putAll(TablesById tablesByTableId) {
             }
             else {
                 values.putAll(tablesByTableId.values);
+                version++;
             }
         }
 
         public Table remove(TableId tableId) {
-            return values.remove(toLowerCaseIfNeeded(tableId));
+            try {
+                return values.remove(toLowerCaseIfNeeded(tableId));
+            }
+            finally {
+                version++;
+            }
         }
 
         public Table get(TableId tableId) {
@@ -448,7 +495,12 @@ public Table get(TableId tableId) {
         }
 
         public Table put(TableId tableId, Table updated) {
-            return values.put(toLowerCaseIfNeeded(tableId), updated);
+            try {
+                return values.put(toLowerCaseIfNeeded(tableId), updated);
+            }
+            finally {
+                version++;
+            }
         }
 
         int size() {
@@ -459,12 +511,14 @@ void forEach(BiConsumer<? super TableId, ? super Table> action) {
             values.forEach(action);
         }
 
-        Set<Map.Entry<TableId, Table>> entrySet() {
-            return values.entrySet();
+        void removeIf(Predicate<Map.Entry<TableId, Table>> filter) {
+            values.entrySet().removeIf(filter);
+            version++;
         }
 
         void clear() {
             values.clear();
+            version++;
         }
 
         private TableId toLowerCaseIfNeeded(TableId tableId) {
@@ -493,6 +547,54 @@ public boolean equals(Object obj) {
         }
     }
 
+    /**
+     * An immutable version of the table definitions, see {@link Tables#snapshot()}.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final boolean tableIdCaseInsensitive;
+        private final Map<TableId, Table> values;
+
+        private Snapshot(TablesById tablesById) {
+            this.version = tablesById.version();
+            this.tableIdCaseInsensitive = tablesById.tableIdCaseInsensitive;
+            this.values = Collections.unmodifiableMap(new HashMap<>(tablesById.values));
+        }
+
+        /**
+         * @return the version of the table definitions captured by this snapshot; a later snapshot of the same
+         *         {@link Tables} has a higher version if the definitions were modified in between
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * Obtain the definition of the identified table as of this snapshot.
+         *
+         * @param tableId the identifier of the table
+         * @return the table definition, or null if there was no definition for the identified table
+         */
+        public Table forTable(TableId tableId) {
+            return values.get(tableIdCaseInsensitive ? tableId.toLowercase() : tableId);
+        }
+
+        /**
+         * @return the immutable set of table identifiers of this snapshot; never null
+         */
+        public Set<TableId> tableIds() {
+            return values.keySet();
+        }
+
+        /**
+         * @return the number of tables of this snapshot
+         */
+        public int size() {
+            return values.size();
+        }
+    }
+
     /**
      * A set of table ids. Table names are stored lower-case if required as per the config.
      */
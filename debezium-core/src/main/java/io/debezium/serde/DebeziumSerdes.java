@@ -8,6 +8,7 @@
 import org.apache.kafka.common.serialization.Serde;
 
 import io.debezium.common.annotation.Incubating;
+import io.debezium.serde.bson.BsonSerde;
 import io.debezium.serde.json.JsonSerde;
 
 /**
@@ -38,4 +39,17 @@ public class DebeziumSerdes {
     public static <T> Serde<T> payloadJson(Class<T> objectType) {
         return new JsonSerde<>(objectType);
     }
+
+    /**
+     * Provides a {@link Serde} implementation for values of change events whose documents are encoded as binary BSON,
+     * e.g. MongoDB change events emitted with {@code document.format=bson}. The deserializer extracts the field given by
+     * the {@code from.field} config option ({@code after} by default) from the message envelope and returns the raw bytes
+     * of the BSON document. If schema is enabled then the serde will extract the {@code payload} field to get the
+     * envelope first.
+     *
+     * @return serializer/deserializer to extract the raw BSON bytes from/pass them to messages
+     */
+    public static Serde<byte[]> payloadBson() {
+        return new BsonSerde();
+    }
 }
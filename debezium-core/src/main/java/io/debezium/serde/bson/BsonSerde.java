@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.serde.bson;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.common.annotation.Incubating;
+import io.debezium.data.Envelope;
+
+/**
+ * A {@link Serde} for change events whose documents are encoded as binary BSON, e.g. MongoDB change events emitted with
+ * {@code document.format=bson}. The {@link Deserializer} unwraps the BSON document from the configured field of a JSON
+ * serialized Debezium envelope, where binary values are represented as Base64 strings, and returns its raw bytes. These
+ * can be used as is, e.g. wrapped into an {@code org.bson.RawBsonDocument}, without parsing any JSON. The
+ * {@link Serializer} passes the raw bytes of a BSON document through unchanged.
+ */
+@Incubating
+public class BsonSerde implements Serde<byte[]> {
+
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private BsonSerdeConfig config;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (isKey) {
+            throw new IllegalArgumentException("The BSON serde supports message values only");
+        }
+        this.config = new BsonSerdeConfig(configs);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public Serializer<byte[]> serializer() {
+        return new BsonSerializer();
+    }
+
+    @Override
+    public Deserializer<byte[]> deserializer() {
+        return new BsonDeserializer();
+    }
+
+    private final class BsonDeserializer implements Deserializer<byte[]> {
+
+        @Override
+        public void configure(Map<String, ?> configs, boolean isKey) {
+        }
+
+        @Override
+        public byte[] deserialize(String topic, byte[] data) {
+            if (data == null) {
+                return null;
+            }
+
+            try (JsonParser parser = mapper.getFactory().createParser(data)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return binaryValue(parser);
+                }
+                return readEnvelopeField(parser, true);
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Reads the value of the source field of the envelope whose fields are read by the given parser, skipping all
+         * other fields, so that neither a tree of the message is built nor the Base64 encoded value is copied.
+         *
+         * @param message whether the envelope may be wrapped into the payload of the message
+         * @return the decoded value, or {@code null} if the object is no Debezium envelope or the value is {@code null}
+         */
+        private byte[] readEnvelopeField(JsonParser parser, boolean message) throws IOException {
+            boolean hasSource = false;
+            byte[] value = null;
+
+            for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+                final JsonToken token = parser.nextToken();
+                // Schema + payload format
+                if (message && PAYLOAD_FIELD.equals(fieldName)) {
+                    return token == JsonToken.START_OBJECT ? readEnvelopeField(parser, false) : binaryValue(parser);
+                }
+                else if (fieldName.equals(config.sourceField())) {
+                    value = binaryValue(parser);
+                }
+                else {
+                    hasSource |= Envelope.FieldName.SOURCE.equals(fieldName);
+                    parser.skipChildren();
+                }
+            }
+
+            return hasSource ? value : null;
+        }
+
+        private byte[] binaryValue(JsonParser parser) throws IOException {
+            final JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return parser.getBinaryValue();
+            }
+            if (token != null) {
+                parser.skipChildren();
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class BsonSerializer implements Serializer<byte[]> {
+
+        @Override
+        public void configure(Map<String, ?> configs, boolean isKey) {
+        }
+
+        @Override
+        public byte[] serialize(String topic, byte[] data) {
+            return data;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
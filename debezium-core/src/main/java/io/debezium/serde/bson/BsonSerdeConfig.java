@@ -0,0 +1,56 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.serde.bson;
+
+import java.util.Map;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
+
+import io.debezium.common.annotation.Incubating;
+import io.debezium.config.Field;
+import io.debezium.data.Envelope;
+
+/**
+ * A configuration for {@link BsonSerde} serializer/deserializer.
+ */
+@Incubating
+public class BsonSerdeConfig extends AbstractConfig {
+
+    public static final Field FROM_FIELD = Field.create("from.field")
+            .withDisplayName("What Envelope field should be deserialized")
+            .withType(Type.STRING)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.MEDIUM)
+            .withDefault(Envelope.FieldName.AFTER)
+            .withDescription("The Envelope field holding the BSON document that should be deserialized as the payload, "
+                    + "e.g. 'after' (the default), 'patch' or 'filter' for MongoDB change events.");
+
+    private static final ConfigDef CONFIG;
+
+    static {
+        CONFIG = new ConfigDef();
+        Field.group(CONFIG, "Source", FROM_FIELD);
+    }
+
+    private final String sourceField;
+
+    public static ConfigDef configDef() {
+        return CONFIG;
+    }
+
+    public BsonSerdeConfig(Map<String, ?> props) {
+        super(CONFIG, props);
+        this.sourceField = getString(FROM_FIELD.name());
+    }
+
+    public String sourceField() {
+        return sourceField;
+    }
+}
@@ -13,7 +13,9 @@
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,6 +37,12 @@
 @Incubating
 public class JsonSerde<T> implements Serde<T> {
     private static final String PAYLOAD_FIELD = "payload";
+    private static final String SCHEMA_FIELD = "schema";
+
+    /**
+     * Marks a value which could not be read from the parser.
+     */
+    private static final Object NOT_FOUND = new Object();
 
     private final ObjectMapper mapper;
     private ObjectReader reader;
@@ -76,6 +84,12 @@ public Deserializer<T> deserializer() {
 
     private final class JsonDeserializer implements Deserializer<T> {
 
+        /**
+         * Whether values are read from the parser, rather than from the tree of the message. Disabled once a message is
+         * encountered whose value is not extracted from a Debezium envelope, as such messages are parsed twice.
+         */
+        private volatile boolean streaming = true;
+
         @Override
         public void configure(Map<String, ?> configs, boolean isKey) {
         }
@@ -87,6 +101,15 @@ public T deserialize(String topic, byte[] data) {
             }
 
             try {
+                if (!isKey && streaming) {
+                    final Object value = readValueStreaming(data);
+                    if (value != NOT_FOUND) {
+                        @SuppressWarnings("unchecked")
+                        final T result = (T) value;
+                        return result;
+                    }
+                }
+
                 JsonNode node = mapper.readTree(data);
 
                 return isKey ? readKey(node) : readValue(node);
@@ -96,6 +119,80 @@ public T deserialize(String topic, byte[] data) {
             }
         }
 
+        /**
+         * Reads the value from the parser, skipping the {@code schema} and binding only the value of the envelope's
+         * source field, or the complete payload if the envelope is requested, so that no tree of the message is built.
+         * Only messages in the schema and payload format whose {@code schema} precedes the {@code payload}, as written
+         * by the JSON converter, or Debezium envelopes without schema are read that way.
+         *
+         * @return the value, or {@link #NOT_FOUND} if the message is to be read from its tree
+         */
+        private Object readValueStreaming(byte[] data) {
+            try (JsonParser parser = mapper.getFactory().createParser(data)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return reader.readValue(parser);
+                }
+
+                String fieldName = parser.nextFieldName();
+                if (SCHEMA_FIELD.equals(fieldName)) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                    fieldName = parser.nextFieldName();
+                }
+
+                // Schema + payload format
+                if (PAYLOAD_FIELD.equals(fieldName)) {
+                    if (parser.nextToken() != JsonToken.START_OBJECT || config.asEnvelope()) {
+                        return reader.readValue(parser);
+                    }
+                    return readEnvelopeField(parser, parser.nextFieldName(), true);
+                }
+                // Debezium envelope without schema; requires the complete message
+                if (config.asEnvelope()) {
+                    return NOT_FOUND;
+                }
+                return readEnvelopeField(parser, fieldName, false);
+            }
+            catch (IOException e) {
+                // the message is read from its tree again, reporting the failure if it persists
+                return NOT_FOUND;
+            }
+        }
+
+        /**
+         * Binds the value of the source field of the envelope whose fields are read by the given parser, skipping all
+         * other fields.
+         *
+         * @param fieldName the name of the current field of the envelope
+         * @param payload whether the envelope is the payload of the message
+         */
+        private Object readEnvelopeField(JsonParser parser, String fieldName, boolean payload) throws IOException {
+            boolean hasSource = false;
+            boolean hasSourceField = false;
+            Object value = null;
+
+            for (; fieldName != null; fieldName = parser.nextFieldName()) {
+                parser.nextToken();
+                if (fieldName.equals(config.sourceField())) {
+                    value = reader.readValue(parser);
+                    hasSourceField = true;
+                }
+                else if (!payload && PAYLOAD_FIELD.equals(fieldName)) {
+                    return NOT_FOUND;
+                }
+                else {
+                    hasSource |= Envelope.FieldName.SOURCE.equals(fieldName);
+                    parser.skipChildren();
+                }
+            }
+
+            if (hasSource && hasSourceField) {
+                return value;
+            }
+            streaming = false;
+            return NOT_FOUND;
+        }
+
         private T readValue(JsonNode node) throws IOException {
             JsonNode payload = node.get(PAYLOAD_FIELD);
 
@@ -15,6 +15,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 
 /**
  * A adjuster for the names of change data message schemas. Currently, this solely implements the rules required for
@@ -154,6 +155,8 @@ public static SchemaNameAdjuster create(Logger logger) {
     /**
      * Create a stateful Avro fullname adjuster that logs a warning the first time an invalid fullname is seen and replaced
      * with a valid fullname. This method replaces all invalid characters with the underscore character ('_').
+     * <p>
+     * The adjuster remembers the replacements of the invalid fullnames it has seen, see {@link #createMemoizing(String, ReplacementOccurred)}.
      *
      * @param logger the logger to use; may not be null
      * @param uponConflict the function to be called when there is a conflict and after that conflict is logged; may be null
@@ -173,7 +176,30 @@ public static SchemaNameAdjuster create(Logger logger, ReplacementOccurred uponC
                         replacement);
             }
         };
-        return create(handler.firstTimeOnly());
+        return createMemoizing("_", handler.firstTimeOnly());
+    }
+
+    /**
+     * Create a stateful Avro fullname adjuster that remembers the most recently seen fullnames along with their adjusted
+     * form, so that adjusting the same name again is a single lookup instead of validating (and rebuilding) it. Valid
+     * fullnames are remembered as they are. The supplied {@link ReplacementOccurred} function is called only when a
+     * replacement is computed, i.e. not for fullnames whose replacement is remembered.
+     *
+     * @param replacement the character sequence that should be used to replace all invalid characters
+     * @param uponReplacement the function called when the original fullname is replaced; may be null
+     * @return the adjuster; never null
+     */
+    public static SchemaNameAdjuster createMemoizing(String replacement, ReplacementOccurred uponReplacement) {
+        final Map<String, String> adjustedNames = new BoundedConcurrentHashMap<>(10_000, 16, Eviction.LRU);
+        return (original) -> {
+            String adjusted = adjustedNames.get(original);
+            if (adjusted == null) {
+                // returns the original for a valid fullname
+                adjusted = validFullname(original, c -> replacement, uponReplacement);
+                adjustedNames.put(original, adjusted);
+            }
+            return adjusted;
+        };
     }
 
     /**
@@ -314,30 +340,29 @@ public static String validFullname(String proposedName, ReplacementFunction repl
         if (proposedName.length() == 0) {
             return proposedName;
         }
-        StringBuilder sb = new StringBuilder();
-        char c = proposedName.charAt(0);
-        boolean changed = false;
-        if (isValidFullnameFirstCharacter(c)) {
-            sb.append(c);
+        // Most names are valid, so look for the first invalid character before building anything ...
+        int firstInvalid = isValidFullnameFirstCharacter(proposedName.charAt(0)) ? -1 : 0;
+        for (int i = 1; firstInvalid < 0 && i != proposedName.length(); ++i) {
+            if (!isValidFullnameNonFirstCharacter(proposedName.charAt(i))) {
+                firstInvalid = i;
+            }
         }
-        else {
-            sb.append(replacement.replace(c));
-            changed = true;
+        if (firstInvalid < 0) {
+            return proposedName;
         }
-        for (int i = 1; i != proposedName.length(); ++i) {
-            c = proposedName.charAt(i);
+        // Otherwise, it is different ...
+        StringBuilder sb = new StringBuilder(proposedName.length());
+        sb.append(proposedName, 0, firstInvalid);
+        sb.append(replacement.replace(proposedName.charAt(firstInvalid)));
+        for (int i = firstInvalid + 1; i != proposedName.length(); ++i) {
+            char c = proposedName.charAt(i);
             if (isValidFullnameNonFirstCharacter(c)) {
                 sb.append(c);
             }
             else {
                 sb.append(replacement.replace(c));
-                changed = true;
             }
         }
-        if (!changed) {
-            return proposedName;
-        }
-        // Otherwise, it is different ...
         String result = sb.toString();
         if (uponReplacement != null) {
             uponReplacement.accept(proposedName, result, null);
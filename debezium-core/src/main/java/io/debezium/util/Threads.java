@@ -269,6 +269,23 @@ public static ThreadFactory threadFactory(Class<? extends SourceConnector> conne
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Requested thread factory for connector {}, id = {} named = {}", connector.getSimpleName(), connectorId, name);
         }
+        return threadFactory(connector.getSimpleName().toLowerCase(), connectorId, name, indexed, daemon, callback);
+    }
+
+    /**
+     * Returns a thread factory that creates threads conforming to Debezium thread naming
+     * pattern {@code debezium-<connector name>-<connector-id>-<thread-name>}.
+     *
+     * @param connectorName - the name of the connector
+     * @param connectorId - the identifier to differentiate between connector instances
+     * @param name - the name of the thread
+     * @param indexed - true if the thread name should be appended with an index
+     * @param daemon - true if the thread should be a daemon thread
+     * @param callback - a callback called on every thread created
+     * @return the thread factory setting the correct name
+     */
+    public static ThreadFactory threadFactory(String connectorName, String connectorId, String name, boolean indexed, boolean daemon,
+                                              Consumer<Thread> callback) {
 
         return new ThreadFactory() {
             private final AtomicInteger index = new AtomicInteger(0);
@@ -276,7 +293,7 @@ public static ThreadFactory threadFactory(Class<? extends SourceConnector> conne
             @Override
             public Thread newThread(Runnable r) {
                 StringBuilder threadName = new StringBuilder(DEBEZIUM_THREAD_NAME_PREFIX)
-                        .append(connector.getSimpleName().toLowerCase())
+                        .append(connectorName)
                         .append('-')
                         .append(connectorId)
                         .append('-')
@@ -303,6 +320,10 @@ public static ExecutorService newFixedThreadPool(Class<? extends SourceConnector
         return Executors.newFixedThreadPool(threadCount, threadFactory(connector, connectorId, name, true, false));
     }
 
+    public static ExecutorService newFixedThreadPool(String connectorName, String connectorId, String name, int threadCount) {
+        return Executors.newFixedThreadPool(threadCount, threadFactory(connectorName, connectorId, name, true, false, null));
+    }
+
     public static ExecutorService newSingleThreadExecutor(Class<? extends SourceConnector> connector, String connectorId, String name) {
         return newSingleThreadExecutor(connector, connectorId, name, false);
     }
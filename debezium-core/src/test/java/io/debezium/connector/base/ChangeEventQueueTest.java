@@ -0,0 +1,266 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig.QueueWaitStrategy;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Testing;
+
+public class ChangeEventQueueTest {
+
+    private static final OverflowJournal.Serializer<Integer> INTEGER_SERIALIZER = new OverflowJournal.Serializer<Integer>() {
+
+        @Override
+        public byte[] serialize(Integer record) {
+            return record.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Integer deserialize(byte[] data) {
+            return Integer.valueOf(new String(data, StandardCharsets.UTF_8));
+        }
+    };
+
+    @Test
+    public void shouldRecordQueueTimesAndPollBatchSizes() throws InterruptedException {
+        final ChangeEventQueue<Integer> queue = queue(10, 4);
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 6; i++) {
+                queue.enqueue(i);
+            }
+            final List<Integer> first = queue.poll();
+            final List<Integer> second = queue.poll();
+            assertThat(first).hasSize(4);
+            assertThat(second).hasSize(2);
+        }
+
+        assertThat(queue.pollBatchSizes().getCount()).isEqualTo(10);
+        assertThat(queue.pollBatchSizes().getMax()).isEqualTo(4);
+        // one in 16 events is sampled
+        assertThat(queue.queueTimeInMicroSeconds().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEnqueueAllRecordsInOrder() throws InterruptedException {
+        final ChangeEventQueue<Integer> queue = queue(10, 4);
+
+        queue.enqueue(0);
+        queue.enqueueAll(Arrays.asList(1, null, 2, 3));
+        queue.enqueue(4);
+        assertThat(queue.remainingCapacity()).isEqualTo(5);
+
+        assertThat(queue.poll()).containsExactly(0, 1, 2, 3);
+        assertThat(queue.poll()).containsExactly(4);
+        assertThat(queue.remainingCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldAccountForSizeOfEnqueuedRecords() throws InterruptedException {
+        final ChangeEventQueue<long[]> queue = new ChangeEventQueue.Builder<long[]>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(10)
+                .maxBatchSize(10)
+                .maxQueueSizeInBytes(1024 * 1024)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "server", "test"))
+                .build();
+
+        final long[] first = new long[1];
+        final long[] second = new long[2];
+        final long[] third = new long[3];
+        queue.enqueue(first);
+        queue.enqueueAll(Arrays.asList(second, null, third));
+        assertThat(queue.currentQueueSizeInBytes()).isGreaterThan(0);
+
+        assertThat(queue.poll()).containsExactly(first, second, third);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldBlockEnqueueAllWhileQueueIsFull() throws InterruptedException {
+        final ChangeEventQueue<Integer> queue = queue(3, 2);
+        final List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            records.add(i);
+        }
+
+        final CountDownLatch enqueued = new CountDownLatch(1);
+        final Thread producer = new Thread(() -> {
+            try {
+                queue.enqueueAll(records);
+                enqueued.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(enqueued.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+
+        final List<Integer> polled = new ArrayList<>();
+        while (polled.size() < records.size()) {
+            final List<Integer> batch = queue.poll();
+            assertThat(batch.size()).isLessThanOrEqualTo(2);
+            polled.addAll(batch);
+        }
+        assertThat(enqueued.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(polled).isEqualTo(records);
+        producer.join();
+    }
+
+    @Test
+    public void shouldReturnFirstRecordWithoutWaitingForPollInterval() throws InterruptedException {
+        for (QueueWaitStrategy strategy : QueueWaitStrategy.values()) {
+            if (strategy == QueueWaitStrategy.SLEEP) {
+                continue;
+            }
+            final ChangeEventQueue<Integer> queue = queue(10, 4, Duration.ofSeconds(3), strategy, Duration.ZERO);
+            final Thread producer = enqueueLater(queue, 1);
+
+            final long start = System.nanoTime();
+            assertThat(queue.poll()).containsExactly(1);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+            producer.join();
+        }
+    }
+
+    @Test
+    public void shouldLingerUntilBatchIsComplete() throws InterruptedException {
+        for (QueueWaitStrategy strategy : QueueWaitStrategy.values()) {
+            if (strategy == QueueWaitStrategy.SLEEP) {
+                continue;
+            }
+            final ChangeEventQueue<Integer> queue = queue(10, 4, Duration.ofSeconds(3), strategy, Duration.ofSeconds(3));
+            queue.enqueue(0);
+            final Thread producer = enqueueLater(queue, 1, 2, 3);
+
+            final long start = System.nanoTime();
+            assertThat(queue.poll()).containsExactly(0, 1, 2, 3);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+            producer.join();
+        }
+    }
+
+    @Test
+    public void shouldReturnIncompleteBatchAfterLinger() throws InterruptedException {
+        for (QueueWaitStrategy strategy : QueueWaitStrategy.values()) {
+            final ChangeEventQueue<Integer> queue = queue(10, 4, Duration.ofMillis(10), strategy, Duration.ofMillis(50));
+            queue.enqueue(0);
+            queue.enqueue(1);
+
+            final long start = System.nanoTime();
+            assertThat(queue.poll()).containsExactly(0, 1);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(10);
+            assertThat(queue.poll()).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldOverflowToJournalAndRetainOrder() throws Exception {
+        final Path directory = Testing.Files.createTestingDirectory("queue-overflow", true).toPath();
+        final ChangeEventQueue<Integer> queue = new ChangeEventQueue.Builder<Integer>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(4)
+                .maxBatchSize(3)
+                .overflowJournal(directory, 1024, 64, INTEGER_SERIALIZER)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "server", "test"))
+                .build();
+
+        try {
+            // none of these blocks even though the queue size is exceeded
+            for (int i = 0; i < 6; i++) {
+                queue.enqueue(i);
+            }
+            queue.enqueueAll(Arrays.asList(6, 7, 8, 9));
+
+            assertThat(queue.poll()).containsExactly(0, 1, 2);
+            // the queue has room again, but the record is behind the journaled ones
+            queue.enqueue(10);
+            final List<Integer> polled = new ArrayList<>();
+            while (polled.size() < 8) {
+                polled.addAll(queue.poll());
+            }
+            assertThat(polled).containsExactly(3, 4, 5, 6, 7, 8, 9, 10);
+
+            queue.enqueue(11);
+            assertThat(queue.poll()).containsExactly(11);
+        }
+        finally {
+            queue.close();
+            Testing.Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void shouldOverflowRemainderOfBatchToJournal() throws Exception {
+        final Path directory = Testing.Files.createTestingDirectory("queue-overflow", true).toPath();
+        final ChangeEventQueue<Integer> queue = new ChangeEventQueue.Builder<Integer>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(4)
+                .maxBatchSize(10)
+                .overflowJournal(directory, 1024, 64, INTEGER_SERIALIZER)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "server", "test"))
+                .build();
+
+        try {
+            queue.enqueue(0);
+            // the first records of the batch fit into the queue, the others are written to the journal
+            queue.enqueueAll(Arrays.asList(1, null, 2, 3, 4, 5, 6));
+
+            assertThat(queue.poll()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        }
+        finally {
+            queue.close();
+            Testing.Files.delete(directory);
+        }
+    }
+
+    private Thread enqueueLater(ChangeEventQueue<Integer> queue, Integer... records) {
+        final Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                for (Integer record : records) {
+                    queue.enqueue(record);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        return producer;
+    }
+
+    private ChangeEventQueue<Integer> queue(int maxQueueSize, int maxBatchSize) {
+        return queue(maxQueueSize, maxBatchSize, Duration.ofMillis(10), QueueWaitStrategy.SLEEP, Duration.ZERO);
+    }
+
+    private ChangeEventQueue<Integer> queue(int maxQueueSize, int maxBatchSize, Duration pollInterval, QueueWaitStrategy waitStrategy, Duration linger) {
+        return new ChangeEventQueue.Builder<Integer>()
+                .pollInterval(pollInterval)
+                .maxQueueSize(maxQueueSize)
+                .maxBatchSize(maxBatchSize)
+                .waitStrategy(waitStrategy)
+                .linger(linger)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "server", "test"))
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.util.Testing;
+
+public class OverflowJournalTest {
+
+    private static final OverflowJournal.Serializer<String> SERIALIZER = new OverflowJournal.Serializer<String>() {
+
+        @Override
+        public byte[] serialize(String record) {
+            return record.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] data) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+    };
+
+    private Path directory;
+
+    @Before
+    public void beforeEach() throws IOException {
+        directory = Testing.Files.createTestingDirectory("overflow-journal", true).toPath();
+    }
+
+    @After
+    public void afterEach() {
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReturnRecordsInOrderAcrossSegments() throws IOException {
+        try (OverflowJournal<String> journal = OverflowJournal.open(directory, 1024, 64, SERIALIZER)) {
+            for (int i = 0; i < 20; i++) {
+                assertThat(journal.append(journal.serialize("record-" + i))).isTrue();
+            }
+            assertThat(journal.size()).isEqualTo(20);
+            assertThat(journal.sizeInBytes()).isGreaterThan(64);
+
+            for (int i = 0; i < 20; i++) {
+                assertThat(journal.deserialize(journal.poll())).isEqualTo("record-" + i);
+            }
+            assertThat(journal.isEmpty()).isTrue();
+            assertThat(journal.poll()).isNull();
+            // the last segment is kept for reuse, all others are deleted
+            assertThat(journal.sizeInBytes()).isEqualTo(64);
+            assertThat(segmentFiles(directory.resolve("0"))).isEqualTo(1);
+
+            assertThat(journal.append(journal.serialize("again"))).isTrue();
+            assertThat(journal.deserialize(journal.poll())).isEqualTo("again");
+        }
+        assertThat(segmentFiles(directory.resolve("0"))).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRejectRecordsBeyondMaximumSize() throws IOException {
+        try (OverflowJournal<String> journal = OverflowJournal.open(directory, 128, 64, SERIALIZER)) {
+            int appended = 0;
+            while (journal.append(journal.serialize("record-" + appended))) {
+                appended++;
+            }
+            assertThat(appended).isEqualTo(10);
+            assertThat(journal.sizeInBytes()).isEqualTo(128);
+
+            // room is made once a segment has been read completely
+            for (int i = 0; i < 5; i++) {
+                assertThat(journal.deserialize(journal.poll())).isEqualTo("record-" + i);
+            }
+            assertThat(journal.append(journal.serialize("record-" + appended))).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldAcceptRecordLargerThanSegment() throws IOException {
+        final String large = new String(new char[200]).replace('\0', 'x');
+        try (OverflowJournal<String> journal = OverflowJournal.open(directory, 128, 64, SERIALIZER)) {
+            assertThat(journal.append(journal.serialize(large))).isTrue();
+            assertThat(journal.append(journal.serialize("small"))).isFalse();
+            assertThat(journal.deserialize(journal.poll())).isEqualTo(large);
+        }
+    }
+
+    @Test
+    public void shouldUseSeparateDirectoriesAndDiscardStaleSegments() throws IOException {
+        Files.createDirectories(directory.resolve("0"));
+        Files.write(directory.resolve("0").resolve("segment-7.journal"), new byte[16]);
+
+        try (OverflowJournal<String> first = OverflowJournal.open(directory, 1024, 64, SERIALIZER);
+                OverflowJournal<String> second = OverflowJournal.open(directory, 1024, 64, SERIALIZER)) {
+            assertThat(segmentFiles(directory.resolve("0"))).isEqualTo(0);
+
+            first.append(first.serialize("first"));
+            second.append(second.serialize("second"));
+            assertThat(segmentFiles(directory.resolve("0"))).isEqualTo(1);
+            assertThat(segmentFiles(directory.resolve("1"))).isEqualTo(1);
+            assertThat(first.deserialize(first.poll())).isEqualTo("first");
+            assertThat(second.deserialize(second.poll())).isEqualTo("second");
+        }
+    }
+
+    private long segmentFiles(Path journalDirectory) throws IOException {
+        return Files.list(journalDirectory).filter(p -> p.getFileName().toString().endsWith(".journal")).count();
+    }
+}
@@ -8,6 +8,7 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -89,4 +90,37 @@ public void shouldMatchCommaSeparatedUuidLiterals() {
 
     }
 
+    @Test
+    public void shouldMatchPatternsWithGroupsAndBackReferences() {
+        Predicate<String> p = Predicates.includes("(a|b)c,x(y)\\1,Q\\Q.*");
+        assertThat(p.test("ac")).isTrue();
+        assertThat(p.test("BC")).isTrue();
+        assertThat(p.test("abc")).isFalse();
+        assertThat(p.test("xyy")).isTrue();
+        assertThat(p.test("xy1")).isFalse();
+        assertThat(p.test("q.*")).isTrue();
+        assertThat(p.test("qa")).isFalse();
+
+        p = Predicates.includes("a\\d+,b[0-9],c\\.d");
+        assertThat(p.test("a123")).isTrue();
+        assertThat(p.test("b1")).isTrue();
+        assertThat(p.test("b12")).isFalse();
+        assertThat(p.test("c.d")).isTrue();
+        assertThat(p.test("cxd")).isFalse();
+    }
+
+    @Test
+    public void shouldRememberDecisions() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Predicate<String> p = Predicates.memoize(s -> {
+            evaluations.incrementAndGet();
+            return s.startsWith("a");
+        }, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(p.test("abc")).isTrue();
+            assertThat(p.test("bcd")).isFalse();
+        }
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
 }
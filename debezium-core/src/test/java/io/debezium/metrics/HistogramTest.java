@@ -0,0 +1,55 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void shouldMapValuesToBucketsWithBoundedError() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            final int bucket = Histogram.bucketOf(value);
+            final long highest = Histogram.highestValueOf(bucket);
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).isLessThanOrEqualTo(Math.max(value / 32, 1));
+            if (bucket > 0) {
+                assertThat(Histogram.highestValueOf(bucket - 1)).isLessThan(value);
+            }
+        }
+        assertThat(Histogram.highestValueOf(Histogram.bucketOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldReportPercentiles() {
+        final Histogram histogram = new Histogram();
+        assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(0);
+
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertThat(histogram.getCount()).isEqualTo(1001);
+        assertThat(histogram.getMax()).isEqualTo(1000);
+        assertThat(histogram.getMean()).isEqualTo(500);
+        assertThat(histogram.getValueAtPercentile(50.0)).isGreaterThanOrEqualTo(500).isLessThanOrEqualTo(515);
+        assertThat(histogram.getValueAtPercentile(99.0)).isGreaterThanOrEqualTo(990).isLessThanOrEqualTo(1000);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(1000);
+        assertThat(histogram.getSummary().keySet()).containsOnly("count", "mean", "p50", "p90", "p99", "p999", "max");
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMax()).isEqualTo(0);
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(0);
+    }
+}
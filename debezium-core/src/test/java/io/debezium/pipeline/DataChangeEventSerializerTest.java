@@ -0,0 +1,61 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import io.debezium.util.Collect;
+
+public class DataChangeEventSerializerTest {
+
+    @Test
+    public void shouldRoundTripSourceRecord() {
+        final Schema keySchema = SchemaBuilder.struct().name("server.s.t.Key").field("id", Schema.INT32_SCHEMA).build();
+        final Schema valueSchema = SchemaBuilder.struct()
+                .name("server.s.t.Value")
+                .field("id", Schema.INT32_SCHEMA)
+                .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("price", Decimal.builder(2).optional().build())
+                .build();
+        final Map<String, ?> partition = Collect.hashMapOf("server", "server");
+        final Map<String, ?> offset = Collect.hashMapOf("lsn", 42L, "txId", 7, "snapshot", true, "ts_usec", null);
+        final ConnectHeaders headers = new ConnectHeaders();
+        headers.addString("origin", "test");
+
+        final SourceRecord record = new SourceRecord(partition, offset, "server.s.t", null,
+                keySchema, new Struct(keySchema).put("id", 1),
+                valueSchema, new Struct(valueSchema).put("id", 1).put("name", "widget").put("price", new BigDecimal("9.99")),
+                1234L, headers);
+
+        final DataChangeEventSerializer serializer = new DataChangeEventSerializer();
+        final SourceRecord copy = serializer.deserialize(serializer.serialize(new DataChangeEvent(record))).getRecord();
+
+        assertThat(copy).isEqualTo(record);
+        assertThat(copy.sourceOffset().get("lsn")).isInstanceOf(Long.class);
+        assertThat(copy.sourceOffset().get("txId")).isInstanceOf(Integer.class);
+    }
+
+    @Test
+    public void shouldRoundTripTombstone() {
+        final Schema keySchema = SchemaBuilder.struct().name("server.s.t.Key").field("id", Schema.INT32_SCHEMA).build();
+        final SourceRecord record = new SourceRecord(Collect.hashMapOf("server", "server"), Collect.hashMapOf("lsn", 42L), "server.s.t", 0,
+                keySchema, new Struct(keySchema).put("id", 1), null, null);
+
+        final DataChangeEventSerializer serializer = new DataChangeEventSerializer();
+        assertThat(serializer.deserialize(serializer.serialize(new DataChangeEvent(record))).getRecord()).isEqualTo(record);
+    }
+}
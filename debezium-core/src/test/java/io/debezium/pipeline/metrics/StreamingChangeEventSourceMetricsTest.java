@@ -0,0 +1,212 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
+
+public class StreamingChangeEventSourceMetricsTest {
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .field("ts", Schema.INT64_SCHEMA)
+            .field("pos", Schema.STRING_SCHEMA)
+            .field("tx", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+    private static final TableId TABLE = new TableId("db", "s", "t");
+
+    private final AtomicInteger summaries = new AtomicInteger();
+    private StreamingChangeEventSourceMetrics metrics;
+
+    @Before
+    public void beforeEach() {
+        final EventMetadataProvider metadataProvider = new EventMetadataProvider() {
+
+            @Override
+            public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                return Instant.ofEpochMilli(value.getInt64("ts"));
+            }
+
+            @Override
+            public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                return Collections.singletonMap("pos", value.getString("pos"));
+            }
+
+            @Override
+            public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                return value.getString("tx");
+            }
+
+            @Override
+            public String toSummaryString(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                summaries.incrementAndGet();
+                return "event " + value.getString("pos");
+            }
+        };
+        metrics = new StreamingChangeEventSourceMetrics(new CdcSourceTaskContext("test", "server", null), new ChangeEventQueueMetrics() {
+
+            @Override
+            public int totalCapacity() {
+                return 0;
+            }
+
+            @Override
+            public int remainingCapacity() {
+                return 0;
+            }
+
+            @Override
+            public long maxQueueSizeInBytes() {
+                return 0;
+            }
+
+            @Override
+            public long currentQueueSizeInBytes() {
+                return 0;
+            }
+        }, metadataProvider);
+    }
+
+    @Test
+    public void shouldRenderLastEventOnlyWhenRead() {
+        assertThat(metrics.getLastEvent()).isNull();
+        assertThat(metrics.getSourceEventPosition()).isEmpty();
+        assertThat(metrics.getMilliSecondsBehindSource()).isEqualTo(-1);
+
+        metrics.onEvent(TABLE, null, "k1", value(0, "1", "tx1"));
+        metrics.onEvent(TABLE, null, "k2", value(0, "2", "tx1"));
+        metrics.onEvent(TABLE, null, "k3", value(System.currentTimeMillis(), "3", "tx2"));
+        assertThat(summaries.get()).isEqualTo(0);
+
+        assertThat(metrics.getLastEvent()).isEqualTo("event 3");
+        assertThat(metrics.getLastEvent()).isEqualTo("event 3");
+        assertThat(summaries.get()).isEqualTo(1);
+
+        assertThat(metrics.getTotalNumberOfEventsSeen()).isEqualTo(3);
+        assertThat(metrics.getNumberOfCommittedTransactions()).isEqualTo(2);
+        assertThat(metrics.getLastTransactionId()).isEqualTo("tx2");
+        assertThat(metrics.getSourceEventPosition()).isEqualTo(Collections.singletonMap("pos", "3"));
+        assertThat(metrics.getMilliSecondsBehindSource()).isGreaterThanOrEqualTo(0).isLessThan(60_000);
+
+        metrics.reset();
+        assertThat(metrics.getNumberOfEventsByDataCollection()).isEmpty();
+        assertThat(metrics.getLastEvent()).isNull();
+        assertThat(metrics.getSourceEventPosition()).isEmpty();
+        assertThat(metrics.getMilliSecondsBehindSource()).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldRecordLagDistributionAndEventsPerDataCollection() {
+        final TableId other = new TableId("db", "s", "other");
+        final long now = System.currentTimeMillis();
+        for (int i = 1; i <= 64; i++) {
+            // the lag is sampled for every 16th event
+            metrics.onEvent(i % 4 == 0 ? other : TABLE, null, "k" + i, value(i == 16 ? now - 120_000 : now, Integer.toString(i), null));
+        }
+
+        final Map<String, Long> lag = metrics.getMilliSecondsBehindSourceDistribution();
+        assertThat(lag.get("count")).isEqualTo(4L);
+        assertThat(lag.get("max")).isGreaterThanOrEqualTo(120_000L);
+        assertThat(lag.get("p50")).isLessThan(60_000L);
+
+        assertThat(metrics.getNumberOfEventsByDataCollection()).hasSize(2);
+        assertThat(metrics.getNumberOfEventsByDataCollection().get(TABLE.identifier())).isEqualTo(48L);
+        assertThat(metrics.getNumberOfEventsByDataCollection().get(other.identifier())).isEqualTo(16L);
+
+        // no queue is attached
+        assertThat(metrics.getQueueTimeInMicroSecondsDistribution()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotReadOffsetWhenEventIsSeen() {
+        final TestOffsetContext offset = new TestOffsetContext();
+        metrics.onEvent(TABLE, offset, "k1", value(0, "1", null));
+        assertThat(offset.offsetReads.get()).isEqualTo(0);
+
+        // the offset context is updated by the next event before it is passed to the metrics
+        offset.position = "2";
+        assertThat(metrics.getSourceEventPosition()).isEqualTo(Collections.singletonMap("pos", "1"));
+        assertThat(offset.offsetReads.get()).isEqualTo(0);
+    }
+
+    private Struct value(long timestamp, String position, String transactionId) {
+        return new Struct(VALUE_SCHEMA).put("ts", timestamp).put("pos", position).put("tx", transactionId);
+    }
+
+    private static class TestOffsetContext implements OffsetContext {
+
+        final AtomicInteger offsetReads = new AtomicInteger();
+        String position = "1";
+
+        @Override
+        public Map<String, ?> getPartition() {
+            return Collections.singletonMap("server", "server");
+        }
+
+        @Override
+        public Map<String, ?> getOffset() {
+            offsetReads.incrementAndGet();
+            return Collections.singletonMap("pos", position);
+        }
+
+        @Override
+        public Schema getSourceInfoSchema() {
+            return null;
+        }
+
+        @Override
+        public Struct getSourceInfo() {
+            return null;
+        }
+
+        @Override
+        public boolean isSnapshotRunning() {
+            return false;
+        }
+
+        @Override
+        public void markLastSnapshotRecord() {
+        }
+
+        @Override
+        public void preSnapshotStart() {
+        }
+
+        @Override
+        public void preSnapshotCompletion() {
+        }
+
+        @Override
+        public void postSnapshotCompletion() {
+        }
+
+        @Override
+        public void event(DataCollectionId collectionId, Instant timestamp) {
+        }
+
+        @Override
+        public TransactionContext getTransactionContext() {
+            return new TransactionContext();
+        }
+    }
+}
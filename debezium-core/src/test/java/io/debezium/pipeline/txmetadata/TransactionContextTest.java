@@ -0,0 +1,68 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.txmetadata;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+import io.debezium.util.Collect;
+
+public class TransactionContextTest {
+
+    private final TableId t1 = new TableId("db", "s", "t1");
+    private final TableId t2 = new TableId("db", "s", "t2");
+
+    @Test
+    public void shouldCountEventsPerDataCollection() {
+        final TransactionContext context = new TransactionContext();
+        context.beginTransaction("tx1");
+
+        assertThat(context.event(t1)).isEqualTo(1);
+        assertThat(context.event(t2)).isEqualTo(1);
+        assertThat(context.event(t1)).isEqualTo(2);
+        // an equal but different instance is counted for the same data collection
+        assertThat(context.event(new TableId("db", "s", "t1"))).isEqualTo(3);
+
+        assertThat(context.getTotalEventCount()).isEqualTo(4);
+        assertThat(context.getPerTableEventCount()).isEqualTo(Collect.hashMapOf("db.s.t1", 3L, "db.s.t2", 1L));
+
+        context.endTransaction();
+        assertThat(context.isTransactionInProgress()).isFalse();
+        assertThat(context.getTotalEventCount()).isEqualTo(0);
+        assertThat(context.getPerTableEventCount()).isEmpty();
+
+        context.beginTransaction("tx2");
+        assertThat(context.event(t2)).isEqualTo(1);
+        assertThat(context.getPerTableEventCount()).isEqualTo(Collect.hashMapOf("db.s.t2", 1L));
+    }
+
+    @Test
+    public void shouldStoreAndLoadOffsets() {
+        final TransactionContext context = new TransactionContext();
+        context.beginTransaction("tx1");
+        context.event(t1);
+        context.event(t2);
+        context.event(t2);
+
+        final Map<String, Object> offsets = context.store(new HashMap<>());
+        assertThat(offsets).isEqualTo(Collect.hashMapOf(
+                "transaction_id", "tx1",
+                "transaction_data_collection_order_db.s.t1", 1L,
+                "transaction_data_collection_order_db.s.t2", 2L));
+
+        final TransactionContext loaded = TransactionContext.load(offsets);
+        assertThat(loaded.getTransactionId()).isEqualTo("tx1");
+        assertThat(loaded.getTotalEventCount()).isEqualTo(3);
+        assertThat(loaded.event(t2)).isEqualTo(3);
+        assertThat(loaded.event(t1)).isEqualTo(2);
+        assertThat(loaded.getPerTableEventCount()).isEqualTo(Collect.hashMapOf("db.s.t1", 2L, "db.s.t2", 3L));
+    }
+}
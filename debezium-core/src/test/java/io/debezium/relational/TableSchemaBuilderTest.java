@@ -17,6 +17,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Before;
 import org.junit.Test;
@@ -455,4 +456,24 @@ public void mapperConvertersShouldLeaveEmptyDatesAsZero() {
         Struct value = schema.valueFromColumnData(data);
         assertThat(value.get("C1")).isEqualTo(0);
     }
+
+    @Test
+    public void shouldOnlyConvertIncludedColumns() {
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), adjuster, customConverterRegistry, SchemaBuilder.struct().build(), false)
+                .create(prefix, "sometopic", table, (catalog, schemaName, tableName, columnName) -> !columnName.equals("C3"), null, null);
+
+        Struct value = schema.valueFromColumnData(data);
+        assertThat(value.schema().field("C3")).isNull();
+        assertThat(value.get("C1")).isEqualTo("c1value");
+        assertThat(value.get("C4")).isEqualTo(4);
+        assertThat(value.get("7C7")).isEqualTo("c7value");
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldFailToGenerateValueFromTooShortRow() {
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), adjuster, customConverterRegistry, SchemaBuilder.struct().build(), false)
+                .create(prefix, "sometopic", table, null, null, null);
+
+        schema.valueFromColumnData(new Object[]{ "c1value", 3.142d });
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class TablesTest {
+
+    private final TableId t1 = new TableId("db", "s", "t1");
+    private final TableId t2 = new TableId("db", "s", "t2");
+
+    @Test
+    public void shouldShareSnapshotUntilModified() {
+        final Tables tables = new Tables();
+        tables.overwriteTable(table(t1, "c1"));
+
+        final Tables.Snapshot first = tables.snapshot();
+        assertThat(tables.snapshot()).isSameAs(first);
+        assertThat(first.forTable(t1).columnWithName("c1")).isNotNull();
+
+        tables.overwriteTable(table(t2, "c1"));
+        tables.updateTable(t1, t -> t.edit().addColumn(column("c2")).create());
+
+        final Tables.Snapshot second = tables.snapshot();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.version()).isGreaterThan(first.version());
+        assertThat(second.tableIds()).containsOnly(t1, t2);
+        assertThat(second.forTable(t1).columnWithName("c2")).isNotNull();
+
+        // the pinned version is not affected by later changes
+        assertThat(first.tableIds()).containsOnly(t1);
+        assertThat(first.forTable(t1).columnWithName("c2")).isNull();
+
+        tables.removeTable(t2);
+        tables.removeTablesForDatabase("db", "s");
+        assertThat(tables.snapshot().size()).isEqualTo(0);
+        assertThat(second.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotChangeSnapshotForUnchangedTable() {
+        final Tables tables = new Tables();
+        tables.overwriteTable(t1, Collections.singletonList(column("c1")), Collections.emptyList(), null);
+        final Tables.Snapshot snapshot = tables.snapshot();
+
+        tables.overwriteTable(t1, Collections.singletonList(column("c1")), Collections.emptyList(), null);
+        assertThat(tables.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    public void shouldLookUpTablesCaseInsensitively() {
+        final Tables tables = new Tables(true);
+        tables.overwriteTable(table(new TableId("db", "s", "T1"), "c1"));
+
+        assertThat(tables.forTable(t1)).isNotNull();
+        assertThat(tables.snapshot().forTable(t1)).isNotNull();
+        assertThat(tables.snapshot().forTable(new TableId("db", "s", "T1"))).isNotNull();
+        assertThat(tables.snapshot().forTable(t2)).isNull();
+    }
+
+    private Table table(TableId id, String columnName) {
+        return Table.editor().tableId(id).addColumn(column(columnName)).create();
+    }
+
+    private Column column(String name) {
+        return Column.editor().name(name).type("INTEGER").jdbcType(Types.INTEGER).optional(true).create();
+    }
+}
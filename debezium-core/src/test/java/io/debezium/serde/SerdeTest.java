@@ -5,11 +5,13 @@
  */
 package io.debezium.serde;
 
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.fest.assertions.Assertions;
 import org.junit.Test;
@@ -192,6 +194,33 @@ public void valuePayloadUnwrapped() {
         Assertions.assertThat(valueSerde.deserializer().deserialize("xx", content.getBytes())).isEqualTo(new Customer(1004, "Anne", "Kretchmar", "annek@noanswer.org"));
     }
 
+    @Test
+    public void valuePayloadBeforeSchema() {
+        final Serde<Customer> valueSerde = DebeziumSerdes.payloadJson(Customer.class);
+        valueSerde.configure(Collections.singletonMap("from.field", "after"), false);
+        final String content = "{\"payload\": {\"before\": null, \"after\": {\"id\": 1004, \"first_name\": \"Anne\"}, "
+                + "\"source\": {\"name\": \"dbserver1\"}, \"op\": \"c\"}, \"schema\": {\"type\": \"struct\"}}";
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx", content.getBytes())).isEqualTo(new Customer(1004, "Anne", null, null));
+    }
+
+    @Test
+    public void valueEnvelopesAndUnwrappedValuesMixed() {
+        final Serde<Customer> valueSerde = DebeziumSerdes.payloadJson(Customer.class);
+        valueSerde.configure(Collections.singletonMap("from.field", "after"), false);
+        final Customer customer = new Customer(1004, "Anne", "Kretchmar", "annek@noanswer.org");
+
+        final String withSchema = Testing.Files.readResourceAsString("json/serde-with-schema.json");
+        final String withoutSchema = Testing.Files.readResourceAsString("json/serde-without-schema.json");
+        final String unwrapped = Testing.Files.readResourceAsString("json/serde-unwrapped.json");
+
+        final Deserializer<Customer> deserializer = valueSerde.deserializer();
+        Assertions.assertThat(deserializer.deserialize("xx", withSchema.getBytes())).isEqualTo(customer);
+        Assertions.assertThat(deserializer.deserialize("xx", withoutSchema.getBytes())).isEqualTo(customer);
+        Assertions.assertThat(deserializer.deserialize("xx", unwrapped.getBytes())).isEqualTo(customer);
+        Assertions.assertThat(deserializer.deserialize("xx", withSchema.getBytes())).isEqualTo(customer);
+        Assertions.assertThat(deserializer.deserialize("xx", "{\"schema\": {}, \"payload\": null}".getBytes())).isNull();
+    }
+
     @Test(expected = RuntimeException.class)
     public void valueWithUnknownPropertyThrowRuntimeException() {
         final Serde<Customer> valueSerde = DebeziumSerdes.payloadJson(Customer.class);
@@ -215,4 +244,33 @@ public void valueWithUnknownPropertyIgnored() {
         Assertions.assertThat(valueSerde.deserializer().deserialize("xx", content.getBytes()))
                 .isEqualTo(new Customer(1004, "Anne-Marie", "Kretchmar", "annek@noanswer.org"));
     }
+
+    @Test
+    public void bsonValue() {
+        // {"a": 1}
+        final byte[] document = new byte[]{ 0x0c, 0x00, 0x00, 0x00, 0x10, 0x61, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00 };
+        final String encoded = Base64.getEncoder().encodeToString(document);
+
+        final Serde<byte[]> valueSerde = DebeziumSerdes.payloadBson();
+        valueSerde.configure(Collections.emptyMap(), false);
+
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                ("{\"payload\": {\"op\": \"c\", \"source\": {}, \"after\": \"" + encoded + "\"}}").getBytes())).isEqualTo(document);
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                ("{\"op\": \"c\", \"source\": {}, \"after\": \"" + encoded + "\"}").getBytes())).isEqualTo(document);
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                "{\"op\": \"d\", \"source\": {}, \"after\": null}".getBytes())).isNull();
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                ("{\"schema\": {\"type\": \"struct\", \"fields\": [{\"field\": \"after\"}]}, \"payload\": {\"after\": \"" + encoded
+                        + "\", \"source\": {\"name\": \"x\"}, \"op\": \"c\"}}").getBytes()))
+                .isEqualTo(document);
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                ("{\"after\": \"" + encoded + "\", \"op\": \"c\"}").getBytes())).isNull();
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx", ("\"" + encoded + "\"").getBytes())).isEqualTo(document);
+        Assertions.assertThat(valueSerde.serializer().serialize("xx", document)).isEqualTo(document);
+
+        valueSerde.configure(Collections.singletonMap("from.field", "patch"), false);
+        Assertions.assertThat(valueSerde.deserializer().deserialize("xx",
+                ("{\"op\": \"u\", \"source\": {}, \"patch\": \"" + encoded + "\"}").getBytes())).isEqualTo(document);
+    }
 }
@@ -99,6 +99,32 @@ public void shouldReportConflictReplacement() {
         assertThat(conflicts.get()).isEqualTo(1);
     }
 
+    @Test
+    public void shouldReplaceInvalidCharacters() {
+        assertThat(SchemaNameAdjuster.validFullname("test-server.connector$test")).isEqualTo("test_server.connector_test");
+        assertThat(SchemaNameAdjuster.validFullname("1test.products")).isEqualTo("_test.products");
+        assertThat(SchemaNameAdjuster.validFullname("test.products-")).isEqualTo("test.products_");
+        final String valid = "test_server.connector_test.products.Key";
+        assertThat(SchemaNameAdjuster.validFullname(valid)).isSameAs(valid);
+    }
+
+    @Test
+    public void shouldRememberReplacements() {
+        AtomicInteger counter = new AtomicInteger();
+        ReplacementOccurred handler = (original, replacement, conflict) -> counter.incrementAndGet();
+        SchemaNameAdjuster adjuster = SchemaNameAdjuster.createMemoizing("_", handler);
+        for (int i = 0; i != 20; ++i) {
+            assertThat(adjuster.adjust(new String("some-invalid-fullname$"))).isEqualTo("some_invalid_fullname_");
+        }
+        assertThat(counter.get()).isEqualTo(1);
+
+        final String valid = "some_valid_fullname";
+        assertThat(adjuster.adjust(valid)).isSameAs(valid);
+        assertThat(counter.get()).isEqualTo(1);
+        // the valid fullname is remembered, too
+        assertThat(adjuster.adjust(new String(valid))).isSameAs(valid);
+    }
+
     protected void assertValidFullname(String fullname) {
         assertThat(SchemaNameAdjuster.isValidFullname(fullname)).isTrue();
     }
@@ -155,10 +155,8 @@ public DebeziumEngine<R> build() {
             toFormat = (record) -> {
                 final byte[] key = keyConverter.fromConnectData(TOPIC_NAME, record.keySchema(), record.key());
                 final byte[] value = valueConverter.fromConnectData(TOPIC_NAME, record.valueSchema(), record.value());
-                return (R) new EmbeddedEngineChangeEvent<String, String>(
-                        key != null ? new String(key) : null,
-                        value != null ? new String(value) : null,
-                        record);
+                // the serialized key and value are decoded only if requested by the consumer
+                return (R) new SerializedEngineChangeEvent(key, value, record);
             };
         }
 
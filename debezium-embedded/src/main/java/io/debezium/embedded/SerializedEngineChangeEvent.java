@@ -0,0 +1,64 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.engine.SerializedChangeEvent;
+
+/**
+ * A change event converted by a Kafka Connect converter, which keeps the serialized key and value and only decodes
+ * them into strings when they are requested.
+ */
+class SerializedEngineChangeEvent extends EmbeddedEngineChangeEvent<String, String> implements SerializedChangeEvent<String, String> {
+
+    private final byte[] serializedKey;
+    private final byte[] serializedValue;
+    private String key;
+    private String value;
+
+    SerializedEngineChangeEvent(byte[] serializedKey, byte[] serializedValue, SourceRecord sourceRecord) {
+        super(null, null, sourceRecord);
+        this.serializedKey = serializedKey;
+        this.serializedValue = serializedValue;
+    }
+
+    @Override
+    public String key() {
+        if (key == null && serializedKey != null) {
+            key = new String(serializedKey);
+        }
+        return key;
+    }
+
+    @Override
+    public String value() {
+        if (value == null && serializedValue != null) {
+            value = new String(serializedValue);
+        }
+        return value;
+    }
+
+    @Override
+    public String record() {
+        return value();
+    }
+
+    @Override
+    public byte[] serializedKey() {
+        return serializedKey;
+    }
+
+    @Override
+    public byte[] serializedValue() {
+        return serializedValue;
+    }
+
+    @Override
+    public String toString() {
+        return "SerializedEngineChangeEvent [key=" + key() + ", value=" + value() + ", sourceRecord=" + sourceRecord() + "]";
+    }
+}
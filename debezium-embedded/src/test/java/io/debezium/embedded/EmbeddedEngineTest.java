@@ -46,6 +46,7 @@
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.RecordChangeEvent;
+import io.debezium.engine.SerializedChangeEvent;
 import io.debezium.engine.format.ChangeEventFormat;
 import io.debezium.engine.format.Json;
 import io.debezium.engine.spi.OffsetCommitPolicy;
@@ -446,6 +447,8 @@ public void shouldRunDebeziumEngineWithJson() throws Exception {
                     for (ChangeEvent<String, String> r : records) {
                         Assertions.assertThat(r.key()).isNull();
                         Assertions.assertThat(r.value()).startsWith("\"Generated line number ");
+                        Assertions.assertThat(((SerializedChangeEvent<String, String>) r).serializedKey()).isNull();
+                        Assertions.assertThat(new String(((SerializedChangeEvent<String, String>) r).serializedValue())).isEqualTo(r.value());
                         committer.markProcessed(r);
                     }
 
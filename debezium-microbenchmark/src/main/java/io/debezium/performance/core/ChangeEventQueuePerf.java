@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.CommonConnectorConfig.QueueWaitStrategy;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Measures the latency of handing over a single record from a producer thread to the consumer polling the
+ * {@link ChangeEventQueue}, for each of the wait strategies.
+ */
+public class ChangeEventQueuePerf {
+
+    @State(Scope.Thread)
+    public static class QueueState {
+
+        @Param({ "sleep", "blocking", "busy-spin", "yield", "park" })
+        public String waitStrategy;
+
+        @Param({ "10" })
+        public long pollIntervalMs;
+
+        public ChangeEventQueue<Object> queue;
+        public AtomicLong requested;
+        public Thread producer;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            queue = new ChangeEventQueue.Builder<Object>()
+                    .pollInterval(Duration.ofMillis(pollIntervalMs))
+                    .maxQueueSize(2048)
+                    .maxBatchSize(1024)
+                    .waitStrategy(QueueWaitStrategy.parse(waitStrategy))
+                    .loggingContextSupplier(() -> LoggingContext.forConnector("perf", "perf", "perf"))
+                    .build();
+            requested = new AtomicLong();
+
+            // enqueues a record for each request of the benchmark method
+            producer = new Thread(() -> {
+                long sent = 0;
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        if (requested.get() > sent) {
+                            queue.enqueue(++sent);
+                        }
+                        else {
+                            Thread.yield();
+                        }
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "queue-perf-producer");
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws InterruptedException {
+            producer.interrupt();
+            producer.join();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public List<Object> handOverLatency(QueueState state) throws InterruptedException {
+        state.requested.incrementAndGet();
+        List<Object> records = state.queue.poll();
+        while (records.isEmpty()) {
+            records = state.queue.poll();
+        }
+        return records;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.metrics.Histogram;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.util.Collect;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Measures the overhead of the latency and throughput metrics on the pipeline: recording into a histogram, passing a
+ * batch of events through a {@link ChangeEventQueue} compared to the plain blocking queue backing it, and processing
+ * an event by the streaming metrics.
+ */
+public class PipelineMetricsPerf {
+
+    private static final int BATCH_SIZE = 1024;
+
+    @State(Scope.Thread)
+    public static class MetricsState {
+
+        public Histogram histogram;
+        public ChangeEventQueue<Object> queue;
+        public BlockingQueue<Object> plainQueue;
+        public StreamingChangeEventSourceMetrics metrics;
+        public TableId table;
+        public Struct value;
+        public long counter;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            histogram = new Histogram();
+            queue = new ChangeEventQueue.Builder<Object>()
+                    .pollInterval(Duration.ofMillis(1))
+                    .maxQueueSize(BATCH_SIZE * 2)
+                    .maxBatchSize(BATCH_SIZE)
+                    .loggingContextSupplier(() -> LoggingContext.forConnector("perf", "perf", "perf"))
+                    .build();
+            plainQueue = new LinkedBlockingDeque<>(BATCH_SIZE * 2);
+
+            final Schema sourceSchema = SchemaBuilder.struct().field("ts_ms", Schema.INT64_SCHEMA).field("lsn", Schema.INT64_SCHEMA).build();
+            final Schema valueSchema = SchemaBuilder.struct().field("source", sourceSchema).build();
+            value = new Struct(valueSchema).put("source", new Struct(sourceSchema).put("ts_ms", System.currentTimeMillis()).put("lsn", 42L));
+            table = new TableId("db", "inventory", "customers");
+            metrics = new StreamingChangeEventSourceMetrics(new CdcSourceTaskContext("perf", "perf", null), queue, new EventMetadataProvider() {
+
+                @Override
+                public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                    return Instant.ofEpochMilli(value.getStruct("source").getInt64("ts_ms"));
+                }
+
+                @Override
+                public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                    return Collect.hashMapOf("lsn", Long.toString(value.getStruct("source").getInt64("lsn")));
+                }
+
+                @Override
+                public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+                    return null;
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void histogramRecord(MetricsState state) {
+        state.histogram.record(state.counter++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public List<Object> changeEventQueueBatch(MetricsState state) throws InterruptedException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            state.queue.enqueue(state.value);
+        }
+        return state.queue.poll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public List<Object> plainQueueBatch(MetricsState state) throws InterruptedException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            state.plainQueue.put(state.value);
+        }
+        final List<Object> records = new ArrayList<>();
+        state.plainQueue.drainTo(records, BATCH_SIZE);
+        return records;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void streamingMetricsOnEvent(MetricsState state) {
+        state.metrics.onEvent(state.table, null, null, state.value);
+    }
+}
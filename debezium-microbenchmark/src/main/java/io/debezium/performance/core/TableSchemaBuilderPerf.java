@@ -0,0 +1,108 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.relational.Column;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures the number of rows per second converted into key and value structs by the generators of
+ * {@link TableSchemaBuilder} for tables of different widths.
+ */
+public class TableSchemaBuilderPerf {
+
+    @State(Scope.Thread)
+    public static class TableState {
+
+        @Param({ "5", "50", "300" })
+        public int columns;
+
+        public TableSchema schema;
+        public Object[] row;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final TableEditor editor = Table.editor().tableId(new TableId("db", "inventory", "customers"));
+            row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                final String name = "c" + i;
+                switch (i % 5) {
+                    case 0:
+                        editor.addColumn(Column.editor().name(name).type("INTEGER").jdbcType(Types.INTEGER).optional(i != 0).create());
+                        row[i] = i;
+                        break;
+                    case 1:
+                        editor.addColumn(Column.editor().name(name).type("VARCHAR").jdbcType(Types.VARCHAR).length(255).optional(true).create());
+                        row[i] = "value of column " + i;
+                        break;
+                    case 2:
+                        editor.addColumn(Column.editor().name(name).type("BIGINT").jdbcType(Types.BIGINT).optional(true).create());
+                        row[i] = (long) i * Integer.MAX_VALUE;
+                        break;
+                    case 3:
+                        editor.addColumn(Column.editor().name(name).type("TIMESTAMP").jdbcType(Types.TIMESTAMP).optional(true).create());
+                        row[i] = java.sql.Timestamp.valueOf("2020-10-31 12:34:56.789");
+                        break;
+                    default:
+                        editor.addColumn(Column.editor().name(name).type("NUMERIC").jdbcType(Types.NUMERIC).length(10).scale(2).optional(true)
+                                .create());
+                        row[i] = new java.math.BigDecimal("1234.56");
+                }
+            }
+            editor.setPrimaryKeyNames("c0");
+
+            final SchemaNameAdjuster adjuster = SchemaNameAdjuster.create((original, replacement, conflict) -> {
+            });
+            schema = new TableSchemaBuilder(new JdbcValueConverters(), adjuster, new CustomConverterRegistry(null), SchemaBuilder.struct().build(), false)
+                    .create("server", "server.inventory.customers.Envelope", editor.create(), null, null, null);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Struct value(TableState state) {
+        return state.schema.valueFromColumnData(state.row);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Object key(TableState state) {
+        return state.schema.keyFromColumnData(state.row);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.outbox.quarkus.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.UserTransaction;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Verifies that the events exported within a transaction are buffered and written when the transaction completes
+ * if batch writes are enabled.
+ */
+@QuarkusTest
+@TestProfile(OutboxBatchWritesTest.BatchWritesProfile.class)
+@QuarkusTestResource(DatabaseTestResource.class)
+public class OutboxBatchWritesTest {
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MyService myService;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void firedEventsGetPersistedWhenTransactionCompletes() throws Exception {
+        final long eventsBefore = countOutboxEvents();
+
+        transaction.begin();
+        for (int i = 0; i < 5; i++) {
+            myService.doSomething();
+        }
+        // the events are buffered until the transaction completes
+        assertEquals(eventsBefore, countOutboxEvents());
+        transaction.commit();
+
+        // written with three batches of at most two events
+        assertEquals(eventsBefore + 5, countOutboxEvents());
+    }
+
+    @Test
+    public void firedEventsGetDiscardedWhenTransactionIsRolledBack() throws Exception {
+        final long eventsBefore = countOutboxEvents();
+
+        transaction.begin();
+        myService.doSomething();
+        myService.doSomething();
+        transaction.rollback();
+
+        assertEquals(eventsBefore, countOutboxEvents());
+    }
+
+    private long countOutboxEvents() {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM OutboxEvent").getSingleResult()).longValue();
+    }
+
+    public static class BatchWritesProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            final Map<String, String> config = new HashMap<>();
+            config.put("quarkus.debezium-outbox.batch-writes", "true");
+            config.put("quarkus.debezium-outbox.max-batch-size", "2");
+            return config;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.outbox.quarkus.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Verifies that no tracing span context is stored with the events if tracing is disabled.
+ */
+@QuarkusTest
+@TestProfile(OutboxTracingDisabledTest.TracingDisabledProfile.class)
+@QuarkusTestResource(DatabaseTestResource.class)
+public class OutboxTracingDisabledTest {
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MyService myService;
+
+    @Test
+    public void firedEventGetsPersistedWithoutTracingSpanContext() {
+        myService.doSomething();
+
+        Query q = entityManager.createNativeQuery("SELECT type, tracingspancontext FROM OutboxEvent");
+        Object[] row = (Object[]) q.getSingleResult();
+
+        assertEquals("SomeType", row[0]);
+        assertNull(row[1]);
+    }
+
+    public static class TracingDisabledProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Collections.singletonMap("quarkus.debezium-outbox.tracing-enabled", "false");
+        }
+    }
+}
@@ -21,4 +21,24 @@ public class DebeziumOutboxRuntimeConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean removeAfterInsert;
+
+    /**
+     * Buffer the events exported within a transaction and write them with JDBC batches right before the
+     * transaction completes, rather than writing each event when it is exported.  Default is {@code false}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean batchWrites;
+
+    /**
+     * The maximum number of buffered events written with a single JDBC batch if {@link #batchWrites batch writes} are
+     * enabled; the events of larger transactions are written with several batches of this size.  Default is {@code 50}.
+     */
+    @ConfigItem(defaultValue = "50")
+    public int maxBatchSize;
+
+    /**
+     * Create a tracing span for each exported event and store its context with the event.  Default is {@code true}.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean tracingEnabled;
 }
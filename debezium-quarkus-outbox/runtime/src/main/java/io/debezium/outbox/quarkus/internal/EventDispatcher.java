@@ -7,12 +7,19 @@
 
 import static io.debezium.outbox.quarkus.internal.OutboxConstants.OUTBOX_ENTITY_FULLNAME;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
 
 import org.hibernate.Session;
 import org.slf4j.Logger;
@@ -31,6 +38,10 @@
  * {@link ExportedEvent} events and when detected, persists those events to the
  * underlying database allowing Debezium to then capture and emit those change
  * events.
+ * <p>
+ * If {@link DebeziumOutboxRuntimeConfig#batchWrites batch writes} are enabled, the events exported within a
+ * transaction are buffered and written right before the transaction completes, so that they are inserted (and
+ * removed) with JDBC batches of up to {@link DebeziumOutboxRuntimeConfig#maxBatchSize} events.
  *
  * @author Chris Cranford
  */
@@ -47,11 +58,24 @@ public class EventDispatcher {
 
     private static final String TRACING_COMPONENT = "debezium";
 
+    /**
+     * The key of the events buffered for a transaction in the transaction synchronization registry.
+     */
+    private static final String BUFFERED_EVENTS = EventDispatcher.class.getName() + ".bufferedEvents";
+
+    /**
+     * The initial capacity of the entity maps, which is large enough to hold all of their properties without rehashing.
+     */
+    private static final int ENTITY_MAP_CAPACITY = 8;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatcher.class);
 
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
     /**
      * Debezium runtime configuration
      */
@@ -71,6 +95,11 @@ public class EventDispatcher {
     public void onExportedEvent(@Observes ExportedEvent<?, ?> event) {
         LOGGER.debug("An exported event was found for type {}", event.getType());
 
+        if (!config.tracingEnabled) {
+            dispatch(createEntityMap(event, null));
+            return;
+        }
+
         final SpanBuilder spanBuilder = tracer.buildSpan(OPERATION_NAME);
         final DebeziumTextMap exportedSpanData = new DebeziumTextMap();
 
@@ -89,23 +118,107 @@ public void onExportedEvent(@Observes ExportedEvent<?, ?> event) {
             tracer.inject(outboxSpanScope.span().context(),
                     Format.Builtin.TEXT_MAP, exportedSpanData);
 
-            // Define the entity map-mode object using property names and values
-            final HashMap<String, Object> dataMap = new HashMap<>();
-            dataMap.put(AGGREGATE_TYPE, event.getAggregateType());
-            dataMap.put(AGGREGATE_ID, event.getAggregateId());
-            dataMap.put(TYPE, event.getType());
-            dataMap.put(PAYLOAD, event.getPayload());
-            dataMap.put(TIMESTAMP, event.getTimestamp());
-            dataMap.put(TRACING_SPAN_CONTEXT, exportedSpanData.export());
-
-            // Unwrap to Hibernate session and save
-            Session session = entityManager.unwrap(Session.class);
+            dispatch(createEntityMap(event, exportedSpanData.export()));
+        }
+    }
+
+    /**
+     * Defines the entity map-mode object using property names and values
+     */
+    private Map<String, Object> createEntityMap(ExportedEvent<?, ?> event, String tracingSpanContext) {
+        final Map<String, Object> dataMap = new HashMap<>(ENTITY_MAP_CAPACITY);
+        dataMap.put(AGGREGATE_TYPE, event.getAggregateType());
+        dataMap.put(AGGREGATE_ID, event.getAggregateId());
+        dataMap.put(TYPE, event.getType());
+        dataMap.put(PAYLOAD, event.getPayload());
+        dataMap.put(TIMESTAMP, event.getTimestamp());
+        dataMap.put(TRACING_SPAN_CONTEXT, tracingSpanContext);
+        return dataMap;
+    }
+
+    private void dispatch(Map<String, Object> dataMap) {
+        if (config.batchWrites) {
+            final List<Map<String, Object>> bufferedEvents = bufferedEvents();
+            if (bufferedEvents != null) {
+                bufferedEvents.add(dataMap);
+                return;
+            }
+        }
+        // Unwrap to Hibernate session and save
+        write(entityManager.unwrap(Session.class), Collections.singletonList(dataMap), false);
+    }
+
+    /**
+     * Returns the events buffered for the current transaction, registering the synchronization which writes them
+     * before the transaction completes upon the first event of the transaction.
+     *
+     * @return the buffered events, or {@code null} if there is no active transaction
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> bufferedEvents() {
+        if (transactionSynchronizationRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return null;
+        }
+
+        List<Map<String, Object>> bufferedEvents = (List<Map<String, Object>>) transactionSynchronizationRegistry.getResource(BUFFERED_EVENTS);
+        if (bufferedEvents == null) {
+            final List<Map<String, Object>> events = new ArrayList<>();
+            final Session session = entityManager.unwrap(Session.class);
+            transactionSynchronizationRegistry.putResource(BUFFERED_EVENTS, events);
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+
+                @Override
+                public void beforeCompletion() {
+                    // the session may have been flushed already as part of the transaction completion
+                    write(session, events, true);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                }
+            });
+            bufferedEvents = events;
+        }
+        return bufferedEvents;
+    }
+
+    private void write(Session session, List<Map<String, Object>> events, boolean flush) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Writing {} exported events", events.size());
+
+        if (!flush) {
+            save(session, events);
+            return;
+        }
+
+        // The events are inserted (and deleted) with one JDBC batch per chunk; the session's batch size is only
+        // changed while the chunks are flushed
+        final int maxBatchSize = Math.max(config.maxBatchSize, 1);
+        final Integer jdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(maxBatchSize);
+        try {
+            for (int start = 0; start < events.size(); start += maxBatchSize) {
+                save(session, events.subList(start, Math.min(start + maxBatchSize, events.size())));
+                session.flush();
+            }
+        }
+        finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
+    private void save(Session session, List<Map<String, Object>> events) {
+        for (Map<String, Object> dataMap : events) {
             session.save(OUTBOX_ENTITY_FULLNAME, dataMap);
             session.setReadOnly(dataMap, true);
+        }
 
-            // Remove entity if the configuration deems doing so, leaving useful
-            // for debugging
-            if (config.removeAfterInsert) {
+        // Remove entity if the configuration deems doing so, leaving useful
+        // for debugging
+        if (config.removeAfterInsert) {
+            for (Map<String, Object> dataMap : events) {
                 session.delete(OUTBOX_ENTITY_FULLNAME, dataMap);
             }
         }
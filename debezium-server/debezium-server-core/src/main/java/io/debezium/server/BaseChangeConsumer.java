@@ -17,6 +17,8 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.SerializedChangeEvent;
 
 /**
  * Basic services provided to all change consumers.
@@ -64,6 +66,28 @@ else if (object instanceof String) {
         throw new DebeziumException(unsupportedTypeMessage(object));
     }
 
+    /**
+     * Returns the serialized key of the given record. The bytes produced by the converter are returned without being
+     * copied if available, so they must not be modified.
+     */
+    protected byte[] getKeyBytes(ChangeEvent<?, ?> record) {
+        if (record instanceof SerializedChangeEvent) {
+            return ((SerializedChangeEvent<?, ?>) record).serializedKey();
+        }
+        return record.key() == null ? null : getBytes(record.key());
+    }
+
+    /**
+     * Returns the serialized value of the given record. The bytes produced by the converter are returned without being
+     * copied if available, so they must not be modified.
+     */
+    protected byte[] getValueBytes(ChangeEvent<?, ?> record) {
+        if (record instanceof SerializedChangeEvent) {
+            return ((SerializedChangeEvent<?, ?>) record).serializedValue();
+        }
+        return record.value() == null ? null : getBytes(record.value());
+    }
+
     protected String getString(Object object) {
         if (object instanceof String) {
             return (String) object;
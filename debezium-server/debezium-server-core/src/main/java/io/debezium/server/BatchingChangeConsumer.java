@@ -0,0 +1,392 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+import io.debezium.engine.SerializedChangeEvent;
+import io.debezium.metrics.Histogram;
+
+/**
+ * A {@link DebeziumEngine.ChangeConsumer} accumulating the records of subsequent polls of the engine and passing them
+ * to the sink in larger batches, so that sinks can make use of their bulk APIs even if the source produces only a few
+ * records per poll.
+ * <p>
+ * A batch is passed to the sink as soon as it reaches the maximum number of records or the maximum estimated size, or
+ * when the linger time has elapsed since its first record was received. The records are marked as processed and the
+ * batches of the engine are finished only when the sink has processed them, so the offsets of the records waiting for
+ * a batch are never committed and these records are delivered again after a restart.
+ * <p>
+ * If passing a batch to the sink fails once its linger time has elapsed, there is no engine thread the failure could
+ * be raised in, so it is reported to the failure handler instead, which is expected to stop the engine. Any further
+ * attempt to pass records to the sink fails then.
+ */
+@ThreadSafe
+public class BatchingChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>>, BatchingChangeConsumerMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingChangeConsumer.class);
+
+    private static final String CONTEXT_NAME = "batching";
+
+    private enum FlushReason {
+        MAX_RECORDS,
+        MAX_BYTES,
+        LINGER
+    }
+
+    private final DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>> delegate;
+    private final int maxBatchRecords;
+    private final long maxBatchBytes;
+    private final long lingerMs;
+    private final ObjectName name;
+    private final ScheduledExecutorService lingerExecutor;
+    private final Consumer<Throwable> failureHandler;
+
+    private List<ChangeEvent<Object, Object>> records;
+    private Map<ChangeEvent<Object, Object>, RecordCommitter<ChangeEvent<Object, Object>>> committers;
+    private List<RecordCommitter<ChangeEvent<Object, Object>>> finishedCommitters;
+    private long bytes;
+    private long generation;
+    private ScheduledFuture<?> lingerTask;
+    private volatile Throwable lingerFailure;
+    private volatile long pendingRecords;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong flushesOnMaxRecords = new AtomicLong();
+    private final AtomicLong flushesOnMaxBytes = new AtomicLong();
+    private final AtomicLong flushesOnLinger = new AtomicLong();
+    private final AtomicLong batchFillPermille = new AtomicLong();
+    private final Histogram batchSizes = new Histogram();
+    private final Histogram batchBytes = new Histogram();
+
+    /**
+     * @param delegate the consumer of the sink
+     * @param maxBatchRecords the maximum number of records passed to the sink at once
+     * @param maxBatchBytes the maximum estimated size of the records passed to the sink at once, {@code 0} if unlimited
+     * @param lingerMs the maximum time a record waits for further records before it is passed to the sink
+     * @param sinkName the name of the sink, used as the server name of the metrics MBean
+     * @param failureHandler called with the error if passing a batch to the sink fails after its linger time
+     */
+    public BatchingChangeConsumer(DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>> delegate, int maxBatchRecords, long maxBatchBytes,
+                                  long lingerMs, String sinkName, Consumer<Throwable> failureHandler) {
+        if (maxBatchRecords < 1) {
+            throw new DebeziumException("The maximum number of records of a batch must be positive");
+        }
+        if (maxBatchBytes < 0 || lingerMs < 0) {
+            throw new DebeziumException("The maximum size and the linger time of a batch must not be negative");
+        }
+        this.delegate = delegate;
+        this.maxBatchRecords = maxBatchRecords;
+        this.maxBatchBytes = maxBatchBytes;
+        this.lingerMs = lingerMs;
+        this.name = metricName(sinkName);
+        this.failureHandler = failureHandler;
+        this.lingerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "debezium-server-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        clear();
+    }
+
+    @Override
+    public void handleBatch(List<ChangeEvent<Object, Object>> polled, RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        synchronized (this) {
+            ensureNotFailed();
+            final int last = polled.size() - 1;
+            for (int i = 0; i <= last; i++) {
+                final ChangeEvent<Object, Object> record = polled.get(i);
+                if (records.isEmpty() && lingerMs > 0) {
+                    final long scheduledGeneration = generation;
+                    lingerTask = lingerExecutor.schedule(() -> lingerExpired(scheduledGeneration), lingerMs, TimeUnit.MILLISECONDS);
+                }
+                records.add(record);
+                committers.put(record, committer);
+                bytes += sizeOf(record);
+                if (i == last) {
+                    // the batch of the engine is finished along with the batch passed to the sink containing its last record
+                    finishedCommitters.add(committer);
+                }
+                if (records.size() >= maxBatchRecords) {
+                    flush(FlushReason.MAX_RECORDS);
+                }
+                else if (maxBatchBytes > 0 && bytes >= maxBatchBytes) {
+                    flush(FlushReason.MAX_BYTES);
+                }
+            }
+            if (lingerMs == 0 && !records.isEmpty()) {
+                flush(FlushReason.LINGER);
+            }
+            pendingRecords = records.size();
+        }
+    }
+
+    private void lingerExpired(long scheduledGeneration) {
+        final Throwable failure;
+        synchronized (this) {
+            if (scheduledGeneration != generation || records.isEmpty() || lingerFailure != null) {
+                return;
+            }
+            try {
+                flush(FlushReason.LINGER);
+                return;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (Throwable t) {
+                LOGGER.error("Passing a batch to the sink failed, stopping the engine", t);
+                lingerFailure = t;
+                failure = t;
+            }
+        }
+        // outside of the lock, as the engine thread may wait for it while the engine is being stopped
+        failureHandler.accept(failure);
+    }
+
+    private void ensureNotFailed() {
+        final Throwable failure = lingerFailure;
+        if (failure != null) {
+            throw new DebeziumException("Passing a batch to the sink failed", failure);
+        }
+    }
+
+    private void flush(FlushReason reason) throws InterruptedException {
+        ensureNotFailed();
+        final List<ChangeEvent<Object, Object>> batch = records;
+        final Map<ChangeEvent<Object, Object>, RecordCommitter<ChangeEvent<Object, Object>>> batchCommitters = committers;
+        final List<RecordCommitter<ChangeEvent<Object, Object>>> batchFinishedCommitters = finishedCommitters;
+        updateMetrics(reason, batch.size(), bytes);
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        generation++;
+        clear();
+
+        delegate.handleBatch(batch, new RecordCommitter<ChangeEvent<Object, Object>>() {
+
+            @Override
+            public void markProcessed(ChangeEvent<Object, Object> record) throws InterruptedException {
+                final RecordCommitter<ChangeEvent<Object, Object>> committer = batchCommitters.get(record);
+                if (committer == null) {
+                    throw new DebeziumException("The record marked as processed is not part of the batch");
+                }
+                committer.markProcessed(record);
+            }
+
+            @Override
+            public void markBatchFinished() throws InterruptedException {
+                for (RecordCommitter<ChangeEvent<Object, Object>> committer : batchFinishedCommitters) {
+                    committer.markBatchFinished();
+                }
+            }
+        });
+    }
+
+    private void clear() {
+        records = new ArrayList<>(Math.min(maxBatchRecords, 2048));
+        committers = new IdentityHashMap<>();
+        finishedCommitters = new ArrayList<>(1);
+        bytes = 0;
+        pendingRecords = 0;
+    }
+
+    private void updateMetrics(FlushReason reason, int size, long bytes) {
+        batches.incrementAndGet();
+        switch (reason) {
+            case MAX_RECORDS:
+                flushesOnMaxRecords.incrementAndGet();
+                break;
+            case MAX_BYTES:
+                flushesOnMaxBytes.incrementAndGet();
+                break;
+            default:
+                flushesOnLinger.incrementAndGet();
+        }
+        double fill = (double) size / maxBatchRecords;
+        if (maxBatchBytes > 0) {
+            fill = Math.max(fill, (double) bytes / maxBatchBytes);
+        }
+        batchFillPermille.addAndGet(Math.round(Math.min(fill, 1.0) * 1000));
+        batchSizes.record(size);
+        batchBytes.record(bytes);
+    }
+
+    /**
+     * Estimates the size of a record from its serialized form, as it is sent by the sinks.
+     */
+    static long sizeOf(ChangeEvent<?, ?> record) {
+        if (record instanceof SerializedChangeEvent) {
+            final SerializedChangeEvent<?, ?> serialized = (SerializedChangeEvent<?, ?>) record;
+            return lengthOf(serialized.serializedKey()) + lengthOf(serialized.serializedValue());
+        }
+        return sizeOf(record.key()) + sizeOf(record.value());
+    }
+
+    private static long sizeOf(Object object) {
+        if (object instanceof byte[]) {
+            return ((byte[]) object).length;
+        }
+        else if (object instanceof String) {
+            return ((String) object).length();
+        }
+        return 0;
+    }
+
+    private static long lengthOf(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    @Override
+    public boolean supportsTombstoneEvents() {
+        return delegate.supportsTombstoneEvents();
+    }
+
+    /**
+     * Stops the linger timer and unregisters the metrics. The records waiting for a batch are not passed to the sink,
+     * as the engine is already stopped and their offsets cannot be committed anymore.
+     */
+    public void close() {
+        lingerExecutor.shutdownNow();
+        synchronized (this) {
+            if (!records.isEmpty()) {
+                LOGGER.info("Discarding {} records waiting for a batch, they will be delivered again after restart", records.size());
+                generation++;
+                clear();
+            }
+        }
+        unregister();
+    }
+
+    public void register() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mBeanServer == null) {
+                LOGGER.info("JMX not supported, bean '{}' not registered", name);
+                return;
+            }
+            mBeanServer.registerMBean(this, name);
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to register the MBean '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void unregister() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mBeanServer != null && mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to unregister the MBean '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private static ObjectName metricName(String sinkName) {
+        final String metricName = "debezium.server:type=connector-metrics,context=" + CONTEXT_NAME + ",server=" + sinkName;
+        try {
+            return new ObjectName(metricName);
+        }
+        catch (MalformedObjectNameException e) {
+            throw new DebeziumException("Invalid metric name '" + metricName + "'");
+        }
+    }
+
+    @Override
+    public long getNumberOfBatches() {
+        return batches.get();
+    }
+
+    @Override
+    public long getNumberOfBatchesFlushedOnMaxRecords() {
+        return flushesOnMaxRecords.get();
+    }
+
+    @Override
+    public long getNumberOfBatchesFlushedOnMaxBytes() {
+        return flushesOnMaxBytes.get();
+    }
+
+    @Override
+    public long getNumberOfBatchesFlushedOnLinger() {
+        return flushesOnLinger.get();
+    }
+
+    @Override
+    public double getAverageBatchFill() {
+        final long batches = this.batches.get();
+        return batches == 0 ? 0 : batchFillPermille.get() / 1000.0 / batches;
+    }
+
+    @Override
+    public Map<String, Long> getBatchSizeDistribution() {
+        return batchSizes.getSummary();
+    }
+
+    @Override
+    public Map<String, Long> getBatchBytesDistribution() {
+        return batchBytes.getSummary();
+    }
+
+    @Override
+    public long getPendingRecords() {
+        return pendingRecords;
+    }
+
+    @Override
+    public long getMaxBatchRecords() {
+        return maxBatchRecords;
+    }
+
+    @Override
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    @Override
+    public long getLingerMs() {
+        return lingerMs;
+    }
+
+    @Override
+    public void reset() {
+        batches.set(0);
+        flushesOnMaxRecords.set(0);
+        flushesOnMaxBytes.set(0);
+        flushesOnLinger.set(0);
+        batchFillPermille.set(0);
+        batchSizes.reset();
+        batchBytes.reset();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import java.util.Map;
+
+/**
+ * Metrics of the {@link BatchingChangeConsumer}.
+ */
+public interface BatchingChangeConsumerMXBean {
+
+    /**
+     * @return the number of batches passed to the sink
+     */
+    long getNumberOfBatches();
+
+    /**
+     * @return the number of batches passed to the sink because they reached the maximum number of records
+     */
+    long getNumberOfBatchesFlushedOnMaxRecords();
+
+    /**
+     * @return the number of batches passed to the sink because they reached the maximum size
+     */
+    long getNumberOfBatchesFlushedOnMaxBytes();
+
+    /**
+     * @return the number of batches passed to the sink because their linger time expired
+     */
+    long getNumberOfBatchesFlushedOnLinger();
+
+    /**
+     * @return the average ratio of the records or size of a batch to its limit, whichever is closer to it
+     */
+    double getAverageBatchFill();
+
+    /**
+     * @return the distribution of the number of records per batch
+     */
+    Map<String, Long> getBatchSizeDistribution();
+
+    /**
+     * @return the distribution of the estimated size of the batches in bytes
+     */
+    Map<String, Long> getBatchBytesDistribution();
+
+    /**
+     * @return the number of records waiting for the next batch
+     */
+    long getPendingRecords();
+
+    /**
+     * @return the maximum number of records of a batch
+     */
+    long getMaxBatchRecords();
+
+    /**
+     * @return the maximum estimated size of a batch in bytes, {@code 0} if unlimited
+     */
+    long getMaxBatchBytes();
+
+    /**
+     * @return the maximum time in milliseconds a record waits for further records before it is passed to the sink
+     */
+    long getLingerMs();
+
+    /**
+     * Resets the batch metrics.
+     */
+    void reset();
+}
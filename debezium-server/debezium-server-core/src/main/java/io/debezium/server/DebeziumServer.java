@@ -5,6 +5,7 @@
  */
 package io.debezium.server;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -63,12 +64,18 @@ public class DebeziumServer {
     private static final String PROP_TRANSFORMS_PREFIX = PROP_PREFIX + "transforms.";
     private static final String PROP_KEY_FORMAT_PREFIX = PROP_FORMAT_PREFIX + "key.";
     private static final String PROP_VALUE_FORMAT_PREFIX = PROP_FORMAT_PREFIX + "value.";
+    private static final String PROP_BATCH_PREFIX = PROP_PREFIX + "batch.";
 
     private static final String PROP_TRANSFORMS = PROP_PREFIX + "transforms";
     private static final String PROP_SINK_TYPE = PROP_SINK_PREFIX + "type";
     private static final String PROP_KEY_FORMAT = PROP_FORMAT_PREFIX + "key";
     private static final String PROP_VALUE_FORMAT = PROP_FORMAT_PREFIX + "value";
     private static final String PROP_TERMINATION_WAIT = PROP_PREFIX + "termination.wait";
+    private static final String PROP_BATCH_MAX_RECORDS = PROP_BATCH_PREFIX + "max.records";
+    private static final String PROP_BATCH_MAX_BYTES = PROP_BATCH_PREFIX + "max.bytes";
+    private static final String PROP_BATCH_LINGER_MS = PROP_BATCH_PREFIX + "linger.ms";
+
+    private static final int DEFAULT_BATCH_MAX_RECORDS = 2048;
 
     private static final String FORMAT_JSON = Json.class.getSimpleName().toLowerCase();
     private static final String FORMAT_AVRO = Avro.class.getSimpleName().toLowerCase();
@@ -86,7 +93,9 @@ public class DebeziumServer {
     private Bean<DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>>> consumerBean;
     private CreationalContext<ChangeConsumer<ChangeEvent<Object, Object>>> consumerBeanCreationalContext;
     private DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>> consumer;
+    private BatchingChangeConsumer batchingConsumer;
     private DebeziumEngine<?> engine;
+    private volatile Throwable batchFailure;
 
     @SuppressWarnings("unchecked")
     @PostConstruct
@@ -130,11 +139,22 @@ else if (beans.size() > 1) {
         props.setProperty("name", name);
         LOGGER.debug("Configuration for DebeziumEngine: {}", props);
 
+        final long lingerMs = config.getOptionalValue(PROP_BATCH_LINGER_MS, Long.class).orElse(0L);
+        if (lingerMs > 0) {
+            batchingConsumer = new BatchingChangeConsumer(consumer,
+                    config.getOptionalValue(PROP_BATCH_MAX_RECORDS, Integer.class).orElse(DEFAULT_BATCH_MAX_RECORDS),
+                    config.getOptionalValue(PROP_BATCH_MAX_BYTES, Long.class).orElse(0L),
+                    lingerMs, name, this::batchFailed);
+            batchingConsumer.register();
+            LOGGER.info("Records are passed to the consumer in batches of up to {} records lingering for up to {} ms",
+                    batchingConsumer.getMaxBatchRecords(), lingerMs);
+        }
+
         engine = DebeziumEngine.create(keyFormat, valueFormat)
-                .notifying(consumer)
+                .notifying(batchingConsumer != null ? batchingConsumer : consumer)
                 .using(props)
                 .using((DebeziumEngine.ConnectorCallback) health)
-                .using((DebeziumEngine.CompletionCallback) health)
+                .using((DebeziumEngine.CompletionCallback) this::engineCompleted)
                 .build();
 
         executor.execute(() -> {
@@ -148,6 +168,33 @@ else if (beans.size() > 1) {
         LOGGER.info("Engine executor started");
     }
 
+    /**
+     * Stops the engine after the failure of a batch the engine is not aware of, as it happened after the engine's poll,
+     * so the server exits. The failure is reported once the engine has completed.
+     */
+    private void batchFailed(Throwable error) {
+        batchFailure = error;
+        try {
+            engine.close();
+        }
+        catch (IOException e) {
+            LOGGER.error("Exception while stopping the engine", e);
+        }
+    }
+
+    /**
+     * Reports the completion of the engine, which completes normally if it was stopped due to the failure of a batch.
+     */
+    private void engineCompleted(boolean success, String message, Throwable error) {
+        final Throwable failure = batchFailure;
+        if (success && failure != null) {
+            health.handle(false, "Passing a batch to the sink failed", failure);
+        }
+        else {
+            health.handle(success, message, error);
+        }
+    }
+
     private void configToProperties(Config config, Properties props, String oldPrefix, String newPrefix) {
         for (String name : config.getPropertyNames()) {
             if (name.startsWith(oldPrefix)) {
@@ -181,6 +228,9 @@ public void stop(@Observes ShutdownEvent event) {
         catch (Exception e) {
             LOGGER.error("Exception while shuttting down Debezium", e);
         }
+        if (batchingConsumer != null) {
+            batchingConsumer.close();
+        }
         consumerBean.destroy(consumer, consumerBeanCreationalContext);
     }
 
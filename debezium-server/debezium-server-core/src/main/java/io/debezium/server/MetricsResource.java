@@ -0,0 +1,111 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the connector metrics registered in the platform MBean server in the Prometheus text format, so that the
+ * server can be scraped without attaching a JMX exporter agent.
+ * <p>
+ * Numeric and boolean attributes are exported as gauges labelled with the connector type, the context and the server
+ * name of the metrics MBean. Map attributes like the distributions of the queue and lag times or the number of events
+ * per data collection are exported with an additional {@code key} label.
+ */
+@Path("/metrics")
+@ApplicationScoped
+public class MetricsResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsResource.class);
+
+    static final String METRIC_PREFIX = "debezium_metrics_";
+    private static final String DOMAIN_PREFIX = "debezium.";
+
+    @GET
+    @Produces("text/plain; version=0.0.4")
+    public String metrics() {
+        return render(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    static String render(MBeanServer mBeanServer) {
+        final StringBuilder output = new StringBuilder();
+        final Set<ObjectName> names;
+        try {
+            names = new TreeSet<>(mBeanServer.queryNames(new ObjectName(DOMAIN_PREFIX + "*:type=connector-metrics,*"), null));
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to query the metrics MBeans", e);
+            return "";
+        }
+
+        for (ObjectName name : names) {
+            final String labels = "connector=\"" + escape(name.getDomain().substring(DOMAIN_PREFIX.length()))
+                    + "\",context=\"" + escape(name.getKeyProperty("context"))
+                    + "\",server=\"" + escape(name.getKeyProperty("server")) + "\"";
+            try {
+                final MBeanAttributeInfo[] attributeInfos = mBeanServer.getMBeanInfo(name).getAttributes();
+                final String[] attributeNames = new String[attributeInfos.length];
+                for (int i = 0; i < attributeInfos.length; i++) {
+                    attributeNames[i] = attributeInfos[i].getName();
+                }
+                for (Attribute attribute : mBeanServer.getAttributes(name, attributeNames).asList()) {
+                    renderAttribute(output, METRIC_PREFIX + attribute.getName(), labels, attribute.getValue());
+                }
+            }
+            catch (JMException e) {
+                LOGGER.debug("Unable to read the attributes of MBean '{}'", name, e);
+            }
+        }
+        return output.toString();
+    }
+
+    private static void renderAttribute(StringBuilder output, String metric, String labels, Object value) {
+        if (value instanceof Number) {
+            renderSample(output, metric, labels, (Number) value);
+        }
+        else if (value instanceof Boolean) {
+            renderSample(output, metric, labels, (Boolean) value ? 1 : 0);
+        }
+        else if (value instanceof TabularData) {
+            // Maps are exposed by MXBeans as tables of key/value rows
+            for (Object row : (Collection<?>) ((TabularData) value).values()) {
+                final CompositeData entry = (CompositeData) row;
+                if (entry.containsKey("key") && entry.get("value") instanceof Number) {
+                    renderSample(output, metric, labels + ",key=\"" + escape(String.valueOf(entry.get("key"))) + "\"", (Number) entry.get("value"));
+                }
+            }
+        }
+    }
+
+    private static void renderSample(StringBuilder output, String metric, String labels, Number value) {
+        output.append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        if (labelValue == null) {
+            return "";
+        }
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
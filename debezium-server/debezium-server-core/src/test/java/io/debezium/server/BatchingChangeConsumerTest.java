@@ -0,0 +1,199 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+
+public class BatchingChangeConsumerTest {
+
+    private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void shouldAccumulateRecordsOfPollsUntilMaxRecords() throws Exception {
+        final TestSink sink = new TestSink();
+        final TestCommitter committer = new TestCommitter();
+        final BatchingChangeConsumer consumer = new BatchingChangeConsumer(sink, 3, 0, TimeUnit.HOURS.toMillis(1), "test", failures::add);
+
+        consumer.handleBatch(records("a", "b"), committer);
+        assertThat(sink.batches).isEmpty();
+        assertThat(consumer.getPendingRecords()).isEqualTo(2);
+
+        consumer.handleBatch(records("c", "d"), committer);
+        assertThat(sink.batches).hasSize(1);
+        assertThat(sink.batches.get(0)).isEqualTo(Arrays.asList("a", "b", "c"));
+        assertThat(committer.processed).isEqualTo(Arrays.asList("a", "b", "c"));
+        // only the first batch of the engine has been processed completely
+        assertThat(committer.finishedBatches).isEqualTo(1);
+        assertThat(consumer.getPendingRecords()).isEqualTo(1);
+
+        assertThat(consumer.getNumberOfBatches()).isEqualTo(1);
+        assertThat(consumer.getNumberOfBatchesFlushedOnMaxRecords()).isEqualTo(1);
+        assertThat(consumer.getAverageBatchFill()).isEqualTo(1.0);
+        consumer.close();
+    }
+
+    @Test
+    public void shouldPassBatchToSinkWhenLingerExpires() throws Exception {
+        final TestSink sink = new TestSink();
+        final TestCommitter committer = new TestCommitter();
+        final BatchingChangeConsumer consumer = new BatchingChangeConsumer(sink, 100, 0, 50, "test", failures::add);
+
+        consumer.handleBatch(records("a"), committer);
+        consumer.handleBatch(records("b", "c"), committer);
+
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (committer.finishedBatches < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sink.batches).hasSize(1);
+        assertThat(sink.batches.get(0)).isEqualTo(Arrays.asList("a", "b", "c"));
+        assertThat(committer.processed).isEqualTo(Arrays.asList("a", "b", "c"));
+        assertThat(committer.finishedBatches).isEqualTo(2);
+        assertThat(consumer.getPendingRecords()).isEqualTo(0);
+        assertThat(consumer.getNumberOfBatchesFlushedOnLinger()).isEqualTo(1);
+        assertThat(consumer.getAverageBatchFill()).isEqualTo(0.03);
+        consumer.close();
+    }
+
+    @Test
+    public void shouldPassBatchToSinkWhenMaxBytesReached() throws Exception {
+        final TestSink sink = new TestSink();
+        final TestCommitter committer = new TestCommitter();
+        final BatchingChangeConsumer consumer = new BatchingChangeConsumer(sink, 100, 10, TimeUnit.HOURS.toMillis(1), "test", failures::add);
+
+        consumer.handleBatch(records("1234", "5678"), committer);
+        assertThat(sink.batches).isEmpty();
+
+        consumer.handleBatch(records("90"), committer);
+        assertThat(sink.batches).hasSize(1);
+        assertThat(committer.finishedBatches).isEqualTo(2);
+        assertThat(consumer.getNumberOfBatchesFlushedOnMaxBytes()).isEqualTo(1);
+        assertThat(consumer.getBatchBytesDistribution().get("max")).isEqualTo(10L);
+        consumer.close();
+    }
+
+    @Test
+    public void shouldPassEachPollToSinkWithoutLinger() throws Exception {
+        final TestSink sink = new TestSink();
+        final TestCommitter committer = new TestCommitter();
+        final BatchingChangeConsumer consumer = new BatchingChangeConsumer(sink, 2, 0, 0, "test", failures::add);
+
+        consumer.handleBatch(records("a", "b", "c"), committer);
+        assertThat(sink.batches).isEqualTo(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c")));
+        assertThat(committer.finishedBatches).isEqualTo(1);
+        assertThat(consumer.getPendingRecords()).isEqualTo(0);
+        consumer.close();
+    }
+
+    @Test
+    public void shouldStopEngineWhenPassingBatchFailsAfterLinger() throws Exception {
+        final RuntimeException sinkFailure = new RuntimeException("sink unavailable");
+        final TestCommitter committer = new TestCommitter();
+        final BatchingChangeConsumer consumer = new BatchingChangeConsumer((records, batchCommitter) -> {
+            throw sinkFailure;
+        }, 100, 0, 50, "test", failures::add);
+
+        consumer.handleBatch(records("a"), committer);
+
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (failures.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // the failure is reported right away, without waiting for the next batch of the engine
+        assertThat(failures).containsOnly(sinkFailure);
+        assertThat(committer.processed).isEmpty();
+        assertThat(committer.finishedBatches).isEqualTo(0);
+
+        try {
+            consumer.handleBatch(records("b"), committer);
+            fail("Records must not be accepted after a failed batch");
+        }
+        catch (DebeziumException e) {
+            assertThat(e.getCause()).isSameAs(sinkFailure);
+        }
+        assertThat(consumer.getPendingRecords()).isEqualTo(0);
+        consumer.close();
+    }
+
+    private static List<ChangeEvent<Object, Object>> records(String... values) {
+        final List<ChangeEvent<Object, Object>> records = new ArrayList<>();
+        for (String value : values) {
+            records.add(new TestRecord(value));
+        }
+        return records;
+    }
+
+    private static class TestRecord implements ChangeEvent<Object, Object> {
+
+        private final String value;
+
+        TestRecord(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object key() {
+            return null;
+        }
+
+        @Override
+        public Object value() {
+            return value;
+        }
+
+        @Override
+        public String destination() {
+            return "topic";
+        }
+    }
+
+    private static class TestSink implements DebeziumEngine.ChangeConsumer<ChangeEvent<Object, Object>> {
+
+        final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitter<ChangeEvent<Object, Object>> committer)
+                throws InterruptedException {
+            final List<Object> values = new ArrayList<>();
+            for (ChangeEvent<Object, Object> record : records) {
+                values.add(record.value());
+                committer.markProcessed(record);
+            }
+            batches.add(values);
+            committer.markBatchFinished();
+        }
+    }
+
+    private static class TestCommitter implements RecordCommitter<ChangeEvent<Object, Object>> {
+
+        final List<Object> processed = new CopyOnWriteArrayList<>();
+        volatile int finishedBatches;
+
+        @Override
+        public synchronized void markProcessed(ChangeEvent<Object, Object> record) {
+            processed.add(record.value());
+        }
+
+        @Override
+        public synchronized void markBatchFinished() {
+            finishedBatches++;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+public class MetricsResourceTest {
+
+    public interface TestMetricsMXBean {
+
+        long getTotalNumberOfEventsSeen();
+
+        boolean isConnected();
+
+        String getLastEvent();
+
+        Map<String, Long> getNumberOfEventsByDataCollection();
+    }
+
+    public static class TestMetrics implements TestMetricsMXBean {
+
+        @Override
+        public long getTotalNumberOfEventsSeen() {
+            return 42;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public String getLastEvent() {
+            return "ignored";
+        }
+
+        @Override
+        public Map<String, Long> getNumberOfEventsByDataCollection() {
+            return Collections.singletonMap("db.\"table\"", 7L);
+        }
+    }
+
+    @Test
+    public void shouldRenderMetricsInPrometheusTextFormat() throws Exception {
+        final MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        mBeanServer.registerMBean(new TestMetrics(), new ObjectName("debezium.postgres:type=connector-metrics,context=streaming,server=dbserver1"));
+        mBeanServer.registerMBean(new TestMetrics(), new ObjectName("other.domain:type=connector-metrics,context=streaming,server=dbserver1"));
+
+        final String labels = "connector=\"postgres\",context=\"streaming\",server=\"dbserver1\"";
+        assertThat(MetricsResource.render(mBeanServer).split("\n")).containsOnly(
+                "debezium_metrics_TotalNumberOfEventsSeen{" + labels + "} 42",
+                "debezium_metrics_Connected{" + labels + "} 1",
+                "debezium_metrics_NumberOfEventsByDataCollection{" + labels + ",key=\"db.\\\"table\\\"\"} 7");
+    }
+}
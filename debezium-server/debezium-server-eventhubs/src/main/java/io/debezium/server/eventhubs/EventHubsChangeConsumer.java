@@ -129,18 +129,13 @@ public void handleBatch(List<ChangeEvent<Object, Object>> records,
 
         // this loop just adds records to the batch
         for (ChangeEvent<Object, Object> record : records) {
-            LOGGER.trace("Received record '{}'", record.value());
-            if (null == record.value()) {
+            LOGGER.trace("Received record '{}'", record);
+            final byte[] value = getValueBytes(record);
+            if (null == value) {
                 continue;
             }
-            EventData eventData = null;
-
-            if (record.value() instanceof String) {
-                eventData = new EventData((String) record.value());
-            }
-            else if (record.value() instanceof byte[]) {
-                eventData = new EventData(getBytes(record.value()));
-            }
+            // the serialized value is not modified, so it is passed without being copied
+            final EventData eventData = new EventData(value);
             try {
                 if (!batch.tryAdd(eventData)) {
                     throw new DebeziumException("Event data was too large to fit in the batch");
@@ -5,6 +5,7 @@
  */
 package io.debezium.server.kinesis;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
@@ -20,6 +21,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.DebeziumEngine.RecordCommitter;
@@ -93,10 +95,16 @@ public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitt
             throws InterruptedException {
         for (ChangeEvent<Object, Object> record : records) {
             LOGGER.trace("Received event '{}'", record);
+            final byte[] value = getValueBytes(record);
+            if (value == null) {
+                throw new DebeziumException(unsupportedTypeMessage(null));
+            }
+            final byte[] key = getKeyBytes(record);
+            // the serialized value is not modified, so it is passed without being copied
             final PutRecordRequest putRecord = PutRecordRequest.builder()
-                    .partitionKey((record.key() != null) ? getString(record.key()) : nullKey)
+                    .partitionKey((key != null) ? new String(key, StandardCharsets.UTF_8) : nullKey)
                     .streamName(streamNameMapper.map(record.destination()))
-                    .data(SdkBytes.fromByteArray(getBytes(record.value())))
+                    .data(SdkBytes.fromByteArrayUnsafe(value))
                     .build();
             client.putRecord(putRecord);
             committer.markProcessed(record);
@@ -29,7 +29,7 @@
 import com.google.api.core.ApiFutures;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.pubsub.v1.Publisher;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.pubsub.v1.ProjectTopicName;
 import com.google.pubsub.v1.PubsubMessage;
 
@@ -122,22 +122,19 @@ public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitt
             final PubsubMessage.Builder pubsubMessage = PubsubMessage.newBuilder();
 
             if (orderingEnabled) {
-                if (record.key() == null) {
+                final byte[] key = getKeyBytes(record);
+                if (key == null) {
                     pubsubMessage.setOrderingKey(nullKey);
                 }
-                else if (record.key() instanceof String) {
-                    pubsubMessage.setOrderingKey((String) record.key());
-                }
-                else if (record.key() instanceof byte[]) {
-                    pubsubMessage.setOrderingKeyBytes(ByteString.copyFrom((byte[]) record.key()));
+                else {
+                    pubsubMessage.setOrderingKeyBytes(UnsafeByteOperations.unsafeWrap(key));
                 }
             }
 
-            if (record.value() instanceof String) {
-                pubsubMessage.setData(ByteString.copyFromUtf8((String) record.value()));
-            }
-            else if (record.value() instanceof byte[]) {
-                pubsubMessage.setData(ByteString.copyFrom((byte[]) record.key()));
+            // the serialized value is not modified, so it is passed without being copied
+            final byte[] value = getValueBytes(record);
+            if (value != null) {
+                pubsubMessage.setData(UnsafeByteOperations.unsafeWrap(value));
             }
 
             deliveries.add(publisher.publish(pubsubMessage.build()));